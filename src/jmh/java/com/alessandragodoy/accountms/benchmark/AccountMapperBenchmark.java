@@ -0,0 +1,45 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.utility.AccountMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions between accounts and their DTOs done on every request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccountMapperBenchmark {
+	private final Account account = Account.builder()
+			.accountId(1).accountNumber("A000000000018").balance(Money.ofMinor(100_000))
+			.accountType(AccountType.SAVINGS).customerId(1).build();
+	private final CreateAccountDTO createAccountDTO = new CreateAccountDTO(Money.ofMinor(100_000), "checking", 1);
+
+	@Benchmark
+	public AccountDTO toDTO() {
+		return AccountMapper.toDTO(account);
+	}
+
+	@Benchmark
+	public Account toCreateEntity() {
+		return AccountMapper.toCreateEntity(createAccountDTO);
+	}
+}
@@ -0,0 +1,54 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures account number generation, including the block reservations on the embedded database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AccountNumberGeneratorBenchmark {
+	private ConfigurableApplicationContext context;
+	private AccountNumberGenerator generator;
+
+	@Setup
+	public void setUp() {
+		context = BenchmarkContext.start();
+		generator = context.getBean(AccountNumberGenerator.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public String generate() {
+		return generator.generate();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String generateContended() {
+		return generator.generate();
+	}
+}
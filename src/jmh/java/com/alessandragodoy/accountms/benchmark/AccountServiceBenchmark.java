@@ -0,0 +1,88 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.AccountBalanceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures deposits and withdrawals through AccountBalanceServiceImpl, with its transactions, locks and SQL, on the
+ * embedded database. Accounts start with a balance no benchmark run can drain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AccountServiceBenchmark {
+	private static final int ACCOUNTS = 64;
+	private static final Money AMOUNT = Money.ofMinor(100);
+
+	private ConfigurableApplicationContext context;
+	private AccountBalanceService accountBalanceService;
+	private Integer[] accountIds;
+
+	@Setup
+	public void setUp() {
+		context = BenchmarkContext.start();
+		accountBalanceService = context.getBean(AccountBalanceService.class);
+		List<Account> accounts = context.getBean(AccountRepository.class).saveAll(IntStream.range(0, ACCOUNTS)
+				.mapToObj(i -> Account.builder()
+						.accountNumber(String.format("B%011d", i)).balance(Money.ofMinor(100_000_000_000L))
+						.accountType(AccountType.CHECKING).customerId(i).build())
+				.toList());
+		accountIds = accounts.stream().map(Account::getAccountId).toArray(Integer[]::new);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public AccountDTO deposit() {
+		return accountBalanceService.deposit(anyAccount(), AMOUNT);
+	}
+
+	@Benchmark
+	public AccountDTO withdraw() {
+		return accountBalanceService.withdraw(anyAccount(), AMOUNT);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public AccountDTO depositSpread() {
+		return accountBalanceService.deposit(anyAccount(), AMOUNT);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public AccountDTO depositSameAccount() {
+		return accountBalanceService.deposit(accountIds[0], AMOUNT);
+	}
+
+	private Integer anyAccount() {
+		return accountIds[ThreadLocalRandom.current().nextInt(ACCOUNTS)];
+	}
+}
@@ -0,0 +1,58 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the funds check of withdrawals, both when it passes and when it rejects the amount with an exception.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccountValidationBenchmark {
+	private final Account savings = Account.builder()
+			.accountId(1).accountNumber("A000000000018").balance(Money.ofMinor(100_000))
+			.accountType(AccountType.SAVINGS).customerId(1).build();
+	private final Account checking = Account.builder()
+			.accountId(2).accountNumber("A000000000026").balance(Money.ofMinor(10_000))
+			.accountType(AccountType.CHECKING).customerId(2).build();
+	private Money amount = Money.ofMinor(25_000);
+	private Money excessiveAmount = Money.ofMinor(250_000);
+
+	@Benchmark
+	public void sufficientFundsSavings() {
+		AccountValidation.validateSufficientFunds(savings, savings.getBalance(), amount);
+	}
+
+	@Benchmark
+	public void sufficientFundsChecking() {
+		AccountValidation.validateSufficientFunds(checking, checking.getBalance(), amount);
+	}
+
+	@Benchmark
+	public void insufficientFunds(Blackhole blackhole) {
+		try {
+			AccountValidation.validateSufficientFunds(savings, savings.getBalance(), excessiveAmount);
+		} catch (InsufficientFundsException e) {
+			blackhole.consume(e);
+		}
+	}
+}
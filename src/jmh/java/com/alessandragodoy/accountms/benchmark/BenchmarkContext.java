@@ -0,0 +1,30 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.AccountmsApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application without a web server on an embedded H2 database, so benchmarks exercise the real
+ * services, transactions and SQL without MySQL.
+ */
+final class BenchmarkContext {
+
+	private BenchmarkContext() {
+	}
+
+	static ConfigurableApplicationContext start() {
+		return new SpringApplicationBuilder(AccountmsApplication.class)
+				.web(WebApplicationType.NONE)
+				.run("--spring.datasource.url=jdbc:h2:mem:accountms;MODE=MySQL;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--customer.ms.url=http://localhost:0/api/v1/customers",
+						"--spring.main.banner-mode=off",
+						"--logging.level.root=WARN");
+	}
+}
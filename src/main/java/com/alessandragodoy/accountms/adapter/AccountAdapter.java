@@ -1,5 +1,7 @@
 package com.alessandragodoy.accountms.adapter;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Adapter interface for interacting with Customer microservice.
  * <br>
@@ -9,4 +11,12 @@ package com.alessandragodoy.accountms.adapter;
  */
 public interface AccountAdapter {
 	boolean customerExists(Integer customerId);
+
+	/**
+	 * Checks if a customer exists without blocking the calling thread.
+	 *
+	 * @param customerId the ID of the customer to check
+	 * @return a future completed with true if the customer exists, false otherwise
+	 */
+	CompletableFuture<Boolean> customerExistsAsync(Integer customerId);
 }
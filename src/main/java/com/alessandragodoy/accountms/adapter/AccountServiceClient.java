@@ -1,12 +1,28 @@
 package com.alessandragodoy.accountms.adapter;
 
+import com.alessandragodoy.accountms.adapter.resilience.CustomerCallGuard;
+import com.alessandragodoy.accountms.configuration.CustomerClientProperties;
 import com.alessandragodoy.accountms.exception.ExternalServiceException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Client for interacting with the Customer Microservice.
  * <p>
@@ -16,10 +32,18 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class AccountServiceClient {
 	private final RestTemplate restTemplate;
+	private final HttpClient httpClient;
+	private final Duration readTimeout;
+	private final CustomerCallGuard callGuard;
 	private final String customerMsUrl;
 
-	public AccountServiceClient(RestTemplate restTemplate, @Value("${customer.ms.url}") String customerMsUrl) {
+	public AccountServiceClient(RestTemplate restTemplate, HttpClient customerHttpClient,
+								CustomerClientProperties properties, CustomerCallGuard callGuard,
+								@Value("${customer.ms.url}") String customerMsUrl) {
 		this.restTemplate = restTemplate;
+		this.httpClient = customerHttpClient;
+		this.readTimeout = properties.readTimeout();
+		this.callGuard = callGuard;
 		this.customerMsUrl = customerMsUrl;
 	}
 
@@ -29,15 +53,57 @@ public class AccountServiceClient {
 	 *
 	 * @param customerId the ID of the customer to check
 	 * @return true if the customer exists, false otherwise
-	 * @throws ExternalServiceException if unable to connect to the customer service
+	 * @throws ExternalServiceException if unable to connect to the customer service, if it answers with a server
+	 *                                  error or if the call is rejected by the circuit breaker or the bulkhead
 	 */
 	public boolean customerExists(Integer customerId) {
 		String url = customerMsUrl + "/" + customerId;
-		try {
-			ResponseEntity<Boolean> response = restTemplate.getForEntity(url, Boolean.class);
-			return response.getStatusCode().is2xxSuccessful() && Boolean.TRUE.equals(response.getBody());
-		} catch (ResourceAccessException e) {
-			throw new ExternalServiceException("Unable to connect to the customer service." + e.getMessage());
+		return callGuard.call(() -> {
+			try {
+				ResponseEntity<Boolean> response = restTemplate.getForEntity(url, Boolean.class);
+				return response.getStatusCode().is2xxSuccessful() && Boolean.TRUE.equals(response.getBody());
+			} catch (HttpClientErrorException.NotFound e) {
+				return false;
+			} catch (ResourceAccessException | HttpServerErrorException e) {
+				throw new ExternalServiceException("Unable to connect to the customer service." + e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Checks if a customer exists by their ID without blocking the calling thread.
+	 *
+	 * @param customerId the ID of the customer to check
+	 * @return a future completed with true if the customer exists, false otherwise, or failed with an
+	 * {@link ExternalServiceException} if the customer service can not be reached, answers with an error or the
+	 * call is rejected by the circuit breaker or the bulkhead
+	 */
+	public CompletableFuture<Boolean> customerExistsAsync(Integer customerId) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(customerMsUrl + "/" + customerId))
+				.timeout(readTimeout)
+				.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+				.GET()
+				.build();
+		return callGuard.callAsync(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+				.handle((response, error) -> {
+					if (error != null) {
+						Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+								error.getCause() : error;
+						throw new ExternalServiceException("Unable to connect to the customer service." +
+								cause.getMessage());
+					}
+					return customerExists(response);
+				}));
+	}
+
+	private static boolean customerExists(HttpResponse<String> response) {
+		if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+			return false;
+		}
+		if (!HttpStatusCode.valueOf(response.statusCode()).is2xxSuccessful()) {
+			throw new ExternalServiceException("The customer service answered with status " +
+					response.statusCode() + ".");
 		}
+		return Boolean.parseBoolean(response.body().trim());
 	}
 }
@@ -5,6 +5,8 @@ import com.alessandragodoy.accountms.adapter.AccountServiceClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Implementation of the AccountAdapter interface for interacting with the Customer microservice.
  */
@@ -17,4 +19,9 @@ public class AccountRestAdapter implements AccountAdapter {
 	public boolean customerExists(Integer customerId) {
 		return accountServiceClient.customerExists(customerId);
 	}
+
+	@Override
+	public CompletableFuture<Boolean> customerExistsAsync(Integer customerId) {
+		return accountServiceClient.customerExistsAsync(customerId);
+	}
 }
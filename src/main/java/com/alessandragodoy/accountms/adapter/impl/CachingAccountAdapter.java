@@ -0,0 +1,96 @@
+package com.alessandragodoy.accountms.adapter.impl;
+
+import com.alessandragodoy.accountms.adapter.AccountAdapter;
+import com.alessandragodoy.accountms.configuration.CustomerCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caching decorator of the {@link AccountRestAdapter}.
+ * <p>
+ * Answers are kept for a configurable time, shorter for customers that do not exist. Concurrent lookups of the
+ * same customer share a single in-flight request, and failed lookups are not cached. Hits, misses and evictions
+ * are exported as {@code cache.*} metrics tagged {@code cache=customer.exists}; every hit is a request the
+ * Customer microservice did not receive.
+ * </p>
+ */
+@Primary
+@Component
+public class CachingAccountAdapter implements AccountAdapter {
+	private final AccountRestAdapter delegate;
+	private final AsyncCache<Integer, Boolean> cache;
+
+	public CachingAccountAdapter(AccountRestAdapter delegate, CustomerCacheProperties properties,
+								 MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.maximumSize())
+				.expireAfter(new ByAnswer(properties))
+				.recordStats()
+				.buildAsync();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "customer.exists");
+	}
+
+	@Override
+	public boolean customerExists(Integer customerId) {
+		try {
+			return customerExistsAsync(customerId).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public CompletableFuture<Boolean> customerExistsAsync(Integer customerId) {
+		return cache.get(customerId, (id, executor) -> delegate.customerExistsAsync(id));
+	}
+
+	/**
+	 * Returns the hit, miss and eviction statistics of the cache.
+	 *
+	 * @return the cache statistics
+	 */
+	public CacheStats stats() {
+		return cache.synchronous().stats();
+	}
+
+	/**
+	 * Keeps an answer for the time to live of its kind, shorter for customers that do not exist.
+	 */
+	private static final class ByAnswer implements Expiry<Integer, Boolean> {
+		private final long positiveTtl;
+		private final long negativeTtl;
+
+		ByAnswer(CustomerCacheProperties properties) {
+			this.positiveTtl = properties.positiveTtl().toNanos();
+			this.negativeTtl = properties.negativeTtl().toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(Integer customerId, Boolean exists, long currentTime) {
+			return exists ? positiveTtl : negativeTtl;
+		}
+
+		@Override
+		public long expireAfterUpdate(Integer customerId, Boolean exists, long currentTime, long currentDuration) {
+			return expireAfterCreate(customerId, exists, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Integer customerId, Boolean exists, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
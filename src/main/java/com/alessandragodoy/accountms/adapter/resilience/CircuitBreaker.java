@@ -0,0 +1,132 @@
+package com.alessandragodoy.accountms.adapter.resilience;
+
+import com.alessandragodoy.accountms.configuration.CustomerResilienceProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ * <p>
+ * While closed, the outcome of the most recent calls is kept in a ring; once enough calls are recorded and
+ * either the failure rate or the slow-call rate reaches its threshold, the circuit opens and rejects every
+ * call. After the open duration a limited number of trial calls is let through: the circuit closes again if
+ * they stay under both thresholds and reopens otherwise.
+ * </p>
+ */
+public class CircuitBreaker {
+	private final CustomerResilienceProperties properties;
+	private final LongSupplier nanoClock;
+	private final boolean[] failedCalls;
+	private final boolean[] slowCalls;
+	private int recorded;
+	private int next;
+	private int failures;
+	private int slow;
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int trialPermits;
+
+	/**
+	 * Creates a closed circuit breaker.
+	 *
+	 * @param properties the thresholds and durations
+	 * @param nanoClock  the source of the current time in nanoseconds
+	 */
+	public CircuitBreaker(CustomerResilienceProperties properties, LongSupplier nanoClock) {
+		this.properties = properties;
+		this.nanoClock = nanoClock;
+		this.failedCalls = new boolean[properties.windowSize()];
+		this.slowCalls = new boolean[properties.windowSize()];
+	}
+
+	/**
+	 * Asks to make a call; every granted permission must be followed by {@link #onResult(long, boolean)}.
+	 *
+	 * @return true if the call may go ahead
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < properties.openDuration().toNanos()) {
+				return false;
+			}
+			transitionTo(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (trialPermits == 0) {
+				return false;
+			}
+			trialPermits--;
+		}
+		return true;
+	}
+
+	/**
+	 * Records the outcome of a permitted call.
+	 *
+	 * @param durationNanos how long the call took
+	 * @param failed        whether the call failed
+	 */
+	public synchronized void onResult(long durationNanos, boolean failed) {
+		if (state == State.OPEN) {
+			return;
+		}
+		record(failed, durationNanos >= properties.slowCallDuration().toNanos());
+		if (state == State.HALF_OPEN) {
+			if (recorded >= properties.halfOpenCalls()) {
+				transitionTo(thresholdsExceeded() ? State.OPEN : State.CLOSED);
+			}
+		} else if (recorded >= properties.minimumCalls() && thresholdsExceeded()) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	/**
+	 * Returns the current state, without moving an expired open circuit to half-open.
+	 *
+	 * @return the state of the circuit
+	 */
+	public synchronized State state() {
+		return state;
+	}
+
+	private void record(boolean failed, boolean slowCall) {
+		if (recorded == failedCalls.length) {
+			failures -= failedCalls[next] ? 1 : 0;
+			slow -= slowCalls[next] ? 1 : 0;
+		} else {
+			recorded++;
+		}
+		failedCalls[next] = failed;
+		slowCalls[next] = slowCall;
+		failures += failed ? 1 : 0;
+		slow += slowCall ? 1 : 0;
+		next = (next + 1) % failedCalls.length;
+	}
+
+	private boolean thresholdsExceeded() {
+		return failures * 100 >= properties.failureRateThreshold() * recorded ||
+				slow * 100 >= properties.slowCallRateThreshold() * recorded;
+	}
+
+	private void transitionTo(State target) {
+		state = target;
+		recorded = 0;
+		next = 0;
+		failures = 0;
+		slow = 0;
+		if (target == State.OPEN) {
+			openedAt = nanoClock.getAsLong();
+		} else if (target == State.HALF_OPEN) {
+			trialPermits = properties.halfOpenCalls();
+		}
+	}
+
+	/**
+	 * States of the circuit.
+	 */
+	public enum State {
+		CLOSED,
+		OPEN,
+		HALF_OPEN
+	}
+}
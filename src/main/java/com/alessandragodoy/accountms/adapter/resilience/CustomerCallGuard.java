@@ -0,0 +1,162 @@
+package com.alessandragodoy.accountms.adapter.resilience;
+
+import com.alessandragodoy.accountms.configuration.CustomerResilienceProperties;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Guards calls to the Customer microservice with a bulkhead and a circuit breaker.
+ * <p>
+ * The bulkhead bounds how many calls are in flight at once, so a slow Customer microservice can only tie up
+ * that many threads and connections; the circuit breaker stops calling it altogether while it keeps failing or
+ * answering slowly. Rejected calls fail right away with an {@link ExternalServiceException}. Only
+ * {@link ExternalServiceException} failures count against the circuit. Every call that is let through is timed
+ * as {@code customer.client.requests}, tagged with its outcome.
+ * </p>
+ */
+@Component
+public class CustomerCallGuard {
+	private final CircuitBreaker circuitBreaker;
+	private final Semaphore bulkhead;
+	private final long maxWaitNanos;
+	private final Counter circuitRejections;
+	private final Counter bulkheadRejections;
+	private final Timer successfulCalls;
+	private final Timer failedCalls;
+
+	public CustomerCallGuard(CustomerResilienceProperties properties, MeterRegistry meterRegistry) {
+		this.circuitBreaker = new CircuitBreaker(properties, System::nanoTime);
+		this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+		this.maxWaitNanos = properties.maxWait().toNanos();
+		this.circuitRejections = Counter.builder("customer.client.rejections").tag("reason", "circuit_open")
+				.description("Calls to the customer service rejected without being sent")
+				.register(meterRegistry);
+		this.bulkheadRejections = Counter.builder("customer.client.rejections").tag("reason", "bulkhead_full")
+				.description("Calls to the customer service rejected without being sent")
+				.register(meterRegistry);
+		this.successfulCalls = Timer.builder("customer.client.requests").tag("outcome", "success")
+				.description("Calls to the customer service that were sent")
+				.register(meterRegistry);
+		this.failedCalls = Timer.builder("customer.client.requests").tag("outcome", "error")
+				.description("Calls to the customer service that were sent")
+				.register(meterRegistry);
+		Gauge.builder("customer.client.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+				.description("State of the customer service circuit: 0 closed, 1 open, 2 half-open")
+				.register(meterRegistry);
+		Gauge.builder("customer.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+				.description("Calls to the customer service that can still start")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Runs a blocking call if the bulkhead and the circuit allow it.
+	 *
+	 * @param call the call to the Customer microservice
+	 * @param <T>  the result type
+	 * @return the result of the call
+	 * @throws ExternalServiceException if the call is rejected or fails
+	 */
+	public <T> T call(Supplier<T> call) {
+		acquire();
+		long start = System.nanoTime();
+		try {
+			T result = call.get();
+			onResult(System.nanoTime() - start, null);
+			return result;
+		} catch (RuntimeException e) {
+			onResult(System.nanoTime() - start, e);
+			throw e;
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	/**
+	 * Starts an asynchronous call if the bulkhead and the circuit allow it; its slot is held until the returned
+	 * future completes.
+	 *
+	 * @param call starts the call to the Customer microservice
+	 * @param <T>  the result type
+	 * @return the future of the call, failed with an {@link ExternalServiceException} if it is rejected
+	 */
+	public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+		try {
+			acquire();
+		} catch (ExternalServiceException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		long start = System.nanoTime();
+		CompletableFuture<T> future;
+		try {
+			future = call.get();
+		} catch (RuntimeException e) {
+			onResult(System.nanoTime() - start, e);
+			bulkhead.release();
+			return CompletableFuture.failedFuture(e);
+		}
+		return future.whenComplete((result, error) -> {
+			bulkhead.release();
+			Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+					error.getCause() : error;
+			onResult(System.nanoTime() - start, cause);
+		});
+	}
+
+	/**
+	 * Returns the current state of the circuit.
+	 *
+	 * @return the state of the circuit
+	 */
+	public CircuitBreaker.State circuitState() {
+		return circuitBreaker.state();
+	}
+
+	/**
+	 * Reports a finished call to the circuit breaker and records its latency.
+	 *
+	 * @param elapsedNanos how long the call took
+	 * @param error        the failure of the call, or null if it succeeded
+	 */
+	private void onResult(long elapsedNanos, Throwable error) {
+		circuitBreaker.onResult(elapsedNanos, error instanceof ExternalServiceException);
+		(error == null ? successfulCalls : failedCalls).record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Takes a bulkhead slot, then a circuit permission, so a rejection by either never leaves the other held.
+	 */
+	private void acquire() {
+		if (!tryAcquireSlot()) {
+			bulkheadRejections.increment();
+			throw new ExternalServiceException("Too many concurrent calls to the customer service.");
+		}
+		if (!circuitBreaker.tryAcquirePermission()) {
+			bulkhead.release();
+			circuitRejections.increment();
+			throw new ExternalServiceException("The customer service is unavailable, calls are suspended for a " +
+					"while.");
+		}
+	}
+
+	private boolean tryAcquireSlot() {
+		if (maxWaitNanos <= 0) {
+			return bulkhead.tryAcquire();
+		}
+		try {
+			return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
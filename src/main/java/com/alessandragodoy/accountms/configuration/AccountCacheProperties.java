@@ -0,0 +1,19 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process cache of account balances keyed by account number.
+ *
+ * @param maximumSize the maximum number of cached accounts
+ * @param timeToLive  how long an entry is served after it was written, which also bounds how stale another
+ *                    node's view of a balance can get
+ */
+@ConfigurationProperties(prefix = "account.cache")
+public record AccountCacheProperties(
+		@DefaultValue("100000") long maximumSize,
+		@DefaultValue("30s") Duration timeToLive) {
+}
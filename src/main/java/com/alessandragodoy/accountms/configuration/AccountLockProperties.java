@@ -0,0 +1,18 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process locks that serialize updates to the same account.
+ *
+ * @param stripes the number of lock stripes, rounded up to a power of two
+ * @param timeout the maximum time to wait for a stripe before giving up
+ */
+@ConfigurationProperties(prefix = "account.lock")
+public record AccountLockProperties(
+		@DefaultValue("256") int stripes,
+		@DefaultValue("500ms") Duration timeout) {
+}
@@ -0,0 +1,27 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory filter that answers lookups of unknown account numbers without the database.
+ *
+ * @param enabled            whether lookups consult the filter at all
+ * @param expectedInsertions the number of account numbers the filter is sized for
+ * @param falsePositiveRate  the target false positive rate at that size
+ * @param rebuildInterval    how often the filter is rebuilt from the database, zero to only build it at
+ *                           startup and on demand; accounts created after a build are looked up in the database
+ *                           until the next one, so this bounds how long they cost a database lookup
+ * @param settleTime         how long a build waits, after the maximum block age, for accounts being created to
+ *                           commit; it must exceed the longest account creation transaction
+ */
+@ConfigurationProperties(prefix = "account.number-filter")
+public record AccountNumberFilterProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("1000000") long expectedInsertions,
+		@DefaultValue("0.01") double falsePositiveRate,
+		@DefaultValue("5m") Duration rebuildInterval,
+		@DefaultValue("10s") Duration settleTime) {
+}
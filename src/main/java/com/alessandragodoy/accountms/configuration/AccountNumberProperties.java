@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the generation of account numbers.
+ *
+ * @param blockSize   the number of account numbers reserved from the shared sequence at a time; numbers left in a
+ *                    block when the instance stops are never used
+ * @param blockMaxAge how long numbers are handed out from a reserved block before it is given up, so every number
+ *                    below the shared sequence value has been issued within this time of reading it; zero keeps
+ *                    blocks until they run out
+ */
+@ConfigurationProperties(prefix = "account.number")
+public record AccountNumberProperties(
+		@DefaultValue("10000") int blockSize,
+		@DefaultValue("1m") Duration blockMaxAge) {
+}
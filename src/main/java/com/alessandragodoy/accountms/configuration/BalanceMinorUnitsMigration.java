@@ -0,0 +1,86 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.model.Money;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Copies balances from the legacy {@code DOUBLE} column into the {@code BIGINT} minor units column.
+ * <p>
+ * Hibernate adds the {@code balance_minor} column on startup, empty for the rows that existed before. This
+ * migration fills it by rounding the legacy {@code balance} to the nearest minor unit, and only touches rows that
+ * are still empty. Instances of the previous version keep writing the legacy column only, so a backfill that ran
+ * while any of them still served requests would miss their later changes. The migration is therefore an explicit
+ * step: with every previous instance stopped, one instance is started with
+ * {@code account.balance-migration.enabled=true}; until then, instances refuse to start while unconverted rows
+ * remain. It runs once the schema is updated and before the web server accepts requests. The legacy column is
+ * no longer written, and can be dropped once the migration has run.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class BalanceMinorUnitsMigration implements InitializingBean {
+	private static final Logger LOGGER = LoggerFactory.getLogger(BalanceMinorUnitsMigration.class);
+	private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM account WHERE balance_minor IS NULL";
+	private static final String MIGRATE_SQL =
+			"UPDATE account SET balance_minor = ROUND(COALESCE(balance, 0) * " + BigDecimal.TEN.pow(Money.SCALE) +
+					") WHERE balance_minor IS NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+
+	/**
+	 * Creates the migration once the entity manager factory has brought the schema up to date.
+	 *
+	 * @param jdbcTemplate         the template to run the migration with
+	 * @param entityManagerFactory the factory that adds the new column, only required to run after it
+	 * @param enabled              whether this instance is the one started to run the migration
+	 */
+	public BalanceMinorUnitsMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+									  @Value("${account.balance-migration.enabled:false}") boolean enabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+				hasLegacyBalanceColumn(connection.getMetaData(), connection.getCatalog(), connection.getSchema())))) {
+			return;
+		}
+		if (!enabled) {
+			Integer pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Integer.class);
+			if (pending != null && pending > 0) {
+				throw new IllegalStateException(pending + " accounts still have their balance in the legacy column. " +
+						"Stop every instance of the previous version, then start one instance with " +
+						"account.balance-migration.enabled=true to convert them.");
+			}
+			return;
+		}
+		int migrated = jdbcTemplate.update(MIGRATE_SQL);
+		if (migrated > 0) {
+			LOGGER.info("Converted the balance of {} accounts to minor units.", migrated);
+		}
+	}
+
+	private static boolean hasLegacyBalanceColumn(DatabaseMetaData metaData, String catalog, String schema)
+			throws SQLException {
+		boolean upperCase = metaData.storesUpperCaseIdentifiers();
+		try (ResultSet columns = metaData.getColumns(catalog, schema, upperCase ? "ACCOUNT" : "account",
+				upperCase ? "BALANCE" : "balance")) {
+			return columns.next();
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Retry policy applied to balance mutations that lose an optimistic locking race.
+ *
+ * @param maxAttempts    the total number of attempts, including the first one
+ * @param initialBackoff the pause before the first retry
+ * @param maxBackoff     the upper bound for the pause between retries
+ * @param multiplier     the factor applied to the pause after every retry
+ */
+@ConfigurationProperties(prefix = "account.balance.retry")
+public record BalanceRetryProperties(
+		@DefaultValue("5") int maxAttempts,
+		@DefaultValue("5ms") Duration initialBackoff,
+		@DefaultValue("200ms") Duration maxBackoff,
+		@DefaultValue("2.0") double multiplier) {
+}
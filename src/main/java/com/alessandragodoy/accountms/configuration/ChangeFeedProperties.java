@@ -0,0 +1,17 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the account change feed.
+ *
+ * @param settleTime how old a change must be before the feed cursor moves past it; it must exceed the longest
+ *                   account transaction plus the clock skew between instances
+ */
+@ConfigurationProperties(prefix = "account.changes")
+public record ChangeFeedProperties(
+		@DefaultValue("5s") Duration settleTime) {
+}
@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the cache of customer-existence answers from the Customer microservice.
+ *
+ * @param maximumSize the maximum number of cached customers
+ * @param positiveTtl how long a customer known to exist is trusted
+ * @param negativeTtl how long a customer known not to exist is trusted, kept short so newly created customers
+ *                    are found soon
+ */
+@ConfigurationProperties(prefix = "customer.ms.cache")
+public record CustomerCacheProperties(
+		@DefaultValue("10000") long maximumSize,
+		@DefaultValue("5m") Duration positiveTtl,
+		@DefaultValue("5s") Duration negativeTtl) {
+}
@@ -0,0 +1,20 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the HTTP client used to reach the Customer microservice.
+ *
+ * @param connectTimeout  the maximum time to establish a connection
+ * @param readTimeout     the maximum time to wait for a response once the request is sent
+ * @param executorThreads the threads completing asynchronous requests and the work chained to them
+ */
+@ConfigurationProperties(prefix = "customer.ms.client")
+public record CustomerClientProperties(
+		@DefaultValue("1s") Duration connectTimeout,
+		@DefaultValue("2s") Duration readTimeout,
+		@DefaultValue("16") int executorThreads) {
+}
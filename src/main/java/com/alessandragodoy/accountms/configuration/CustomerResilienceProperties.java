@@ -0,0 +1,32 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the circuit breaker and bulkhead guarding calls to the Customer microservice.
+ *
+ * @param windowSize            the number of most recent calls the failure and slow-call rates are computed over
+ * @param minimumCalls          the number of calls needed in the window before the circuit can open
+ * @param failureRateThreshold  the percentage of failed calls that opens the circuit
+ * @param slowCallRateThreshold the percentage of slow calls that opens the circuit
+ * @param slowCallDuration      the duration from which a call counts as slow
+ * @param openDuration          how long calls are rejected once the circuit opens
+ * @param halfOpenCalls         the number of trial calls let through after that to decide whether to close it
+ * @param maxConcurrentCalls    the maximum number of calls in flight at once
+ * @param maxWait               how long a call waits for a free slot before failing, zero to fail right away
+ */
+@ConfigurationProperties(prefix = "customer.ms.resilience")
+public record CustomerResilienceProperties(
+		@DefaultValue("20") int windowSize,
+		@DefaultValue("10") int minimumCalls,
+		@DefaultValue("50") int failureRateThreshold,
+		@DefaultValue("80") int slowCallRateThreshold,
+		@DefaultValue("1s") Duration slowCallDuration,
+		@DefaultValue("10s") Duration openDuration,
+		@DefaultValue("3") int halfOpenCalls,
+		@DefaultValue("20") int maxConcurrentCalls,
+		@DefaultValue("0ms") Duration maxWait) {
+}
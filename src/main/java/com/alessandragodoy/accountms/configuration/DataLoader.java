@@ -2,11 +2,13 @@ package com.alessandragodoy.accountms.configuration;
 
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
 import com.alessandragodoy.accountms.repository.AccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,6 +17,7 @@ import java.util.List;
  * DataLoader is a component that initializes the database with some initial account data
  * if no accounts are found in the repository.
  */
+@Profile("!reactive")
 @Component
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
@@ -26,11 +29,11 @@ public class DataLoader implements CommandLineRunner {
 		if (accountRepository.count() == 0) {
 			LOGGER.info("No accounts found, creating initial accounts...");
 			List<Account> initialAccounts =List.of(
-					Account.builder().accountNumber("A00000000001").balance(1000.0).accountType(AccountType.SAVINGS).customerId(1).build(),
-					Account.builder().accountNumber("A00000000002").balance(1000.0).accountType(AccountType.CHECKING).customerId(2).build(),
-					Account.builder().accountNumber("A00000000003").balance(1000.0).accountType(AccountType.SAVINGS).customerId(3).build(),
-					Account.builder().accountNumber("A00000000004").balance(1000.0).accountType(AccountType.CHECKING).customerId(4).build(),
-					Account.builder().accountNumber("A00000000005").balance(1000.0).accountType(AccountType.SAVINGS).customerId(5).build()
+					Account.builder().accountNumber("A00000000001").balance(Money.ofMinor(100_000)).accountType(AccountType.SAVINGS).customerId(1).build(),
+					Account.builder().accountNumber("A00000000002").balance(Money.ofMinor(100_000)).accountType(AccountType.CHECKING).customerId(2).build(),
+					Account.builder().accountNumber("A00000000003").balance(Money.ofMinor(100_000)).accountType(AccountType.SAVINGS).customerId(3).build(),
+					Account.builder().accountNumber("A00000000004").balance(Money.ofMinor(100_000)).accountType(AccountType.CHECKING).customerId(4).build(),
+					Account.builder().accountNumber("A00000000005").balance(Money.ofMinor(100_000)).accountType(AccountType.SAVINGS).customerId(5).build()
 			);
 			accountRepository.saveAll(initialAccounts);
 			LOGGER.info("Initial accounts added to the database.");
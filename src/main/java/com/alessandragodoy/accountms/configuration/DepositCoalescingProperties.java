@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the opt-in pipeline that merges concurrent deposits into the same account.
+ *
+ * @param enabled       whether deposits go through the pipeline instead of one UPDATE each
+ * @param window        how long the first pending deposit of an account waits for others to join it
+ * @param maxBatchSize  the number of pending deposits that triggers an immediate flush
+ * @param maxPending    the number of deposits that may wait across all accounts before callers are rejected
+ * @param submitTimeout how long a caller waits for room in the pipeline before being rejected
+ * @param flushThreads  the number of threads writing merged deposits to the database
+ */
+@ConfigurationProperties(prefix = "account.balance.coalescing")
+public record DepositCoalescingProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("2ms") Duration window,
+		@DefaultValue("64") int maxBatchSize,
+		@DefaultValue("10000") int maxPending,
+		@DefaultValue("50ms") Duration submitTimeout,
+		@DefaultValue("4") int flushThreads) {
+}
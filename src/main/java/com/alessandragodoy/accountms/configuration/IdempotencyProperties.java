@@ -0,0 +1,20 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the store that answers retried balance updates carrying an Idempotency-Key header.
+ *
+ * @param maximumSize   the maximum number of results kept in memory; older ones are still found in the database
+ * @param timeToLive    how long a key is remembered, which must exceed the longest retry window of the callers
+ * @param purgeInterval how often expired keys are deleted from the database
+ */
+@ConfigurationProperties(prefix = "account.idempotency")
+public record IdempotencyProperties(
+		@DefaultValue("100000") long maximumSize,
+		@DefaultValue("24h") Duration timeToLive,
+		@DefaultValue("10m") Duration purgeInterval) {
+}
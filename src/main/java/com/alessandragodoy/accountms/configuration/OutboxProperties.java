@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the relay that publishes the account events written to the outbox.
+ *
+ * @param sink           where events are published: {@code memory}, {@code file}, or any other value to use an
+ *                       {@code AccountEventSink} bean declared elsewhere
+ * @param batchSize      the maximum number of events published at once
+ * @param pollInterval   how long the relay waits after emptying the outbox before looking again
+ * @param file           the file the {@code file} sink appends events to, one JSON object per line
+ * @param memoryCapacity the number of recent events the {@code memory} sink keeps
+ */
+@ConfigurationProperties(prefix = "account.outbox")
+public record OutboxProperties(
+		@DefaultValue("memory") String sink,
+		@DefaultValue("500") int batchSize,
+		@DefaultValue("200ms") Duration pollInterval,
+		@DefaultValue("account-events.ndjson") Path file,
+		@DefaultValue("10000") int memoryCapacity) {
+}
@@ -1,16 +1,73 @@
 package com.alessandragodoy.accountms.configuration;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Configuration class for creating a {@link RestTemplate} bean.
+ * <p>
+ * Both the {@link RestTemplate} and asynchronous calls share one JDK {@link HttpClient}, which keeps
+ * connections to the Customer microservice alive and reuses them across requests.
+ * </p>
  */
 @Configuration
 public class RestTemplateConfig {
+
+	/**
+	 * Creates the pooled HTTP client used to reach the Customer microservice.
+	 * <p>
+	 * When virtual threads are enabled, asynchronous calls and the work chained to them run on virtual threads
+	 * as well instead of a fixed pool.
+	 * </p>
+	 *
+	 * @param properties  the connection settings
+	 * @param environment the environment telling whether virtual threads are enabled
+	 * @return the shared HTTP client
+	 */
+	@Bean
+	public HttpClient customerHttpClient(CustomerClientProperties properties, Environment environment) {
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(properties.connectTimeout())
+				.executor(customerClientExecutor(properties, environment))
+				.build();
+	}
+
+	private static ExecutorService customerClientExecutor(CustomerClientProperties properties,
+														  Environment environment) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("customer-client-", 1).factory());
+		}
+		return Executors.newFixedThreadPool(properties.executorThreads(),
+				Thread.ofPlatform().name("customer-client-", 1).daemon().factory());
+	}
+
+	/**
+	 * Creates the {@link RestTemplate} on top of the shared HTTP client.
+	 * <p>
+	 * Spring Boot only provides a builder to servlet applications; the reactive profile falls back to a plain one.
+	 * </p>
+	 *
+	 * @param builder            the builder configured by Spring Boot, if any
+	 * @param customerHttpClient the shared HTTP client
+	 * @param properties         the connection settings
+	 * @return the configured RestTemplate
+	 */
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public RestTemplate restTemplate(ObjectProvider<RestTemplateBuilder> builder, HttpClient customerHttpClient,
+									 CustomerClientProperties properties) {
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(customerHttpClient);
+		requestFactory.setReadTimeout(properties.readTimeout());
+		return builder.getIfAvailable(RestTemplateBuilder::new).requestFactory(() -> requestFactory).build();
 	}
 }
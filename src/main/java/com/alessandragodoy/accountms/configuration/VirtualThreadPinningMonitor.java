@@ -0,0 +1,102 @@
+package com.alessandragodoy.accountms.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports where virtual threads get pinned to their carrier thread.
+ * <p>
+ * A virtual thread blocking inside a {@code synchronized} block or a native frame, as older JDBC drivers do,
+ * keeps its carrier busy and caps throughput at the size of the carrier pool. With virtual threads enabled,
+ * this streams the JFR {@code jdk.VirtualThreadPinned} events above the configured duration, counts them per
+ * first application or library frame as {@code jvm.threads.virtual.pinned} and logs each new hotspot once.
+ * </p>
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+	private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final Environment environment;
+	private final VirtualThreadProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Counter> countersByFrame = new ConcurrentHashMap<>();
+	private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(Environment environment, VirtualThreadProperties properties,
+									   MeterRegistry meterRegistry) {
+		this.environment = environment;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void start() {
+		if (!Threading.VIRTUAL.isActive(environment)) {
+			return;
+		}
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(properties.pinningThreshold()).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+	}
+
+	@Override
+	public void stop() {
+		if (stream != null) {
+			stream.close();
+			stream = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	private void onPinned(RecordedEvent event) {
+		String frame = hotspot(event.getStackTrace());
+		countersByFrame.computeIfAbsent(frame, key -> Counter.builder("jvm.threads.virtual.pinned")
+						.tag("frame", key)
+						.description("Virtual threads pinned to their carrier longer than the threshold")
+						.register(meterRegistry))
+				.increment();
+		if (reportedFrames.add(frame)) {
+			LOGGER.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frame);
+		}
+	}
+
+	/**
+	 * Picks the innermost frame outside of the JDK, which is where the blocking call was made.
+	 *
+	 * @param stackTrace the stack trace of the pinned thread, or null if it was not recorded
+	 * @return the class and method of that frame, or "unknown"
+	 */
+	private static String hotspot(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "unknown";
+		}
+		for (RecordedFrame frame : stackTrace.getFrames()) {
+			String type = frame.getMethod().getType().getName();
+			if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+				return type + "." + frame.getMethod().getName();
+			}
+		}
+		return "unknown";
+	}
+}
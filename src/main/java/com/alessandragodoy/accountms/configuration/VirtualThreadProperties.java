@@ -0,0 +1,16 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the monitoring of virtual threads, active when {@code spring.threads.virtual.enabled} is set.
+ *
+ * @param pinningThreshold the minimum time a virtual thread must stay pinned to its carrier to be reported
+ */
+@ConfigurationProperties(prefix = "account.virtual-threads")
+public record VirtualThreadProperties(
+		@DefaultValue("20ms") Duration pinningThreshold) {
+}
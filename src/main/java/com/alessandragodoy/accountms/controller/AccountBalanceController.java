@@ -0,0 +1,92 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.TransactionRequestDTO;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountBalanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for updating account balances.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class AccountBalanceController {
+	private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+	private final AccountBalanceService accountBalanceService;
+
+	/**
+	 * Deposits an amount into the account with the given ID.
+	 *
+	 * @param accountId             the ID of the account to deposit into.
+	 * @param transactionRequestDTO the data transfer object containing the deposit amount.
+	 * @param idempotencyKey        the key that makes retries of the request return the first result.
+	 * @return a ResponseEntity containing the updated AccountDTO object.
+	 */
+	@Operation(summary = "Deposit into an account", description = "Returns the account updated as AccountDTO; " +
+			"a request repeated with the same Idempotency-Key returns the first result without depositing again")
+	@PutMapping("/deposit/{accountId}")
+	public ResponseEntity<AccountDTO> deposit(@PathVariable Integer accountId,
+											  @RequestBody TransactionRequestDTO transactionRequestDTO,
+											  @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+											  String idempotencyKey) {
+		AccountDTO updatedAccount = accountBalanceService.deposit(accountId, transactionRequestDTO.amount(),
+				idempotencyKey);
+		return ResponseEntity.ok(updatedAccount);
+	}
+
+	/**
+	 * Withdraws an amount from the account with the given ID.
+	 *
+	 * @param accountId             the ID of the account to withdraw from.
+	 * @param transactionRequestDTO the data transfer object containing the withdrawal amount.
+	 * @param idempotencyKey        the key that makes retries of the request return the first result.
+	 * @return a ResponseEntity containing the updated AccountDTO object.
+	 */
+	@Operation(summary = "Withdraw into an account", description = "Returns the account updated as AccountDTO; " +
+			"a request repeated with the same Idempotency-Key returns the first result without withdrawing again")
+	@PutMapping("/withdraw/{accountId}")
+	public ResponseEntity<AccountDTO> withdraw(@PathVariable Integer accountId,
+											   @RequestBody TransactionRequestDTO transactionRequestDTO,
+											   @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+											   String idempotencyKey) {
+		AccountDTO updatedAccount = accountBalanceService.withdraw(accountId, transactionRequestDTO.amount(),
+				idempotencyKey);
+		return ResponseEntity.ok(updatedAccount);
+	}
+
+	/**
+	 * Updates the balance of an account by its account number.
+	 *
+	 * @param accountNumber  the account number of the account to update the balance for.
+	 * @param amount         the amount to update the balance by.
+	 * @param idempotencyKey the key that makes retries of the request succeed without updating again.
+	 * @return a ResponseEntity indicating the success of the operation.
+	 */
+	@Operation(summary = "Updates the account balance by its account number", description = "Returns a String of " +
+			"completion; a request repeated with the same Idempotency-Key succeeds without updating again")
+	@PatchMapping("/update/{accountNumber}")
+	public ResponseEntity<String> updateBalanceByAccountNumber(@PathVariable String accountNumber,
+															   @RequestParam Money amount,
+															   @RequestHeader(value = IDEMPOTENCY_KEY,
+																	   required = false) String idempotencyKey) {
+		accountBalanceService.updateBalanceByAccountNumber(accountNumber, amount, idempotencyKey);
+		return ResponseEntity.ok("Balance updated successfully");
+	}
+}
@@ -0,0 +1,41 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.service.AccountChangeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for the account change feed.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class AccountChangeController {
+	private final AccountChangeService accountChangeService;
+
+	/**
+	 * Retrieves the accounts created, changed or deleted after a cursor.
+	 *
+	 * @param since the cursor returned by the previous request; -1 to start from the beginning.
+	 * @param limit the maximum number of changes in the response.
+	 * @return a ResponseEntity containing the AccountChangesDTO with the changes and the next cursor.
+	 */
+	@Operation(summary = "Retrieve account changes since a cursor", description = "Returns up to limit changed " +
+			"or deleted accounts after the given cursor, ordered by change sequence, as AccountChangesDTO")
+	@GetMapping("/changes")
+	public ResponseEntity<AccountChangesDTO> getChanges(@RequestParam(defaultValue = "-1") long since,
+														@RequestParam(defaultValue = "100") int limit) {
+		AccountChangesDTO changes = accountChangeService.getChanges(since, limit);
+		return ResponseEntity.ok(changes);
+	}
+}
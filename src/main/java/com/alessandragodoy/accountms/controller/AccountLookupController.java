@@ -0,0 +1,52 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountLookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for looking accounts up by account number.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class AccountLookupController {
+	private final AccountLookupService accountLookupService;
+
+	/**
+	 * Retrieves the balance of an account by its account number.
+	 *
+	 * @param accountNumber the account number of the account to retrieve the balance for.
+	 * @return a ResponseEntity containing the account balance.
+	 */
+	@Operation(summary = "Obtains the account balance by its account number", description = "Returns a decimal " +
+			"number")
+	@GetMapping("/balance/{accountNumber}")
+	public ResponseEntity<Money> getAccountBalance(@PathVariable String accountNumber) {
+		Money balance = accountLookupService.getAccountBalance(accountNumber);
+		return ResponseEntity.ok(balance);
+	}
+
+	/**
+	 * Verifies if an account exists by its account number.
+	 *
+	 * @param accountNumber the account number to verify.
+	 * @return a ResponseEntity containing a boolean value indicating if the account exists.
+	 */
+	@Operation(summary = "Verify if an account exists by its account number", description = "Returns boolean")
+	@GetMapping("/verify/{accountNumber}")
+	public ResponseEntity<Boolean> verifyAccountByAccountNumber(@PathVariable String accountNumber) {
+		boolean exists = accountLookupService.accountExistsByAccountNumber(accountNumber);
+		return ResponseEntity.ok(exists);
+	}
+}
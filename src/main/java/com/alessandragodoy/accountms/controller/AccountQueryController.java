@@ -0,0 +1,88 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.service.AccountQueryService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Controller for listing accounts page by page or as a newline-delimited JSON stream.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class AccountQueryController {
+	private static final String NDJSON = "application/x-ndjson";
+
+	private final AccountQueryService accountQueryService;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Retrieves one page of accounts, optionally filtered by customer and type.
+	 *
+	 * @param customerId  the customer ID to filter by.
+	 * @param accountType the account type to filter by.
+	 * @param after       the cursor returned with the previous page.
+	 * @param limit       the maximum number of accounts in the page.
+	 * @return a ResponseEntity containing the page of AccountDTO objects and the next cursor.
+	 */
+	@Operation(summary = "Retrieve accounts page by page", description = "Returns up to limit accounts after the " +
+			"given cursor as AccountPageDTO")
+	@GetMapping
+	public ResponseEntity<AccountPageDTO> getAccounts(@RequestParam(required = false) Integer customerId,
+													  @RequestParam(required = false) AccountType accountType,
+													  @RequestParam(required = false) Integer after,
+													  @RequestParam(defaultValue = "100") int limit) {
+		AccountPageDTO page = accountQueryService.getAccounts(customerId, accountType, after, limit);
+		return ResponseEntity.ok(page);
+	}
+
+	/**
+	 * Streams every matching account as newline-delimited JSON.
+	 *
+	 * @param customerId  the customer ID to filter by.
+	 * @param accountType the account type to filter by.
+	 * @return a ResponseEntity writing one AccountDTO per line.
+	 */
+	@Operation(summary = "Stream all accounts", description = "Writes every matching account as one AccountDTO " +
+			"per line")
+	@GetMapping(value = "/stream", produces = NDJSON)
+	public ResponseEntity<StreamingResponseBody> streamAccounts(@RequestParam(required = false) Integer customerId,
+																@RequestParam(required = false) AccountType accountType) {
+		ObjectWriter writer = objectMapper.writerFor(AccountDTO.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		StreamingResponseBody body = outputStream -> {
+			try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+				accountQueryService.streamAccounts(customerId, accountType, account -> {
+					try {
+						writer.writeValue(generator, account);
+						generator.writeRaw('\n');
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+	}
+}
@@ -0,0 +1,78 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.AccountStatementDTO;
+import com.alessandragodoy.accountms.service.AccountStatementService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Controller for streaming account statements.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class AccountStatementController {
+	private final AccountStatementService accountStatementService;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Streams the statement of an account: its opening and closing balances, then every movement of the range.
+	 * <p>
+	 * The balances are computed before the response starts, so an unknown account or an invalid range is still
+	 * reported with an error status. The movements are then written as they are read from the database, so the
+	 * range can be arbitrarily large.
+	 * </p>
+	 *
+	 * @param accountId the ID of the account.
+	 * @param from      the start of the statement, inclusive.
+	 * @param to        the end of the statement, exclusive; now if omitted.
+	 * @return a ResponseEntity writing the AccountStatementDTO and the StatementEntryDTO list.
+	 */
+	@Operation(summary = "Stream the statement of an account", description = "Writes the opening and closing " +
+			"balances as AccountStatementDTO followed by every movement between from and to as StatementEntryDTO")
+	@GetMapping(value = "/{accountId}/statement", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> getStatement(@PathVariable Integer accountId,
+															  @RequestParam Instant from,
+															  @RequestParam(required = false) Instant to) {
+		AccountStatementDTO statement = accountStatementService.getStatement(accountId, from, to);
+		ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		StreamingResponseBody body = outputStream -> {
+			try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+				generator.writeStartObject();
+				generator.writeFieldName("statement");
+				writer.writeValue(generator, statement);
+				generator.writeArrayFieldStart("entries");
+				accountStatementService.streamStatement(accountId, statement.from(), statement.to(), entry -> {
+					try {
+						writer.writeValue(generator, entry);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+}
@@ -0,0 +1,41 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionResultDTO;
+import com.alessandragodoy.accountms.service.BatchTransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for applying batches of account transactions.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class BatchTransactionController {
+	private final BatchTransactionService batchTransactionService;
+
+	/**
+	 * Applies many deposits and withdrawals in a single request.
+	 *
+	 * @param batchTransactionRequestDTO the batch mode and the transactions to apply.
+	 * @return a ResponseEntity containing the outcome of every transaction.
+	 */
+	@Operation(summary = "Apply a batch of deposits and withdrawals", description = "Returns the outcome of every " +
+			"transaction as BatchTransactionResultDTO")
+	@PostMapping("/transactions:batch")
+	public ResponseEntity<BatchTransactionResultDTO> applyBatch(
+			@RequestBody BatchTransactionRequestDTO batchTransactionRequestDTO) {
+		BatchTransactionResultDTO result = batchTransactionService.applyBatch(batchTransactionRequestDTO);
+		return ResponseEntity.ok(result);
+	}
+}
@@ -0,0 +1,39 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.CustomerAccountsDTO;
+import com.alessandragodoy.accountms.service.CustomerAccountsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for the accounts of a customer.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class CustomerAccountsController {
+	private final CustomerAccountsService customerAccountsService;
+
+	/**
+	 * Retrieves every account of a customer with the totals per account type.
+	 *
+	 * @param customerId the ID of the customer.
+	 * @return a ResponseEntity containing the CustomerAccountsDTO with the accounts and totals.
+	 */
+	@Operation(summary = "Retrieve all accounts of a customer", description = "Returns the accounts of the customer " +
+			"and the number of accounts and total balance of each account type as CustomerAccountsDTO")
+	@GetMapping("/customer/{customerId}/accounts")
+	public ResponseEntity<CustomerAccountsDTO> getCustomerAccounts(@PathVariable Integer customerId) {
+		CustomerAccountsDTO customerAccounts = customerAccountsService.getCustomerAccounts(customerId);
+		return ResponseEntity.ok(customerAccounts);
+	}
+}
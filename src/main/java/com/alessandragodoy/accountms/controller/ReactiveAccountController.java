@@ -0,0 +1,116 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.ReactiveAccountService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for managing accounts, used by the reactive profile in place of {@link AccountController}.
+ * <p>
+ * It exposes the same reading endpoints and payloads. The reactive profile is read-only, so account creation and
+ * deletion, balance updates, batches and transfers are only served by the servlet stack.
+ * </p>
+ */
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class ReactiveAccountController {
+	private final ReactiveAccountService accountService;
+
+	/**
+	 * Retrieves one page of accounts, optionally filtered by customer and type.
+	 *
+	 * @param customerId  the customer ID to filter by.
+	 * @param accountType the account type to filter by.
+	 * @param after       the cursor returned with the previous page.
+	 * @param limit       the maximum number of accounts in the page.
+	 * @return a Mono of the ResponseEntity containing the page of AccountDTO objects and the next cursor.
+	 */
+	@Operation(summary = "Retrieve accounts page by page", description = "Returns up to limit accounts after the " +
+			"given cursor as AccountPageDTO")
+	@GetMapping
+	public Mono<ResponseEntity<AccountPageDTO>> getAccounts(@RequestParam(required = false) Integer customerId,
+															@RequestParam(required = false) AccountType accountType,
+															@RequestParam(required = false) Integer after,
+															@RequestParam(defaultValue = "100") int limit) {
+		return accountService.getAccounts(customerId, accountType, after, limit).map(ResponseEntity::ok);
+	}
+
+	/**
+	 * Streams every matching account as newline-delimited JSON, written as the database produces the rows.
+	 *
+	 * @param customerId  the customer ID to filter by.
+	 * @param accountType the account type to filter by.
+	 * @return a Flux of AccountDTO objects, one per line.
+	 */
+	@Operation(summary = "Stream all accounts", description = "Writes every matching account as one AccountDTO " +
+			"per line")
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<AccountDTO> streamAccounts(@RequestParam(required = false) Integer customerId,
+										   @RequestParam(required = false) AccountType accountType) {
+		return accountService.streamAccounts(customerId, accountType);
+	}
+
+	/**
+	 * Retrieves an account by its ID.
+	 *
+	 * @param accountId the ID of the account to retrieve.
+	 * @return a Mono of the ResponseEntity containing the AccountDTO object.
+	 */
+	@Operation(summary = "Retrieve account by its id", description = "Returns the found account as AccountDTO")
+	@GetMapping("/{accountId}")
+	public Mono<ResponseEntity<AccountDTO>> getAccountById(@PathVariable Integer accountId) {
+		return accountService.getAccountById(accountId).map(ResponseEntity::ok);
+	}
+
+	/**
+	 * Checks if an account exists for a given customer ID.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return a Mono of true if the account exists, false otherwise
+	 */
+	@Operation(summary = "Verify if a customer has accounts by its id", description = "Returns boolean")
+	@GetMapping("/customer/{customerId}")
+	public Mono<Boolean> getAccountByCustomerId(@PathVariable Integer customerId) {
+		return accountService.accountExists(customerId);
+	}
+
+	/**
+	 * Retrieves the balance of an account by its account number.
+	 *
+	 * @param accountNumber the account number of the account to retrieve the balance for.
+	 * @return a Mono of the ResponseEntity containing the account balance.
+	 */
+	@Operation(summary = "Obtains the account balance by its account number", description = "Returns a decimal " +
+			"number")
+	@GetMapping("/balance/{accountNumber}")
+	public Mono<ResponseEntity<Money>> getAccountBalance(@PathVariable String accountNumber) {
+		return accountService.getAccountBalance(accountNumber).map(ResponseEntity::ok);
+	}
+
+	/**
+	 * Verifies if an account exists by its account number.
+	 *
+	 * @param accountNumber the account number to verify.
+	 * @return a Mono of the ResponseEntity containing a boolean value indicating if the account exists.
+	 */
+	@Operation(summary = "Verify if an account exists by its account number", description = "Returns boolean")
+	@GetMapping("/verify/{accountNumber}")
+	public Mono<ResponseEntity<Boolean>> verifyAccountByAccountNumber(@PathVariable String accountNumber) {
+		return accountService.accountExistsByAccountNumber(accountNumber).map(ResponseEntity::ok);
+	}
+
+}
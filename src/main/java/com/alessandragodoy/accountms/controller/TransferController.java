@@ -0,0 +1,40 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.controller.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferResultDTO;
+import com.alessandragodoy.accountms.service.TransferService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for transfers between accounts.
+ */
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Controller for Account")
+public class TransferController {
+	private final TransferService transferService;
+
+	/**
+	 * Moves an amount between two accounts in a single transaction.
+	 *
+	 * @param transferRequestDTO the accounts and the amount of the transfer.
+	 * @return a ResponseEntity containing both accounts after the transfer.
+	 */
+	@Operation(summary = "Transfer between two accounts", description = "Debits the source and credits the target " +
+			"account atomically; returns both accounts as TransferResultDTO")
+	@PostMapping("/transfers")
+	public ResponseEntity<TransferResultDTO> transfer(@RequestBody TransferRequestDTO transferRequestDTO) {
+		TransferResultDTO result = transferService.transfer(transferRequestDTO);
+		return ResponseEntity.ok(result);
+	}
+}
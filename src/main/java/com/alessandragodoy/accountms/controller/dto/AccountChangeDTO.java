@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for one entry of the account change feed: the current state of a changed account, or a tombstone for a
+ * deleted one.
+ *
+ * @param changeSeq     the place of the change in the change sequence
+ * @param accountId     the ID of the account
+ * @param accountNumber the number of the account
+ * @param deleted       whether the account has been deleted
+ * @param account       the account as it stands now, or null if it has been deleted
+ */
+public record AccountChangeDTO(
+		@Schema(description = "Place of the change in the change sequence", example = "1042")
+		long changeSeq,
+		@Schema(description = "Unique identifier for the account", example = "1")
+		Integer accountId,
+		@Schema(description = "Account number", example = "A000001")
+		String accountNumber,
+		@Schema(description = "Whether the account has been deleted", example = "false")
+		boolean deleted,
+		@Schema(description = "Current state of the account, null if it has been deleted")
+		AccountDTO account) {
+}
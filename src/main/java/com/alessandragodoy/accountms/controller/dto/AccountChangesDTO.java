@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the account change feed.
+ * <p>
+ * The cursor only moves past changes old enough that no change with a lower sequence can still commit, so a
+ * recent change may be returned again by the next request; applying the changes by account ID makes that
+ * harmless.
+ * </p>
+ *
+ * @param changes    the changes of the page, ordered by change sequence
+ * @param nextCursor the value for the since parameter of the next request
+ * @param hasMore    whether more changes were waiting beyond this page
+ */
+public record AccountChangesDTO(
+		@Schema(description = "Changes of the page, ordered by change sequence")
+		List<AccountChangeDTO> changes,
+		@Schema(description = "Value for the since parameter of the next request", example = "1042")
+		long nextCursor,
+		@Schema(description = "Whether more changes were waiting beyond this page", example = "false")
+		boolean hasMore) {
+}
@@ -1,6 +1,7 @@
 package com.alessandragodoy.accountms.controller.dto;
 
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -17,8 +18,8 @@ public record AccountDTO(
 		Integer accountId,
 		@Schema(description = "Account number", example = "A000001")
 		String accountNumber,
-		@Schema(description = "Current balance of the account", example = "100.0")
-		Double balance,
+		@Schema(type = "number", description = "Current balance of the account", example = "100.00")
+		Money balance,
 		@Schema(description = "Type of the account", example = "SAVINGS")
 		AccountType accountType,
 		@Schema(description = "Unique identifier for the customer", example = "1")
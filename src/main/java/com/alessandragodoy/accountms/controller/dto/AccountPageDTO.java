@@ -0,0 +1,18 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for a page of accounts retrieved with keyset pagination.
+ *
+ * @param accounts   the accounts of the page, ordered by account ID
+ * @param nextCursor the cursor to request the following page with, or null on the last page
+ */
+public record AccountPageDTO(
+		@Schema(description = "Accounts of the page, ordered by account ID")
+		List<AccountDTO> accounts,
+		@Schema(description = "Value for the after parameter of the next page, null on the last page", example = "100")
+		Integer nextCursor) {
+}
@@ -0,0 +1,31 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import com.alessandragodoy.accountms.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * DTO for the balances that frame an account statement; the movements are streamed after it.
+ *
+ * @param accountId      the ID of the account
+ * @param accountNumber  the number of the account
+ * @param from           the start of the statement, inclusive
+ * @param to             the end of the statement, exclusive
+ * @param openingBalance the balance at the start of the statement
+ * @param closingBalance the balance at the end of the statement
+ */
+public record AccountStatementDTO(
+		@Schema(description = "Unique identifier for the account", example = "1")
+		Integer accountId,
+		@Schema(description = "Account number", example = "A000001")
+		String accountNumber,
+		@Schema(description = "Start of the statement, inclusive", example = "2026-09-01T00:00:00Z")
+		Instant from,
+		@Schema(description = "End of the statement, exclusive", example = "2026-10-01T00:00:00Z")
+		Instant to,
+		@Schema(type = "number", description = "Balance at the start of the statement", example = "1000.00")
+		Money openingBalance,
+		@Schema(type = "number", description = "Balance at the end of the statement", example = "1100.00")
+		Money closingBalance) {
+}
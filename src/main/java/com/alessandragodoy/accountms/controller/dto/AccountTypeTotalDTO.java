@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the totals of the accounts of one type held by a customer.
+ *
+ * @param accountType the type of the accounts
+ * @param accounts    the number of accounts of the type
+ * @param balance     the sum of their balances
+ */
+public record AccountTypeTotalDTO(
+		@Schema(description = "Type of the accounts", example = "SAVINGS")
+		AccountType accountType,
+		@Schema(description = "Number of accounts of the type", example = "2")
+		int accounts,
+		@Schema(type = "number", description = "Sum of the balances of the accounts of the type", example = "250.00")
+		Money balance) {
+}
@@ -0,0 +1,37 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import com.alessandragodoy.accountms.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for a single transaction of a batch.
+ *
+ * @param accountId the ID of the account
+ * @param type      whether the amount is deposited or withdrawn
+ * @param amount    the amount of the transaction
+ */
+public record BatchTransactionItemDTO(
+		@Schema(description = "Unique identifier for the account", example = "1")
+		Integer accountId,
+		@Schema(description = "Type of the transaction", example = "DEPOSIT")
+		Type type,
+		@Schema(type = "number", description = "Amount of the transaction", example = "100.00")
+		Money amount) {
+
+	/**
+	 * Types of transactions accepted in a batch.
+	 */
+	public enum Type {
+		DEPOSIT,
+		WITHDRAW
+	}
+
+	/**
+	 * Returns the amount as a signed change to the balance.
+	 *
+	 * @return the amount, negated for withdrawals
+	 */
+	public Money signedAmount() {
+		return type == Type.WITHDRAW ? amount.negate() : amount;
+	}
+}
@@ -0,0 +1,32 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for applying many deposits and withdrawals in one request.
+ *
+ * @param mode         whether the batch is applied all-or-nothing or best-effort
+ * @param transactions the transactions, applied in order for each account
+ */
+public record BatchTransactionRequestDTO(
+		@Schema(description = "How rejected transactions affect the rest of the batch", example = "BEST_EFFORT")
+		Mode mode,
+		@Schema(description = "Transactions to apply")
+		List<BatchTransactionItemDTO> transactions) {
+
+	/**
+	 * Ways of handling rejected transactions in a batch.
+	 */
+	public enum Mode {
+		/**
+		 * Any rejected transaction rolls back the whole batch.
+		 */
+		ALL_OR_NOTHING,
+		/**
+		 * Rejected transactions are skipped and the rest are applied.
+		 */
+		BEST_EFFORT
+	}
+}
@@ -0,0 +1,59 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import com.alessandragodoy.accountms.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO with the outcome of a batch of transactions.
+ *
+ * @param mode      the mode the batch was applied with
+ * @param committed whether any change of the batch was committed
+ * @param applied   the number of applied transactions
+ * @param rejected  the number of rejected transactions
+ * @param results   the outcome of every transaction, in request order
+ */
+public record BatchTransactionResultDTO(
+		@Schema(description = "Mode the batch was applied with", example = "BEST_EFFORT")
+		BatchTransactionRequestDTO.Mode mode,
+		@Schema(description = "Whether the changes of the batch were committed", example = "true")
+		boolean committed,
+		@Schema(description = "Number of applied transactions", example = "99")
+		int applied,
+		@Schema(description = "Number of rejected transactions", example = "1")
+		int rejected,
+		@Schema(description = "Outcome of every transaction, in request order")
+		List<Item> results) {
+
+	/**
+	 * Outcome of a single transaction of the batch.
+	 *
+	 * @param index     the position of the transaction in the request
+	 * @param accountId the ID of the account
+	 * @param status    what happened to the transaction
+	 * @param balance   the balance of the account right after the transaction, when it was applied
+	 * @param message   the reason the transaction was not applied
+	 */
+	public record Item(
+			@Schema(description = "Position of the transaction in the request", example = "0")
+			int index,
+			@Schema(description = "Unique identifier for the account", example = "1")
+			Integer accountId,
+			@Schema(description = "Outcome of the transaction", example = "APPLIED")
+			Status status,
+			@Schema(type = "number", description = "Balance of the account right after the transaction", example = "200.00")
+			Money balance,
+			@Schema(description = "Reason the transaction was not applied")
+			String message) {
+	}
+
+	/**
+	 * Possible outcomes of a transaction in a batch.
+	 */
+	public enum Status {
+		APPLIED,
+		REJECTED,
+		ROLLED_BACK
+	}
+}
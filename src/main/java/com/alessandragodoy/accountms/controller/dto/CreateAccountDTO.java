@@ -1,5 +1,6 @@
 package com.alessandragodoy.accountms.controller.dto;
 
+import com.alessandragodoy.accountms.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -10,8 +11,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param customerId  the ID of the customer
  */
 public record CreateAccountDTO(
-		@Schema(description = "Initial balance of the account", example = "100.0")
-		Double balance,
+		@Schema(type = "number", description = "Initial balance of the account", example = "100.00")
+		Money balance,
 		@Schema(description = "Type of the account", example = "SAVINGS")
 		String accountType,
 		@Schema(description = "Unique identifier for the customer", example = "1")
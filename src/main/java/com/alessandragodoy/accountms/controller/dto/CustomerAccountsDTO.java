@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for every account of a customer together with the totals per account type.
+ *
+ * @param customerId the ID of the customer
+ * @param accounts   the accounts of the customer, ordered by type and account ID
+ * @param totals     the totals of each account type the customer holds
+ */
+public record CustomerAccountsDTO(
+		@Schema(description = "Unique identifier for the customer", example = "1")
+		Integer customerId,
+		@Schema(description = "Accounts of the customer, ordered by type and account ID")
+		List<AccountDTO> accounts,
+		@Schema(description = "Totals of each account type the customer holds")
+		List<AccountTypeTotalDTO> totals) {
+}
@@ -0,0 +1,29 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * DTO for one movement of an account statement.
+ *
+ * @param entryId      the ID of the ledger entry
+ * @param type         the kind of movement
+ * @param amount       the signed amount of the movement, negative for withdrawals
+ * @param balanceAfter the balance right after the movement
+ * @param createdAt    when the movement was made
+ */
+public record StatementEntryDTO(
+		@Schema(description = "Unique identifier for the ledger entry", example = "1")
+		Long entryId,
+		@Schema(description = "Kind of movement", example = "DEPOSIT")
+		LedgerEntryType type,
+		@Schema(type = "number", description = "Signed amount, negative for withdrawals", example = "100.00")
+		Money amount,
+		@Schema(type = "number", description = "Balance right after the movement", example = "1100.00")
+		Money balanceAfter,
+		@Schema(description = "When the movement was made", example = "2026-09-01T10:15:30Z")
+		Instant createdAt) {
+}
@@ -1,6 +1,7 @@
 package com.alessandragodoy.accountms.controller.dto;
 
 import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -9,10 +10,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param amount the amount to deposit
  */
 public record TransactionRequestDTO(
-		@Schema(description = "Amount to deposit", example = "100.0")
-		Double amount) {
+		@Schema(type = "number", description = "Amount to deposit", example = "100.00")
+		Money amount) {
 	public TransactionRequestDTO {
-		if (amount == null || amount <= 0) {
+		if (amount == null || !amount.isPositive()) {
 			throw new AccountValidationException("Balance is a requerid field and must be positive.");
 		}
 	}
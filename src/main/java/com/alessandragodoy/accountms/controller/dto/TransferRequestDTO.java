@@ -0,0 +1,20 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import com.alessandragodoy.accountms.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for moving an amount from one account to another in a single transaction.
+ *
+ * @param sourceAccountNumber the number of the account to debit
+ * @param targetAccountNumber the number of the account to credit
+ * @param amount              the amount to transfer
+ */
+public record TransferRequestDTO(
+		@Schema(description = "Account number to debit", example = "A000001")
+		String sourceAccountNumber,
+		@Schema(description = "Account number to credit", example = "A000002")
+		String targetAccountNumber,
+		@Schema(type = "number", description = "Amount to transfer", example = "100.00")
+		Money amount) {
+}
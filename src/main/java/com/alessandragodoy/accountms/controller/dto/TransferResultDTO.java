@@ -0,0 +1,16 @@
+package com.alessandragodoy.accountms.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the outcome of a transfer.
+ *
+ * @param source the debited account after the transfer
+ * @param target the credited account after the transfer
+ */
+public record TransferResultDTO(
+		@Schema(description = "Debited account after the transfer")
+		AccountDTO source,
+		@Schema(description = "Credited account after the transfer")
+		AccountDTO target) {
+}
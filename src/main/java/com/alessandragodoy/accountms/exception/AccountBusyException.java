@@ -0,0 +1,10 @@
+package com.alessandragodoy.accountms.exception;
+
+/**
+ * Exception thrown when an account is too busy to accept another update right now.
+ */
+public class AccountBusyException extends RuntimeException {
+	public AccountBusyException(String message) {
+		super(message);
+	}
+}
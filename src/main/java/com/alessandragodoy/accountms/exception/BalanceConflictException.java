@@ -0,0 +1,10 @@
+package com.alessandragodoy.accountms.exception;
+
+/**
+ * Exception thrown when a balance update keeps losing to concurrent updates of the same account.
+ */
+public class BalanceConflictException extends RuntimeException {
+	public BalanceConflictException(String message) {
+		super(message);
+	}
+}
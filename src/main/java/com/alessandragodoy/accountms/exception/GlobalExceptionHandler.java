@@ -66,4 +66,37 @@ public class GlobalExceptionHandler {
 	public ResponseEntity<String> handleCustomerNotFoundException(CustomerNotFoundException e) {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
 	}
+
+	/**
+	 * Handles BalanceConflictException and returns a 409 Conflict response.
+	 *
+	 * @param e the BalanceConflictException
+	 * @return a ResponseEntity with a 409 status and the exception message
+	 */
+	@ExceptionHandler(BalanceConflictException.class)
+	public ResponseEntity<String> handleBalanceConflictException(BalanceConflictException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+	}
+
+	/**
+	 * Handles IdempotencyKeyReusedException and returns a 422 Unprocessable Entity response.
+	 *
+	 * @param e the IdempotencyKeyReusedException
+	 * @return a ResponseEntity with a 422 status and the exception message
+	 */
+	@ExceptionHandler(IdempotencyKeyReusedException.class)
+	public ResponseEntity<String> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+		return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+	}
+
+	/**
+	 * Handles AccountBusyException and returns a 503 Service Unavailable response.
+	 *
+	 * @param e the AccountBusyException
+	 * @return a ResponseEntity with a 503 status and the exception message
+	 */
+	@ExceptionHandler(AccountBusyException.class)
+	public ResponseEntity<String> handleAccountBusyException(AccountBusyException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+	}
 }
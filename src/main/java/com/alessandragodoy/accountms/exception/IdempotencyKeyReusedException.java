@@ -0,0 +1,10 @@
+package com.alessandragodoy.accountms.exception;
+
+/**
+ * Exception thrown when an idempotency key that has already been used is sent with a different request.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+	public IdempotencyKeyReusedException(String message) {
+		super(message);
+	}
+}
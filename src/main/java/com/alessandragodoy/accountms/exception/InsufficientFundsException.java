@@ -1,10 +1,28 @@
 package com.alessandragodoy.accountms.exception;
 
+import com.alessandragodoy.accountms.model.AccountType;
+
 /**
  * Exception thrown when an account has insufficient funds for a transaction.
  */
 public class InsufficientFundsException extends RuntimeException {
+	private final AccountType accountType;
+
 	public InsufficientFundsException(String message) {
+		this(message, null);
+	}
+
+	public InsufficientFundsException(String message, AccountType accountType) {
 		super(message);
+		this.accountType = accountType;
+	}
+
+	/**
+	 * Returns the type of the account that lacked the funds.
+	 *
+	 * @return the account type, or null if it is not known
+	 */
+	public AccountType getAccountType() {
+		return accountType;
 	}
 }
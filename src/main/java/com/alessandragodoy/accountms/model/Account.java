@@ -2,14 +2,29 @@ package com.alessandragodoy.accountms.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OptimisticLock;
 
 import javax.validation.constraints.NotNull;
+import java.time.Instant;
 
 /**
  * Entity representing an Account.
+ * <p>
+ * Every change to an account stamps it with the next value of the change sequence shared by all accounts and
+ * deleted accounts, which the change feed reads through the {@code change_seq} index. Stamping does not
+ * increment the version, since it only accompanies a change that is already versioned.
+ * </p>
+ * <p>
+ * The customer index also holds the type, balance and number of each account, so the accounts of a customer
+ * are read from the index alone, without visiting the table rows. Pages of a customer's accounts seek through a second customer index
+ * ordered by account ID, so they stay a range scan however deep the client pages.
+ * </p>
  */
 @Entity
-@Table(name = "account")
+@Table(name = "account", indexes = {
+	@Index(name = "idx_account_customer_summary", columnList = "customer_id, account_type, balance_minor, account_number"),
+	@Index(name = "idx_account_customer_account", columnList = "customer_id, account_id"),
+	@Index(name = "idx_account_change_seq", columnList = "change_seq")})
 @Getter
 @Setter
 @Builder
@@ -25,8 +40,9 @@ public class Account {
 	@Column(name = "account_number", unique = true)
 	private String accountNumber;
 
-	@Column(name = "balance", columnDefinition = "double default 0.0")
-	private Double balance = 0.0;
+	@Embedded
+	@AttributeOverride(name = "minorUnits", column = @Column(name = "balance_minor", columnDefinition = "bigint"))
+	private Money balance = Money.ZERO;
 
 	@NotNull
 	@Enumerated(EnumType.STRING)
@@ -36,4 +52,16 @@ public class Account {
 	@NotNull
 	@Column(name = "customer_id")
 	private Integer customerId;
+
+	@Version
+	@Column(name = "version", nullable = false, columnDefinition = "bigint not null default 0")
+	private long version;
+
+	@OptimisticLock(excluded = true)
+	@Column(name = "change_seq", nullable = false, columnDefinition = "bigint not null default 0")
+	private long changeSeq;
+
+	@OptimisticLock(excluded = true)
+	@Column(name = "changed_at")
+	private Instant changedAt;
 }
@@ -0,0 +1,10 @@
+package com.alessandragodoy.accountms.model;
+
+/**
+ * Enum representing the kinds of account events published through the outbox.
+ */
+public enum AccountEventType {
+	ACCOUNT_CREATED,
+	ACCOUNT_BALANCE_CHANGED,
+	ACCOUNT_DELETED
+}
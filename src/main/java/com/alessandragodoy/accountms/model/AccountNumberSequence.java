@@ -0,0 +1,28 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity holding the next unallocated value of a number sequence shared by every instance.
+ */
+@Entity
+@Table(name = "account_number_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountNumberSequence {
+	@Id
+	@Column(name = "name", length = 64)
+	private String name;
+
+	@Column(name = "next_value", nullable = false)
+	private long nextValue;
+}
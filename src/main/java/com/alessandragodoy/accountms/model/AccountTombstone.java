@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Entity recording a deleted account, so the change feed can tell replicas to drop it.
+ * <p>
+ * The tombstone takes the next value of the change sequence shared with the accounts, written in the
+ * transaction that deletes the account.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "account_tombstone", indexes = @Index(name = "idx_account_tombstone_change_seq", columnList = "change_seq"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTombstone {
+	@Id
+	@Column(name = "account_id")
+	private Integer accountId;
+
+	@Column(name = "account_number", nullable = false, updatable = false)
+	private String accountNumber;
+
+	@Column(name = "change_seq", nullable = false, updatable = false)
+	private long changeSeq;
+
+	@Column(name = "deleted_at", nullable = false, updatable = false)
+	private Instant deletedAt;
+}
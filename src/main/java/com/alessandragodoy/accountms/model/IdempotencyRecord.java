@@ -0,0 +1,85 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Entity remembering the result of a balance update made with an idempotency key.
+ * <p>
+ * The key is the primary key, so a retry is answered with one primary key lookup. A concurrent retry can not
+ * be applied twice either, because its insert conflicts with the first one and rolls its update back. The
+ * result is stored as plain columns rather than serialized. Records are always new when saved, so saving one
+ * inserts it without reading it first.
+ * </p>
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = @Index(name = "idx_idempotency_record_expires", columnList = "expires_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord implements Persistable<String> {
+	@Id
+	@Column(name = "idempotency_key", length = 100)
+	private String idempotencyKey;
+
+	@Column(name = "request", nullable = false)
+	private String request;
+
+	@Column(name = "account_id", nullable = false)
+	private Integer accountId;
+
+	@Column(name = "account_number", nullable = false)
+	private String accountNumber;
+
+	@Embedded
+	@AttributeOverride(name = "minorUnits", column = @Column(name = "balance_minor", nullable = false))
+	private Money balance;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "account_type", nullable = false)
+	private AccountType accountType;
+
+	@Column(name = "customer_id", nullable = false)
+	private Integer customerId;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	@Transient
+	@Builder.Default
+	private boolean persisted = false;
+
+	@Override
+	public String getId() {
+		return idempotencyKey;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		persisted = true;
+	}
+}
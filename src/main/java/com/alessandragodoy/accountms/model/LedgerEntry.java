@@ -0,0 +1,79 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Entity representing one change to the balance of an account, appended to the ledger in the same transaction
+ * as the change itself.
+ * <p>
+ * Entries are never updated or deleted. IDs come from a pooled sequence that hands out blocks of
+ * {@value #ID_ALLOCATION_SIZE}, so inserts can be batched and an ID costs a database call only once per block;
+ * on MySQL, which has no sequences, Hibernate keeps the sequence in a one-row table. Each instance reserves its
+ * own block, so IDs do not follow the order in which entries were written; entries are ordered by
+ * {@code (created_at, entry_id)} instead, with the ID only breaking ties. The {@code (account_id, created_at)}
+ * index serves that order both for time ranges and for the last entries of an account, since InnoDB ends every
+ * secondary index with the primary key. Every entry carries the balance it left, so the balance at any instant
+ * is one seek away.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "ledger_entry", indexes = {
+	@Index(name = "idx_ledger_entry_account_created", columnList = "account_id, created_at")})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntry {
+	/**
+	 * Number of IDs reserved from the sequence at a time.
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entry_seq")
+	@SequenceGenerator(name = "ledger_entry_seq", sequenceName = "ledger_entry_seq",
+			allocationSize = ID_ALLOCATION_SIZE)
+	@Column(name = "entry_id")
+	private Long entryId;
+
+	@Column(name = "account_id", nullable = false, updatable = false)
+	private Integer accountId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "entry_type", nullable = false, updatable = false, length = 16)
+	private LedgerEntryType entryType;
+
+	@Embedded
+	@AttributeOverride(name = "minorUnits",
+			column = @Column(name = "amount_minor", nullable = false, updatable = false))
+	private Money amount;
+
+	@Embedded
+	@AttributeOverride(name = "minorUnits",
+			column = @Column(name = "balance_after_minor", nullable = false, updatable = false))
+	private Money balanceAfter;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Instant createdAt;
+}
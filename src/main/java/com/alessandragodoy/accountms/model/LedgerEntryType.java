@@ -0,0 +1,12 @@
+package com.alessandragodoy.accountms.model;
+
+/**
+ * Enum representing the kinds of balance changes recorded in the ledger.
+ */
+public enum LedgerEntryType {
+	DEPOSIT,
+	WITHDRAWAL,
+	ADJUSTMENT,
+	TRANSFER_OUT,
+	TRANSFER_IN
+}
@@ -0,0 +1,139 @@
+package com.alessandragodoy.accountms.model;
+
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.Embeddable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exact amount of money held as a whole number of minor units (cents).
+ * <p>
+ * Arithmetic and comparisons work on the {@code long} directly, so they never round and never box. JSON carries
+ * the amount as a decimal number with up to {@link #SCALE} fraction digits, parsed without going through
+ * {@code double}; amounts with more digits are rejected instead of rounded. In the database it is a single
+ * {@code BIGINT} column.
+ * </p>
+ *
+ * @param minorUnits the amount in minor units
+ */
+@Embeddable
+public record Money(long minorUnits) implements Comparable<Money> {
+	/**
+	 * Number of fraction digits of an amount.
+	 */
+	public static final int SCALE = 2;
+
+	/**
+	 * The zero amount.
+	 */
+	public static final Money ZERO = new Money(0);
+
+	/**
+	 * Creates an amount from a number of minor units.
+	 *
+	 * @param minorUnits the amount in minor units
+	 * @return the amount
+	 */
+	public static Money ofMinor(long minorUnits) {
+		return minorUnits == 0 ? ZERO : new Money(minorUnits);
+	}
+
+	/**
+	 * Creates an amount from its decimal value.
+	 *
+	 * @param amount the decimal amount
+	 * @return the amount, or null if the value is null
+	 * @throws AccountValidationException if the amount has more than {@link #SCALE} fraction digits or does not
+	 *                                    fit in minor units
+	 */
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static Money of(BigDecimal amount) {
+		if (amount == null) {
+			return null;
+		}
+		try {
+			return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+		} catch (ArithmeticException e) {
+			throw new AccountValidationException("Amount " + amount.toPlainString() + " is not a valid amount " +
+					"with at most " + SCALE + " decimal places.");
+		}
+	}
+
+	/**
+	 * Parses an amount from its decimal text, as used in request parameters.
+	 *
+	 * @param amount the decimal text
+	 * @return the amount
+	 * @throws AccountValidationException if the text is not a valid amount
+	 */
+	public static Money valueOf(String amount) {
+		try {
+			return of(new BigDecimal(amount.strip()));
+		} catch (NumberFormatException e) {
+			throw new AccountValidationException("Amount " + amount + " is not a number.");
+		}
+	}
+
+	/**
+	 * Adds another amount to this one.
+	 *
+	 * @param other the amount to add
+	 * @return the sum
+	 * @throws ArithmeticException if the sum overflows
+	 */
+	public Money plus(Money other) {
+		return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+	}
+
+	/**
+	 * Subtracts another amount from this one.
+	 *
+	 * @param other the amount to subtract
+	 * @return the difference
+	 * @throws ArithmeticException if the difference overflows
+	 */
+	public Money minus(Money other) {
+		return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+	}
+
+	/**
+	 * Returns this amount with the opposite sign.
+	 *
+	 * @return the negated amount
+	 */
+	public Money negate() {
+		return ofMinor(Math.negateExact(minorUnits));
+	}
+
+	/**
+	 * Checks if this amount is greater than zero.
+	 *
+	 * @return true if the amount is positive
+	 */
+	public boolean isPositive() {
+		return minorUnits > 0;
+	}
+
+	/**
+	 * Returns the decimal value of this amount.
+	 *
+	 * @return the amount with {@link #SCALE} fraction digits
+	 */
+	@JsonValue
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(minorUnits, SCALE);
+	}
+
+	@Override
+	public int compareTo(Money other) {
+		return Long.compare(minorUnits, other.minorUnits);
+	}
+
+	@Override
+	public String toString() {
+		return toBigDecimal().toPlainString();
+	}
+}
@@ -0,0 +1,77 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Entity representing an account event waiting in the outbox, written in the same transaction as the change it
+ * announces and deleted once it has been published.
+ * <p>
+ * IDs are assigned by the database on insert. Changes to the same account are serialized by its row lock, so
+ * the event of a later change always gets a higher ID than the events of the changes committed before it, on
+ * whichever instance they ran; publishing in ID order therefore keeps the order of every account. That costs
+ * the batching a pooled sequence would allow, which is why an event is only written per account change, not per
+ * statement. The account is copied into the event, so it can still be described after it has been deleted.
+ * </p>
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "event_id")
+	private Long eventId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false, updatable = false, length = 32)
+	private AccountEventType eventType;
+
+	@Column(name = "account_id", nullable = false, updatable = false)
+	private Integer accountId;
+
+	@Column(name = "account_number", nullable = false, updatable = false)
+	private String accountNumber;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "account_type", nullable = false, updatable = false)
+	private AccountType accountType;
+
+	@Column(name = "customer_id", nullable = false, updatable = false)
+	private Integer customerId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "change_type", updatable = false, length = 16)
+	private LedgerEntryType changeType;
+
+	@Embedded
+	@AttributeOverride(name = "minorUnits", column = @Column(name = "amount_minor", updatable = false))
+	private Money amount;
+
+	@Embedded
+	@AttributeOverride(name = "minorUnits",
+			column = @Column(name = "balance_minor", nullable = false, updatable = false))
+	private Money balance;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Instant createdAt;
+}
@@ -0,0 +1,61 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository fragment for account operations that go straight to JDBC instead of through the entity manager.
+ */
+public interface AccountJdbcRepository {
+
+	/**
+	 * Applies signed balance changes as a single JDBC batch, in the given order.
+	 * <p>
+	 * Negative changes are guarded by the same overdraft rules as a single withdrawal, so each change either
+	 * applies completely or leaves the account untouched.
+	 * </p>
+	 *
+	 * @param changes the balance changes to apply
+	 * @return the number of updated rows for each change, 0 where the account does not exist or lacks funds
+	 */
+	int[] applyBalanceChanges(List<BalanceChange> changes);
+
+	/**
+	 * Reads every matching account through a forward-only JDBC cursor, handing each row to the consumer as it
+	 * arrives instead of loading the whole result.
+	 *
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @param consumer    receives every matching account, ordered by account ID
+	 */
+	void forEachAccount(Integer customerId, AccountType accountType, Consumer<Account> consumer);
+
+	/**
+	 * Retrieves the accounts that follow the given account ID, optionally filtered by customer and type.
+	 * <p>
+	 * Seeking past the last ID of the previous page keeps every page an index range scan, no matter how deep
+	 * the client pages. Only the supplied filters are added to the query, so the optimizer can pick the
+	 * customer index whenever a customer is given instead of planning for every combination at once.
+	 * </p>
+	 *
+	 * @param afterId     the last account ID of the previous page, 0 for the first page
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @param limit       the maximum number of accounts to return
+	 * @return the matching accounts ordered by account ID
+	 */
+	List<Account> findPage(Integer afterId, Integer customerId, AccountType accountType, Limit limit);
+
+	/**
+	 * A signed change to the balance of an account.
+	 *
+	 * @param accountId the ID of the account
+	 * @param delta     the amount to add in minor units, negative for withdrawals
+	 */
+	record BalanceChange(Integer accountId, long delta) {
+	}
+}
@@ -0,0 +1,126 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of the {@link AccountJdbcRepository} fragment.
+ * <p>
+ * Per-row update counts are needed to report every change, so the MySQL driver must not be configured with
+ * {@code rewriteBatchedStatements=true}. Streaming reads rely on the driver honouring the fetch size, which
+ * for MySQL means {@code useCursorFetch=true}; the application properties set it on the connection pool's
+ * data source, so it applies whatever {@code DB_URL} holds.
+ * </p>
+ */
+public class AccountJdbcRepositoryImpl implements AccountJdbcRepository {
+	private static final String APPLY_BALANCE_CHANGE_SQL =
+			"UPDATE account SET balance_minor = balance_minor + ?, version = version + 1 WHERE account_id = ? " +
+					"AND (? >= 0 OR (account_type = 'SAVINGS' AND balance_minor + ? >= 0) " +
+					"OR (account_type = 'CHECKING' AND balance_minor + ? >= " +
+					AccountValidation.CHECKING_OVERDRAFT_LIMIT + "))";
+	private static final String SELECT_ACCOUNTS_SQL =
+			"SELECT account_id, account_number, balance_minor, account_type, customer_id, version FROM account WHERE 1 = 1";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int streamFetchSize;
+
+	public AccountJdbcRepositoryImpl(JdbcTemplate jdbcTemplate,
+									 @Value("${account.stream.fetch-size:1000}") int streamFetchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	@Override
+	public int[] applyBalanceChanges(List<BalanceChange> changes) {
+		return jdbcTemplate.batchUpdate(APPLY_BALANCE_CHANGE_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				BalanceChange change = changes.get(i);
+				ps.setLong(1, change.delta());
+				ps.setInt(2, change.accountId());
+				ps.setLong(3, change.delta());
+				ps.setLong(4, change.delta());
+				ps.setLong(5, change.delta());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return changes.size();
+			}
+		});
+	}
+
+	@Override
+	public void forEachAccount(Integer customerId, AccountType accountType, Consumer<Account> consumer) {
+		StringBuilder sql = new StringBuilder(SELECT_ACCOUNTS_SQL);
+		List<Object> args = new ArrayList<>();
+		appendFilters(sql, args, customerId, accountType);
+		sql.append(" ORDER BY account_id");
+
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(streamFetchSize);
+			for (int i = 0; i < args.size(); i++) {
+				ps.setObject(i + 1, args.get(i));
+			}
+			return ps;
+		}, (RowCallbackHandler) rs -> consumer.accept(mapAccount(rs)));
+	}
+
+	@Override
+	public List<Account> findPage(Integer afterId, Integer customerId, AccountType accountType, Limit limit) {
+		StringBuilder sql = new StringBuilder(SELECT_ACCOUNTS_SQL).append(" AND account_id > ?");
+		List<Object> args = new ArrayList<>();
+		args.add(afterId);
+		appendFilters(sql, args, customerId, accountType);
+		sql.append(" ORDER BY account_id LIMIT ?");
+		args.add(limit.max());
+		return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> mapAccount(rs), args.toArray());
+	}
+
+	/**
+	 * Adds a predicate for each supplied filter only, leaving out the ones that are null.
+	 *
+	 * @param sql         the query to append the predicates to
+	 * @param args        the arguments to append the filter values to
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 */
+	private static void appendFilters(StringBuilder sql, List<Object> args, Integer customerId,
+									  AccountType accountType) {
+		if (customerId != null) {
+			sql.append(" AND customer_id = ?");
+			args.add(customerId);
+		}
+		if (accountType != null) {
+			sql.append(" AND account_type = ?");
+			args.add(accountType.name());
+		}
+	}
+
+	private static Account mapAccount(ResultSet rs) throws SQLException {
+		return Account.builder()
+				.accountId(rs.getInt("account_id"))
+				.accountNumber(rs.getString("account_number"))
+				.balance(Money.ofMinor(rs.getLong("balance_minor")))
+				.accountType(AccountType.valueOf(rs.getString("account_type")))
+				.customerId(rs.getInt("customer_id"))
+				.version(rs.getLong("version"))
+				.build();
+	}
+}
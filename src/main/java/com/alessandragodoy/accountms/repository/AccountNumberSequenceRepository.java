@@ -0,0 +1,28 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the shared number sequences.
+ */
+@Repository
+public interface AccountNumberSequenceRepository extends JpaRepository<AccountNumberSequence, String> {
+
+	/**
+	 * Reads a sequence and locks its row until the current transaction ends.
+	 *
+	 * @param name the name of the sequence
+	 * @return the sequence if it has been created
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM AccountNumberSequence s WHERE s.name = :name")
+	Optional<AccountNumberSequence> findForUpdate(@Param("name") String name);
+}
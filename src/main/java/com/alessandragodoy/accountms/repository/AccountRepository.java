@@ -1,19 +1,46 @@
 package com.alessandragodoy.accountms.repository;
 
 import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for Account entity.
  */
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Integer> {
+public interface AccountRepository extends JpaRepository<Account, Integer>, AccountJdbcRepository {
+
+	/**
+	 * Finds the accounts changed after a point of the change sequence through its index.
+	 *
+	 * @param changeSeq the change sequence value to start after
+	 * @param limit     the maximum number of accounts to return
+	 * @return the changed accounts ordered by change sequence
+	 */
+	List<Account> findByChangeSeqGreaterThanOrderByChangeSeq(long changeSeq, Limit limit);
+
+	/**
+	 * Retrieves the accounts of a customer as plain values instead of entities.
+	 * <p>
+	 * Every selected column is part of the customer index, so the rows are read from the index alone.
+	 * </p>
+	 *
+	 * @param customerId the customer ID
+	 * @return the accounts of the customer ordered by type and account ID
+	 */
+	@Query("SELECT a.accountId AS accountId, a.accountNumber AS accountNumber, a.accountType AS accountType, " +
+			"a.balance.minorUnits AS balanceMinor FROM Account a WHERE a.customerId = :customerId " +
+			"ORDER BY a.accountType, a.accountId")
+	List<CustomerAccount> findCustomerAccounts(@Param("customerId") Integer customerId);
 
 	/**
 	 * Checks if an account exists by customer ID.
@@ -27,38 +54,50 @@ public interface AccountRepository extends JpaRepository<Account, Integer> {
 	 * Updates the balance of an account by depositing an amount.
 	 *
 	 * @param accountId the account ID
-	 * @param amount    the amount to deposit
+	 * @param amount    the amount to deposit, in minor units
+	 * @return the number of updated rows, 0 if the account does not exist
 	 */
-	@Modifying
-	@Query("UPDATE Account a SET a.balance = a.balance + :amount WHERE a.accountId = :accountId")
-	void updateBalanceDeposit(@Param("accountId") Integer accountId, @Param("amount") Double amount);
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Account a SET a.balance.minorUnits = a.balance.minorUnits + :amount, a.version = a.version + 1 " +
+			"WHERE a.accountId = :accountId")
+	int updateBalanceDeposit(@Param("accountId") Integer accountId, @Param("amount") long amount);
 
 	/**
-	 * Updates the balance of an account by withdrawing an amount.
+	 * Withdraws an amount from an account only if the overdraft rules of its type allow it.
+	 * <p>
+	 * The funds check is part of the UPDATE itself, so concurrent withdrawals can not both pass a stale
+	 * check: savings accounts can not go below zero and checking accounts can not go below the overdraft limit.
+	 * </p>
 	 *
 	 * @param accountId the account ID
-	 * @param amount    the amount to withdraw
+	 * @param amount    the amount to withdraw, in minor units
+	 * @return the number of updated rows, 0 if the account does not exist or has insufficient funds
 	 */
-	@Modifying
-	@Query("UPDATE Account a SET a.balance = a.balance - :amount WHERE a.accountId = :accountId")
-	void updateBalanceWithdraw(@Param("accountId") Integer accountId, @Param("amount") Double amount);
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Account a SET a.balance.minorUnits = a.balance.minorUnits - :amount, a.version = a.version + 1 " +
+			"WHERE a.accountId = :accountId AND (" +
+			"(a.accountType = com.alessandragodoy.accountms.model.AccountType.SAVINGS AND " +
+			"a.balance.minorUnits >= :amount) OR " +
+			"(a.accountType = com.alessandragodoy.accountms.model.AccountType.CHECKING AND " +
+			"a.balance.minorUnits - :amount >= " + AccountValidation.CHECKING_OVERDRAFT_LIMIT + "))")
+	int withdrawIfSufficientFunds(@Param("accountId") Integer accountId, @Param("amount") long amount);
 
 	/**
-	 * Retrieves the balance of an account by account ID.
+	 * Finds an account by its account number.
 	 *
-	 * @param accountId the account ID
-	 * @return the balance of the account
+	 * @param accountNumber the account number
+	 * @return an Optional containing the account if found, or an empty Optional if not found
 	 */
-	@Query("SELECT a.balance FROM Account a WHERE a.accountId = :accountId")
-	Double getBalanceByAccountId(@Param("accountId") Integer accountId);
+	Optional<Account> findByAccountNumber(String accountNumber);
 
 	/**
-	 * Finds an account by its account number.
+	 * Finds the ID of an account by its account number without loading the entity.
 	 *
 	 * @param accountNumber the account number
-	 * @return an Optional containing the account if found, or an empty Optional if not found
+	 * @return an Optional containing the account ID if found, or an empty Optional if not found
 	 */
-	Optional<Account> findByAccountNumber(String accountNumber);
+	@Query("SELECT a.accountId FROM Account a WHERE a.accountNumber = :accountNumber")
+	Optional<Integer> findAccountIdByAccountNumber(@Param("accountNumber") String accountNumber);
 
 	/**
 	 * Checks if an account exists by its account number.
@@ -67,4 +106,17 @@ public interface AccountRepository extends JpaRepository<Account, Integer> {
 	 * @return true if an account exists, false otherwise
 	 */
 	boolean existsByAccountNumber(String accountNumber);
+
+	/**
+	 * Projection of an account of a customer, read without loading the entity.
+	 */
+	interface CustomerAccount {
+		Integer getAccountId();
+
+		String getAccountNumber();
+
+		AccountType getAccountType();
+
+		long getBalanceMinor();
+	}
 }
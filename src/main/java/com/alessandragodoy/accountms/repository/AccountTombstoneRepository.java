@@ -0,0 +1,24 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.AccountTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the AccountTombstone entity.
+ */
+@Repository
+public interface AccountTombstoneRepository extends JpaRepository<AccountTombstone, Integer> {
+
+	/**
+	 * Finds the accounts deleted after a point of the change sequence through its index.
+	 *
+	 * @param changeSeq the change sequence value to start after
+	 * @param limit     the maximum number of tombstones to return
+	 * @return the tombstones ordered by change sequence
+	 */
+	List<AccountTombstone> findByChangeSeqGreaterThanOrderByChangeSeq(long changeSeq, Limit limit);
+}
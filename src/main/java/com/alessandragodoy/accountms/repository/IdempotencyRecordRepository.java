@@ -0,0 +1,41 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for the IdempotencyRecord entity.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+	/**
+	 * Deletes a record if it has expired, so its key can be used again.
+	 *
+	 * @param idempotencyKey the key of the record
+	 * @param now            the current instant
+	 * @return the number of deleted records
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :idempotencyKey AND r.expiresAt <= :now")
+	int deleteIfExpired(@Param("idempotencyKey") String idempotencyKey, @Param("now") Instant now);
+
+	/**
+	 * Deletes every expired record through the index on the expiry instant.
+	 *
+	 * @param now the current instant
+	 * @return the number of deleted records
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,23 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.LedgerEntry;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Repository fragment for ledger reads that go straight to JDBC instead of through the entity manager.
+ */
+public interface LedgerEntryJdbcRepository {
+
+	/**
+	 * Reads the entries of an account created in a time range through a forward-only JDBC cursor, handing each
+	 * row to the consumer as it arrives instead of loading the whole range.
+	 *
+	 * @param accountId the ID of the account
+	 * @param from      the start of the range, inclusive
+	 * @param to        the end of the range, exclusive
+	 * @param consumer  receives every entry of the range, oldest first
+	 */
+	void forEachEntry(Integer accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer);
+}
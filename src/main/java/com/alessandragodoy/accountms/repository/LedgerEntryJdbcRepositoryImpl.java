@@ -0,0 +1,66 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of the {@link LedgerEntryJdbcRepository} fragment.
+ * <p>
+ * Hibernate stores the creation instants as UTC timestamps, so they are bound and read with a UTC calendar
+ * whatever the time zone of the JVM. Like the account stream, the cursor relies on the
+ * {@code useCursorFetch=true} data source property of the application properties for the fetch size to apply.
+ * </p>
+ */
+public class LedgerEntryJdbcRepositoryImpl implements LedgerEntryJdbcRepository {
+	private static final String SELECT_ENTRIES_SQL =
+			"SELECT entry_id, account_id, entry_type, amount_minor, balance_after_minor, created_at FROM ledger_entry " +
+					"WHERE account_id = ? AND created_at >= ? AND created_at < ? ORDER BY created_at, entry_id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int streamFetchSize;
+
+	public LedgerEntryJdbcRepositoryImpl(JdbcTemplate jdbcTemplate,
+										 @Value("${account.stream.fetch-size:1000}") int streamFetchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	@Override
+	public void forEachEntry(Integer accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer) {
+		Calendar utc = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(SELECT_ENTRIES_SQL, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(streamFetchSize);
+			ps.setInt(1, accountId);
+			ps.setTimestamp(2, Timestamp.from(from), utc);
+			ps.setTimestamp(3, Timestamp.from(to), utc);
+			return ps;
+		}, (RowCallbackHandler) rs -> consumer.accept(mapEntry(rs, utc)));
+	}
+
+	private static LedgerEntry mapEntry(ResultSet rs, Calendar utc) throws SQLException {
+		return LedgerEntry.builder()
+				.entryId(rs.getLong("entry_id"))
+				.accountId(rs.getInt("account_id"))
+				.entryType(LedgerEntryType.valueOf(rs.getString("entry_type")))
+				.amount(Money.ofMinor(rs.getLong("amount_minor")))
+				.balanceAfter(Money.ofMinor(rs.getLong("balance_after_minor")))
+				.createdAt(rs.getTimestamp("created_at", utc).toInstant())
+				.build();
+	}
+}
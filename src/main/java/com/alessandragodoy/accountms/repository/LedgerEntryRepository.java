@@ -0,0 +1,57 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for the LedgerEntry entity.
+ */
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long>, LedgerEntryJdbcRepository {
+
+	/**
+	 * Retrieves the most recent ledger entries of an account, newest first.
+	 * <p>
+	 * Served by a backward range scan of the {@code (account_id, created_at)} index that stops after the limit;
+	 * entry IDs only break ties, since pooled IDs are not handed out in time order.
+	 * </p>
+	 *
+	 * @param accountId the ID of the account
+	 * @param limit     the maximum number of entries to return
+	 * @return the latest entries of the account
+	 */
+	List<LedgerEntry> findByAccountIdOrderByCreatedAtDescEntryIdDesc(Integer accountId, Limit limit);
+
+	/**
+	 * Retrieves the balances left by the entries of an account created before an instant, latest first.
+	 *
+	 * @param accountId the ID of the account
+	 * @param instant   the instant the entries precede
+	 * @param limit     the maximum number of balances to return
+	 * @return the balances in minor units
+	 */
+	@Query("SELECT e.balanceAfter.minorUnits FROM LedgerEntry e WHERE e.accountId = :accountId " +
+			"AND e.createdAt < :instant ORDER BY e.createdAt DESC, e.entryId DESC")
+	List<Long> findBalancesAfterEntriesBefore(@Param("accountId") Integer accountId,
+											  @Param("instant") Instant instant, Limit limit);
+
+	/**
+	 * Retrieves the balances found by the entries of an account created at or after an instant, earliest first.
+	 *
+	 * @param accountId the ID of the account
+	 * @param instant   the instant the entries follow
+	 * @param limit     the maximum number of balances to return
+	 * @return the balances in minor units, as they stood right before each entry
+	 */
+	@Query("SELECT e.balanceAfter.minorUnits - e.amount.minorUnits FROM LedgerEntry e WHERE e.accountId = :accountId " +
+			"AND e.createdAt >= :instant ORDER BY e.createdAt, e.entryId")
+	List<Long> findBalancesBeforeEntriesFrom(@Param("accountId") Integer accountId,
+											 @Param("instant") Instant instant, Limit limit);
+}
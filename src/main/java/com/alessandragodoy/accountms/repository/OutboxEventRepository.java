@@ -0,0 +1,29 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the OutboxEvent entity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * Finds the oldest events waiting in the outbox and locks them until the transaction ends, so relays running
+	 * on other instances wait instead of publishing the same events out of order.
+	 *
+	 * @param limit the maximum number of events to return
+	 * @return the oldest events, in the order they were written
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT e FROM OutboxEvent e ORDER BY e.eventId")
+	List<OutboxEvent> findOldestForUpdate(Limit limit);
+}
@@ -0,0 +1,126 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC counterpart of {@link AccountRepository}, used by the reactive profile.
+ * <p>
+ * It only reads: changes to accounts are made by the blocking repository, together with their ledger entries,
+ * outbox events and change sequence stamps.
+ * </p>
+ */
+@Profile("reactive")
+@Repository
+public class ReactiveAccountRepository {
+	private static final String SELECT_ACCOUNTS_SQL =
+			"SELECT account_id, account_number, balance_minor, account_type, customer_id, version FROM account";
+
+	private final DatabaseClient databaseClient;
+
+	public ReactiveAccountRepository(DatabaseClient databaseClient) {
+		this.databaseClient = databaseClient;
+	}
+
+	/**
+	 * Retrieves the accounts that follow the given account ID, optionally filtered by customer and type.
+	 *
+	 * @param afterId     the last account ID of the previous page, 0 for the first page
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @param limit       the maximum number of accounts to return
+	 * @return the matching accounts ordered by account ID
+	 */
+	public Flux<Account> findPage(int afterId, Integer customerId, AccountType accountType, int limit) {
+		return select(afterId, customerId, accountType, " LIMIT " + limit);
+	}
+
+	/**
+	 * Streams every matching account, with the subscriber's demand propagated to the database cursor.
+	 *
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @return the matching accounts ordered by account ID
+	 */
+	public Flux<Account> findAll(Integer customerId, AccountType accountType) {
+		return select(0, customerId, accountType, "");
+	}
+
+	private Flux<Account> select(int afterId, Integer customerId, AccountType accountType, String limit) {
+		StringBuilder sql = new StringBuilder(SELECT_ACCOUNTS_SQL).append(" WHERE account_id > :afterId");
+		if (customerId != null) {
+			sql.append(" AND customer_id = :customerId");
+		}
+		if (accountType != null) {
+			sql.append(" AND account_type = :accountType");
+		}
+		sql.append(" ORDER BY account_id").append(limit);
+
+		DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("afterId", afterId);
+		if (customerId != null) {
+			spec = spec.bind("customerId", customerId);
+		}
+		if (accountType != null) {
+			spec = spec.bind("accountType", accountType.name());
+		}
+		return spec.map(ReactiveAccountRepository::mapAccount).all();
+	}
+
+	/**
+	 * Finds an account by its ID.
+	 *
+	 * @param accountId the account ID
+	 * @return the account, or empty if it does not exist
+	 */
+	public Mono<Account> findById(Integer accountId) {
+		return databaseClient.sql(SELECT_ACCOUNTS_SQL + " WHERE account_id = :accountId")
+				.bind("accountId", accountId)
+				.map(ReactiveAccountRepository::mapAccount)
+				.one();
+	}
+
+	/**
+	 * Finds an account by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return the account, or empty if it does not exist
+	 */
+	public Mono<Account> findByAccountNumber(String accountNumber) {
+		return databaseClient.sql(SELECT_ACCOUNTS_SQL + " WHERE account_number = :accountNumber")
+				.bind("accountNumber", accountNumber)
+				.map(ReactiveAccountRepository::mapAccount)
+				.one();
+	}
+
+	/**
+	 * Checks if an account exists by customer ID.
+	 *
+	 * @param customerId the customer ID
+	 * @return true if an account exists, false otherwise
+	 */
+	public Mono<Boolean> existsByCustomerId(Integer customerId) {
+		return databaseClient.sql("SELECT account_id FROM account WHERE customer_id = :customerId LIMIT 1")
+				.bind("customerId", customerId)
+				.map(row -> row.get("account_id", Integer.class))
+				.first()
+				.hasElement();
+	}
+
+	private static Account mapAccount(Readable row) {
+		return Account.builder()
+				.accountId(row.get("account_id", Integer.class))
+				.accountNumber(row.get("account_number", String.class))
+				.balance(Money.ofMinor(row.get("balance_minor", Long.class)))
+				.accountType(AccountType.valueOf(row.get("account_type", String.class)))
+				.customerId(row.get("customer_id", Integer.class))
+				.version(row.get("version", Long.class))
+				.build();
+	}
+}
@@ -0,0 +1,103 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.IdempotencyKeyReusedException;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import com.alessandragodoy.accountms.model.Money;
+
+/**
+ * Service interface for updating account balances, at most once per idempotency key.
+ */
+public interface AccountBalanceService {
+	/**
+	 * Deposits an amount into an account.
+	 *
+	 * @param accountId the ID of the account
+	 * @param amount    the amount to deposit
+	 * @return the updated account DTO
+	 * @throws AccountNotFoundException   if the account is not found
+	 * @throws AccountValidationException if the amount is invalid
+	 */
+	default AccountDTO deposit(Integer accountId, Money amount) {
+		return deposit(accountId, amount, null);
+	}
+
+	/**
+	 * Deposits an amount into an account at most once per idempotency key.
+	 * <p>
+	 * A request repeated with the same key is answered with the result of the first one, without depositing
+	 * again.
+	 * </p>
+	 *
+	 * @param accountId      the ID of the account
+	 * @param amount         the amount to deposit
+	 * @param idempotencyKey the key identifying the request, or null to deposit unconditionally
+	 * @return the updated account DTO
+	 * @throws AccountNotFoundException       if the account is not found
+	 * @throws AccountValidationException     if the amount or the key is invalid
+	 * @throws IdempotencyKeyReusedException if the key was already used for a different request
+	 */
+	AccountDTO deposit(Integer accountId, Money amount, String idempotencyKey);
+
+	/**
+	 * Withdraws an amount from an account.
+	 *
+	 * @param accountId the ID of the account
+	 * @param amount    the amount to withdraw
+	 * @return the updated account DTO
+	 * @throws AccountNotFoundException   if the account is not found
+	 * @throws AccountValidationException if the amount is invalid
+	 * @throws InsufficientFundsException if there are insufficient funds for the withdrawal
+	 */
+	default AccountDTO withdraw(Integer accountId, Money amount) {
+		return withdraw(accountId, amount, null);
+	}
+
+	/**
+	 * Withdraws an amount from an account at most once per idempotency key.
+	 * <p>
+	 * A request repeated with the same key is answered with the result of the first one, without withdrawing
+	 * again. Rejected withdrawals are not remembered, so they can be retried with the same key.
+	 * </p>
+	 *
+	 * @param accountId      the ID of the account
+	 * @param amount         the amount to withdraw
+	 * @param idempotencyKey the key identifying the request, or null to withdraw unconditionally
+	 * @return the updated account DTO
+	 * @throws AccountNotFoundException       if the account is not found
+	 * @throws AccountValidationException     if the amount or the key is invalid
+	 * @throws InsufficientFundsException     if there are insufficient funds for the withdrawal
+	 * @throws IdempotencyKeyReusedException if the key was already used for a different request
+	 */
+	AccountDTO withdraw(Integer accountId, Money amount, String idempotencyKey);
+
+	/**
+	 * Updates the balance of an account by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @param amount        the amount to update the balance by
+	 * @throws AccountNotFoundException if the account is not found
+	 */
+	default void updateBalanceByAccountNumber(String accountNumber, Money amount) {
+		updateBalanceByAccountNumber(accountNumber, amount, null);
+	}
+
+	/**
+	 * Updates the balance of an account by its account number at most once per idempotency key.
+	 * <p>
+	 * A request repeated with the same key is answered with the result of the first one, without updating the
+	 * balance again.
+	 * </p>
+	 *
+	 * @param accountNumber  the account number
+	 * @param amount         the amount to update the balance by
+	 * @param idempotencyKey the key identifying the request, or null to update unconditionally
+	 * @return the updated account DTO
+	 * @throws AccountNotFoundException       if the account is not found
+	 * @throws AccountValidationException     if the key is invalid
+	 * @throws IdempotencyKeyReusedException if the key was already used for a different request
+	 */
+	AccountDTO updateBalanceByAccountNumber(String accountNumber, Money amount, String idempotencyKey);
+}
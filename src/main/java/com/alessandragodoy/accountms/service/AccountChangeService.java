@@ -0,0 +1,20 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+
+/**
+ * Service interface for reading the account change feed.
+ */
+public interface AccountChangeService {
+	/**
+	 * Retrieves the accounts created, changed or deleted after a point of the change sequence, so a replica can
+	 * stay in sync without reading every account.
+	 *
+	 * @param since the cursor returned by the previous request, or -1 to start from the beginning
+	 * @param limit the maximum number of changes to return
+	 * @return the changes ordered by change sequence, and the cursor of the next request
+	 * @throws AccountValidationException if the limit is out of range
+	 */
+	AccountChangesDTO getChanges(long since, int limit);
+}
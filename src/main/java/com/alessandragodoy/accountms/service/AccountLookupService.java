@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.model.Money;
+
+/**
+ * Service interface for looking accounts up by account number.
+ */
+public interface AccountLookupService {
+	/**
+	 * Retrieves the balance of an account by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return the balance of the account
+	 * @throws AccountNotFoundException if the account is not found
+	 */
+	Money getAccountBalance(String accountNumber);
+
+	/**
+	 * Checks if an account exists by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return true if an account exists, false otherwise
+	 */
+	boolean accountExistsByAccountNumber(String accountNumber);
+}
@@ -0,0 +1,34 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.AccountType;
+
+import java.util.function.Consumer;
+
+/**
+ * Service interface for listing accounts page by page or as a stream.
+ */
+public interface AccountQueryService {
+	/**
+	 * Retrieves one page of accounts, optionally filtered by customer and type.
+	 *
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @param after       the cursor returned with the previous page, or null for the first page
+	 * @param limit       the maximum number of accounts in the page
+	 * @return the page of account DTOs and the cursor of the next page
+	 * @throws AccountValidationException if the limit is out of range
+	 */
+	AccountPageDTO getAccounts(Integer customerId, AccountType accountType, Integer after, int limit);
+
+	/**
+	 * Streams every matching account to the consumer without holding the whole result in memory.
+	 *
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @param consumer    receives every matching account DTO, ordered by account ID
+	 */
+	void streamAccounts(Integer customerId, AccountType accountType, Consumer<AccountDTO> consumer);
+}
@@ -5,21 +5,13 @@ import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
 import com.alessandragodoy.accountms.exception.AccountNotFoundException;
 import com.alessandragodoy.accountms.exception.AccountValidationException;
 import com.alessandragodoy.accountms.exception.CustomerNotFoundException;
-import com.alessandragodoy.accountms.exception.InsufficientFundsException;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service interface for managing accounts.
  */
 public interface AccountService {
-	/**
-	 * Retrieves all accounts.
-	 *
-	 * @return a list of all account DTOs
-	 */
-	List<AccountDTO> getAllAccounts();
-
 	/**
 	 * Retrieves an account by its ID.
 	 *
@@ -30,36 +22,15 @@ public interface AccountService {
 	AccountDTO getAccountById(Integer accountId);
 
 	/**
-	 * Creates a new account.
+	 * Creates a new account once the customer is confirmed to exist, without blocking the calling thread on the
+	 * Customer microservice.
 	 *
 	 * @param createAccountDTO the DTO containing account creation details
-	 * @return the created account DTO
-	 * @throws CustomerNotFoundException if the customer is not found
+	 * @return a future completed with the created account DTO, or failed with a {@link CustomerNotFoundException}
+	 * if the customer is not found
+	 * @throws AccountValidationException if the account data is invalid
 	 */
-	AccountDTO createAccount(CreateAccountDTO createAccountDTO);
-
-	/**
-	 * Deposits an amount into an account.
-	 *
-	 * @param accountId the ID of the account
-	 * @param amount    the amount to deposit
-	 * @return the updated account DTO
-	 * @throws AccountNotFoundException   if the account is not found
-	 * @throws AccountValidationException if the amount is invalid
-	 */
-	AccountDTO deposit(Integer accountId, Double amount);
-
-	/**
-	 * Withdraws an amount from an account.
-	 *
-	 * @param accountId the ID of the account
-	 * @param amount    the amount to withdraw
-	 * @return the updated account DTO
-	 * @throws AccountNotFoundException   if the account is not found
-	 * @throws AccountValidationException if the amount is invalid
-	 * @throws InsufficientFundsException if there are insufficient funds for the withdrawal
-	 */
-	AccountDTO withdraw(Integer accountId, Double amount);
+	CompletableFuture<AccountDTO> createAccount(CreateAccountDTO createAccountDTO);
 
 	/**
 	 * Deletes an account by its ID.
@@ -77,30 +48,4 @@ public interface AccountService {
 	 * @return true if an account exists, false otherwise
 	 */
 	boolean accountExists(Integer customerId);
-
-	/**
-	 * Retrieves the balance of an account by its account number.
-	 *
-	 * @param accountNumber the account number
-	 * @return the balance of the account
-	 * @throws AccountNotFoundException if the account is not found
-	 */
-	Double getAccountBalance(String accountNumber);
-
-	/**
-	 * Checks if an account exists by its account number.
-	 *
-	 * @param accountNumber the account number
-	 * @return true if an account exists, false otherwise
-	 */
-	boolean accountExistsByAccountNumber(String accountNumber);
-
-	/**
-	 * Updates the balance of an account by its account number.
-	 *
-	 * @param accountNumber the account number
-	 * @param amount        the amount to update the balance by
-	 * @throws AccountNotFoundException if the account is not found
-	 */
-	void updateBalanceByAccountNumber(String accountNumber, Double amount);
 }
@@ -0,0 +1,41 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.AccountStatementDTO;
+import com.alessandragodoy.accountms.controller.dto.StatementEntryDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for reading account statements from the ledger.
+ */
+public interface AccountStatementService {
+	/**
+	 * Retrieves the opening and closing balances of an account statement.
+	 * <p>
+	 * The statement ends at the given instant or now, whichever comes first, so its closing balance can not
+	 * be overtaken by movements streamed afterwards.
+	 * </p>
+	 *
+	 * @param accountId the ID of the account
+	 * @param from      the start of the statement, inclusive
+	 * @param to        the end of the statement, exclusive, or null for now
+	 * @return the statement balances with the range they apply to
+	 * @throws AccountNotFoundException   if the account is not found
+	 * @throws AccountValidationException if the range is empty
+	 */
+	AccountStatementDTO getStatement(Integer accountId, Instant from, Instant to);
+
+	/**
+	 * Streams the movements of an account in a time range to the consumer without holding them in memory.
+	 *
+	 * @param accountId the ID of the account
+	 * @param from      the start of the range, inclusive
+	 * @param to        the end of the range, exclusive
+	 * @param consumer  receives every movement of the range, oldest first
+	 * @throws AccountValidationException if the range is empty
+	 */
+	void streamStatement(Integer accountId, Instant from, Instant to, Consumer<StatementEntryDTO> consumer);
+}
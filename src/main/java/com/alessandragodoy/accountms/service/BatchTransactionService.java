@@ -0,0 +1,23 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionResultDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+
+/**
+ * Service interface for applying many balance changes at once.
+ */
+public interface BatchTransactionService {
+	/**
+	 * Applies a batch of deposits and withdrawals in a single transaction.
+	 * <p>
+	 * In all-or-nothing mode a single rejected transaction rolls back the whole batch; in best-effort mode the
+	 * rejected transactions are skipped and the rest are committed.
+	 * </p>
+	 *
+	 * @param request the batch mode and the transactions to apply
+	 * @return the outcome of every transaction
+	 * @throws AccountValidationException if the batch or any of its transactions is malformed
+	 */
+	BatchTransactionResultDTO applyBatch(BatchTransactionRequestDTO request);
+}
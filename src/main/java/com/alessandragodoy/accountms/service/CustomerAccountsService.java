@@ -0,0 +1,17 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.CustomerAccountsDTO;
+
+/**
+ * Service interface for reading the accounts of a customer in one request.
+ */
+public interface CustomerAccountsService {
+	/**
+	 * Retrieves every account of a customer together with the number of accounts and the total balance of each
+	 * account type, so a client needs a single request instead of one per account.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return the accounts and totals of the customer, empty if the customer has no accounts
+	 */
+	CustomerAccountsDTO getCustomerAccounts(Integer customerId);
+}
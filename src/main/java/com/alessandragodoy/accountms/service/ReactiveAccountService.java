@@ -0,0 +1,78 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking, read-only variant of {@link AccountService}, used by the reactive profile.
+ * <p>
+ * Every operation has the semantics of its {@link AccountService} counterpart; failures are signalled with the
+ * same exceptions instead of being thrown.
+ * </p>
+ * <p>
+ * Account and balance changes are not offered: they must write the ledger, the outbox, the change sequence and
+ * the idempotency records in the transaction that makes them, and keep the balance cache current, which only
+ * the servlet stack does. Deployments on the reactive profile therefore serve reads, and route every change to
+ * instances on the default profile.
+ * </p>
+ */
+public interface ReactiveAccountService {
+	/**
+	 * Retrieves one page of accounts, optionally filtered by customer and type.
+	 *
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @param after       the cursor returned with the previous page, or null for the first page
+	 * @param limit       the maximum number of accounts in the page
+	 * @return the page of account DTOs and the cursor of the next page, or an {@link AccountValidationException}
+	 * if the limit is out of range
+	 */
+	Mono<AccountPageDTO> getAccounts(Integer customerId, AccountType accountType, Integer after, int limit);
+
+	/**
+	 * Streams every matching account as fast as the subscriber consumes them.
+	 *
+	 * @param customerId  the customer ID to filter by, or null for every customer
+	 * @param accountType the account type to filter by, or null for every type
+	 * @return every matching account DTO, ordered by account ID
+	 */
+	Flux<AccountDTO> streamAccounts(Integer customerId, AccountType accountType);
+
+	/**
+	 * Retrieves an account by its ID.
+	 *
+	 * @param accountId the ID of the account
+	 * @return the account DTO, or an {@link AccountNotFoundException} if the account is not found
+	 */
+	Mono<AccountDTO> getAccountById(Integer accountId);
+
+	/**
+	 * Checks if an account exists for a given customer ID.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return true if an account exists, false otherwise
+	 */
+	Mono<Boolean> accountExists(Integer customerId);
+
+	/**
+	 * Retrieves the balance of an account by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return the balance of the account, or an {@link AccountNotFoundException} if the account is not found
+	 */
+	Mono<Money> getAccountBalance(String accountNumber);
+
+	/**
+	 * Checks if an account exists by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return true if an account exists, false otherwise
+	 */
+	Mono<Boolean> accountExistsByAccountNumber(String accountNumber);
+}
@@ -0,0 +1,27 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.controller.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferResultDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+
+/**
+ * Service interface for moving money between accounts.
+ */
+public interface TransferService {
+	/**
+	 * Moves an amount from one account to another in a single transaction.
+	 * <p>
+	 * The source account is debited under the same overdraft rules as a withdrawal; if it is rejected, nothing
+	 * is credited either.
+	 * </p>
+	 *
+	 * @param request the accounts and the amount of the transfer
+	 * @return both accounts after the transfer
+	 * @throws AccountValidationException if the amount is not positive or both accounts are the same
+	 * @throws AccountNotFoundException   if either account is not found
+	 * @throws InsufficientFundsException if the source account can not cover the amount
+	 */
+	TransferResultDTO transfer(TransferRequestDTO request);
+}
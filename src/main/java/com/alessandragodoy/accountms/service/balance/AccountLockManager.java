@@ -0,0 +1,147 @@
+package com.alessandragodoy.accountms.service.balance;
+
+import com.alessandragodoy.accountms.configuration.AccountLockProperties;
+import com.alessandragodoy.accountms.exception.AccountBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks that serialize balance updates to the same account within this JVM.
+ * <p>
+ * Each account ID maps to one of a fixed number of stripes, so updates to the same account queue up here
+ * instead of at the database row lock, while updates to different accounts run in parallel unless they happen
+ * to share a stripe. Waiting is bounded by a timeout, and the queue depth of every stripe is published as a
+ * gauge.
+ * </p>
+ */
+@Component
+public class AccountLockManager {
+	private final ReentrantLock[] stripes;
+	private final int mask;
+	private final long timeoutNanos;
+	private final Timer waitTimer;
+	private final Counter timeouts;
+
+	public AccountLockManager(AccountLockProperties lockProperties, MeterRegistry meterRegistry) {
+		int size = lockProperties.stripes() <= 1 ? 1 : Integer.highestOneBit(lockProperties.stripes() - 1) << 1;
+		this.stripes = new ReentrantLock[size];
+		this.mask = size - 1;
+		this.timeoutNanos = lockProperties.timeout().toNanos();
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+			Gauge.builder("account.lock.queue.depth", stripes[i], ReentrantLock::getQueueLength)
+					.description("Threads waiting for an account lock stripe")
+					.tag("stripe", String.valueOf(i))
+					.register(meterRegistry);
+		}
+		Gauge.builder("account.lock.queue.depth.max", this, manager -> manager.maxQueueDepth())
+				.description("Longest queue across all account lock stripes")
+				.register(meterRegistry);
+		this.waitTimer = Timer.builder("account.lock.wait")
+				.description("Time spent waiting for an account lock stripe")
+				.register(meterRegistry);
+		this.timeouts = Counter.builder("account.lock.timeouts")
+				.description("Account lock acquisitions that timed out")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Runs the action while holding the lock stripe of the given account.
+	 *
+	 * @param accountId the ID of the account to lock
+	 * @param action    the work to run under the lock
+	 * @param <T>       the result type of the action
+	 * @return the result of the action
+	 * @throws AccountBusyException if the stripe could not be acquired before the timeout
+	 */
+	public <T> T withLock(Integer accountId, Supplier<T> action) {
+		ReentrantLock lock = stripes[stripeIndex(accountId)];
+		acquire(lock, accountId);
+		try {
+			return action.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Runs the action while holding the lock stripes of all the given accounts.
+	 * <p>
+	 * Stripes are acquired in ascending stripe order, so two callers locking overlapping accounts can not wait
+	 * for each other; accounts that share a stripe take it only once.
+	 * </p>
+	 *
+	 * @param accountIds the IDs of the accounts to lock
+	 * @param action     the work to run under the locks
+	 * @param <T>        the result type of the action
+	 * @return the result of the action
+	 * @throws AccountBusyException if any stripe could not be acquired before the timeout
+	 */
+	public <T> T withLocks(Collection<Integer> accountIds, Supplier<T> action) {
+		SortedMap<Integer, Integer> accountByStripe = new TreeMap<>();
+		accountIds.forEach(accountId -> accountByStripe.putIfAbsent(stripeIndex(accountId), accountId));
+		Deque<ReentrantLock> held = new ArrayDeque<>(accountByStripe.size());
+		try {
+			accountByStripe.forEach((stripe, accountId) -> {
+				acquire(stripes[stripe], accountId);
+				held.push(stripes[stripe]);
+			});
+			return action.get();
+		} finally {
+			held.forEach(ReentrantLock::unlock);
+		}
+	}
+
+	/**
+	 * Returns the number of threads currently waiting on each stripe.
+	 *
+	 * @return the queue depth per stripe, indexed by stripe number
+	 */
+	public int[] queueDepths() {
+		return Arrays.stream(stripes).mapToInt(ReentrantLock::getQueueLength).toArray();
+	}
+
+	private int maxQueueDepth() {
+		return Arrays.stream(stripes).mapToInt(ReentrantLock::getQueueLength).max().orElse(0);
+	}
+
+	/**
+	 * Maps an account ID to a stripe, spreading consecutive IDs across the table.
+	 *
+	 * @param accountId the ID of the account
+	 * @return the stripe index
+	 */
+	private int stripeIndex(Integer accountId) {
+		int hash = accountId.hashCode() * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private void acquire(ReentrantLock lock, Integer accountId) {
+		long start = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccountBusyException("Interrupted while waiting to update account " + accountId + ".");
+		}
+		waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		if (!acquired) {
+			timeouts.increment();
+			throw new AccountBusyException("Account " + accountId + " is busy, try again later.");
+		}
+	}
+}
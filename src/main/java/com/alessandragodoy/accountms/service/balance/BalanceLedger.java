@@ -0,0 +1,120 @@
+package com.alessandragodoy.accountms.service.balance;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.LedgerEntryRepository;
+import com.alessandragodoy.accountms.service.outbox.AccountEventOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Appends balance changes to the ledger as part of the transaction that makes them.
+ * <p>
+ * Entries are only persisted here; Hibernate writes them when the transaction flushes, together with the
+ * other pending inserts as one JDBC batch. A balance change therefore costs the ledger a single round trip,
+ * however many entries it produces, and the entries roll back with the change if it fails. Statements read
+ * the entries back through range seeks and a cursor, never by scanning the whole history of an account.
+ * Every entry is also announced as a balance change through the {@link AccountEventOutbox}, in the same
+ * transaction.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+@RequiredArgsConstructor
+public class BalanceLedger {
+	private final LedgerEntryRepository ledgerEntryRepository;
+	private final AccountEventOutbox accountEventOutbox;
+
+	/**
+	 * Records a change to an account that has already been applied.
+	 *
+	 * @param account   the account as it stands after the change
+	 * @param entryType the kind of change
+	 * @param amount    the signed amount added to the balance, negative for withdrawals
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void record(Account account, LedgerEntryType entryType, Money amount) {
+		LedgerEntry entry = entry(account.getAccountId(), entryType, amount, account.getBalance());
+		ledgerEntryRepository.save(entry);
+		accountEventOutbox.balanceChanged(Map.of(account.getAccountId(), account), List.of(entry));
+	}
+
+	/**
+	 * Records several changes at once, in the given order.
+	 *
+	 * @param accounts the changed accounts
+	 * @param entries  the entries to append
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordAll(Collection<Account> accounts, List<LedgerEntry> entries) {
+		ledgerEntryRepository.saveAll(entries);
+		accountEventOutbox.balanceChanged(accounts.stream()
+				.collect(Collectors.toMap(Account::getAccountId, Function.identity())), entries);
+	}
+
+	/**
+	 * Finds the balance of an account at an instant with at most two index seeks, however long its history.
+	 * <p>
+	 * That is the balance left by the last entry before the instant; without one, the balance found by the first
+	 * entry from the instant on; and without either, nothing has changed the account since, so its current
+	 * balance.
+	 * </p>
+	 *
+	 * @param accountId      the ID of the account
+	 * @param instant        the instant to find the balance at
+	 * @param currentBalance the balance of the account now
+	 * @return the balance at the instant
+	 */
+	public Money balanceAt(Integer accountId, Instant instant, Money currentBalance) {
+		return ledgerEntryRepository.findBalancesAfterEntriesBefore(accountId, instant, Limit.of(1)).stream()
+				.findFirst()
+				.or(() -> ledgerEntryRepository.findBalancesBeforeEntriesFrom(accountId, instant, Limit.of(1)).stream()
+						.findFirst())
+				.map(Money::ofMinor)
+				.orElse(currentBalance);
+	}
+
+	/**
+	 * Streams the entries of an account created in a time range, oldest first, without holding them in memory.
+	 *
+	 * @param accountId the ID of the account
+	 * @param from      the start of the range, inclusive
+	 * @param to        the end of the range, exclusive
+	 * @param consumer  receives every entry of the range
+	 */
+	public void forEachEntry(Integer accountId, Instant from, Instant to, Consumer<LedgerEntry> consumer) {
+		ledgerEntryRepository.forEachEntry(accountId, from, to, consumer);
+	}
+
+	/**
+	 * Builds a ledger entry.
+	 *
+	 * @param accountId    the ID of the account
+	 * @param entryType    the kind of change
+	 * @param amount       the signed amount added to the balance
+	 * @param balanceAfter the balance right after the change
+	 * @return the entry, not yet recorded
+	 */
+	public static LedgerEntry entry(Integer accountId, LedgerEntryType entryType, Money amount, Money balanceAfter) {
+		return LedgerEntry.builder()
+				.accountId(accountId)
+				.entryType(entryType)
+				.amount(amount)
+				.balanceAfter(balanceAfter)
+				.build();
+	}
+}
@@ -0,0 +1,127 @@
+package com.alessandragodoy.accountms.service.balance;
+
+import com.alessandragodoy.accountms.configuration.BalanceRetryProperties;
+import com.alessandragodoy.accountms.exception.AccountBusyException;
+import com.alessandragodoy.accountms.exception.BalanceConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs balance mutations in their own transaction and retries them when a concurrent writer wins.
+ * <p>
+ * Accounts carry a version column, so a read-modify-write that loses a race fails on commit instead of
+ * silently overwriting the other update. Conflicts and deadlocks are retried with jittered exponential backoff
+ * up to the configured number of attempts, which is cheaper than holding row locks for accounts that see
+ * little contention. Attempts for the same account are serialized in-process by the {@link AccountLockManager},
+ * so most conflicts never reach the database.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class BalanceMutationEngine {
+	private static final Logger LOGGER = LoggerFactory.getLogger(BalanceMutationEngine.class);
+
+	private final TransactionTemplate transactionTemplate;
+	private final AccountLockManager lockManager;
+	private final BalanceRetryProperties retryProperties;
+	private final Counter conflicts;
+	private final Counter retries;
+	private final Counter exhausted;
+
+	public BalanceMutationEngine(PlatformTransactionManager transactionManager, AccountLockManager lockManager,
+								 BalanceRetryProperties retryProperties, MeterRegistry meterRegistry) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.lockManager = lockManager;
+		this.retryProperties = retryProperties;
+		this.conflicts = Counter.builder("account.balance.conflicts")
+				.description("Balance mutations that failed because of a concurrent update")
+				.register(meterRegistry);
+		this.retries = Counter.builder("account.balance.retries")
+				.description("Balance mutations retried after a concurrent update")
+				.register(meterRegistry);
+		this.exhausted = Counter.builder("account.balance.retries.exhausted")
+				.description("Balance mutations abandoned after the last retry")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Executes the mutation in a new transaction while holding the lock of the account, retrying it on
+	 * optimistic locking conflicts and deadlocks.
+	 * <p>
+	 * The mutation must re-read everything it depends on, since each attempt runs against a fresh
+	 * persistence context.
+	 * </p>
+	 *
+	 * @param accountId the ID of the account the mutation updates
+	 * @param mutation  the work to run inside the transaction
+	 * @param <T>       the result type of the mutation
+	 * @return the result of the first attempt that commits
+	 * @throws BalanceConflictException if every attempt failed because of concurrent updates
+	 * @throws AccountBusyException     if the account lock could not be acquired in time
+	 */
+	public <T> T execute(Integer accountId, Supplier<T> mutation) {
+		return lockManager.withLock(accountId, () -> executeWithRetries(mutation));
+	}
+
+	/**
+	 * Executes a mutation of several accounts in one new transaction while holding the locks of all of them,
+	 * retrying it like {@link #execute(Integer, Supplier)}.
+	 *
+	 * @param accountIds the IDs of the accounts the mutation updates
+	 * @param mutation   the work to run inside the transaction
+	 * @param <T>        the result type of the mutation
+	 * @return the result of the first attempt that commits
+	 * @throws BalanceConflictException if every attempt failed because of concurrent updates
+	 * @throws AccountBusyException     if any account lock could not be acquired in time
+	 */
+	public <T> T execute(Collection<Integer> accountIds, Supplier<T> mutation) {
+		return lockManager.withLocks(accountIds, () -> executeWithRetries(mutation));
+	}
+
+	private <T> T executeWithRetries(Supplier<T> mutation) {
+		long backoffNanos = retryProperties.initialBackoff().toNanos();
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> mutation.get());
+			} catch (ConcurrencyFailureException e) {
+				conflicts.increment();
+				if (attempt >= retryProperties.maxAttempts()) {
+					exhausted.increment();
+					throw new BalanceConflictException("Balance update could not be applied after " + attempt +
+							" attempts because of concurrent updates.");
+				}
+				LOGGER.debug("Balance mutation conflict on attempt {}, retrying: {}", attempt, e.getMessage());
+				retries.increment();
+				pause(backoffNanos);
+				backoffNanos = Math.min((long) (backoffNanos * retryProperties.multiplier()),
+						retryProperties.maxBackoff().toNanos());
+			}
+		}
+	}
+
+	/**
+	 * Sleeps for a random duration between half and all of the given backoff, so retrying writers spread out.
+	 *
+	 * @param backoffNanos the current backoff
+	 */
+	private static void pause(long backoffNanos) {
+		long jittered = backoffNanos / 2 + ThreadLocalRandom.current().nextLong(backoffNanos / 2 + 1);
+		try {
+			Thread.sleep(jittered / 1_000_000, (int) (jittered % 1_000_000));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BalanceConflictException("Balance update interrupted while waiting to retry.");
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.alessandragodoy.accountms.service.balance;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes the deposits merged by the {@link DepositCoalescer} into one account with a single UPDATE.
+ * <p>
+ * The write runs through the {@link BalanceMutationEngine}; every merged deposit still gets its own ledger
+ * entry, and the cached balance is replaced once the transaction commits.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+@RequiredArgsConstructor
+public class DepositBatchWriter {
+	private final AccountRepository accountRepository;
+	private final BalanceMutationEngine balanceMutationEngine;
+	private final BalanceLedger balanceLedger;
+	private final AccountBalanceCache balanceCache;
+
+	/**
+	 * Adds the merged deposits to the balance of an account in one transaction.
+	 *
+	 * @param accountId the ID of the account
+	 * @param amounts   the merged deposits in minor units, in the order they were accepted
+	 * @return the account as it stood right after each deposit, in the same order
+	 * @throws AccountNotFoundException if the account is not found
+	 */
+	public List<AccountDTO> write(Integer accountId, long[] amounts) {
+		long total = Arrays.stream(amounts).sum();
+		Account account = balanceMutationEngine.execute(accountId, () -> {
+			if (accountRepository.updateBalanceDeposit(accountId, total) == 0) {
+				throw new AccountNotFoundException("Deposit can not continue. Account not found for ID: " +
+						accountId);
+			}
+			Account updated = accountRepository.findById(accountId).orElseThrow(() -> new AccountNotFoundException(
+					"Deposit can not continue. Account not found for ID: " + accountId));
+			balanceLedger.recordAll(List.of(updated),
+					ledgerEntries(accountId, amounts, updated.getBalance().minorUnits() - total));
+			balanceCache.putAfterCommit(updated);
+			return updated;
+		});
+		List<AccountDTO> results = new ArrayList<>(amounts.length);
+		long balance = account.getBalance().minorUnits() - total;
+		for (long amount : amounts) {
+			balance += amount;
+			results.add(new AccountDTO(account.getAccountId(), account.getAccountNumber(), Money.ofMinor(balance),
+					account.getAccountType(), account.getCustomerId()));
+		}
+		return results;
+	}
+
+	/**
+	 * Builds one ledger entry per merged deposit, each with the balance right after that deposit.
+	 *
+	 * @param accountId      the ID of the account
+	 * @param amounts        the merged deposits in minor units, in the order they were accepted
+	 * @param openingBalance the balance before the batch, in minor units
+	 * @return the ledger entries of the batch
+	 */
+	private static List<LedgerEntry> ledgerEntries(Integer accountId, long[] amounts, long openingBalance) {
+		List<LedgerEntry> entries = new ArrayList<>(amounts.length);
+		long balance = openingBalance;
+		for (long amount : amounts) {
+			balance += amount;
+			entries.add(BalanceLedger.entry(accountId, LedgerEntryType.DEPOSIT, Money.ofMinor(amount),
+					Money.ofMinor(balance)));
+		}
+		return entries;
+	}
+}
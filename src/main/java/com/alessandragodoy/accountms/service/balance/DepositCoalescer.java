@@ -0,0 +1,256 @@
+package com.alessandragodoy.accountms.service.balance;
+
+import com.alessandragodoy.accountms.configuration.DepositCoalescingProperties;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountBusyException;
+import com.alessandragodoy.accountms.model.Money;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline stage that merges concurrent deposits into the same account into a single UPDATE.
+ * <p>
+ * The first deposit for an account opens a short window; deposits arriving before it closes, up to the
+ * configured batch size, are written together. Every caller still receives the balance that resulted from its
+ * own deposit, in arrival order. The number of waiting deposits is bounded so callers are rejected instead of
+ * queueing without limit, and pending deposits are flushed before the application shuts down.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class DepositCoalescer implements SmartLifecycle, MeterBinder {
+	private static final Logger LOGGER = LoggerFactory.getLogger(DepositCoalescer.class);
+
+	private final DepositBatchWriter depositBatchWriter;
+	private final DepositCoalescingProperties properties;
+	private final Semaphore pendingPermits;
+	private final Map<Integer, PendingCredits> pendingByAccount = new ConcurrentHashMap<>();
+	private DistributionSummary batchSizes;
+	private ScheduledExecutorService flusher;
+	private volatile boolean running;
+
+	public DepositCoalescer(DepositBatchWriter depositBatchWriter, DepositCoalescingProperties properties) {
+		this.depositBatchWriter = depositBatchWriter;
+		this.properties = properties;
+		this.pendingPermits = new Semaphore(properties.maxPending());
+	}
+
+	/**
+	 * Registers the meters of the pipeline; Spring binds it once the registry is ready, before the pipeline
+	 * starts.
+	 *
+	 * @param meterRegistry the registry to register the meters with
+	 */
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		this.batchSizes = DistributionSummary.builder("account.deposit.coalesced.batch.size")
+				.description("Deposits merged into a single balance update")
+				.register(meterRegistry);
+		Gauge.builder("account.deposit.coalesced.pending", pendingPermits,
+						permits -> properties.maxPending() - permits.availablePermits())
+				.description("Deposits waiting to be written")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Indicates whether deposits should be routed through this pipeline.
+	 *
+	 * @return true if coalescing is enabled
+	 */
+	public boolean isEnabled() {
+		return properties.enabled();
+	}
+
+	/**
+	 * Queues a deposit to be written together with other pending deposits into the same account.
+	 *
+	 * @param accountId the ID of the account
+	 * @param amount    the amount to deposit
+	 * @return a future completed with the account as it stood right after this deposit
+	 * @throws AccountBusyException if the pipeline is stopped or has no room before the submit timeout
+	 */
+	public CompletableFuture<AccountDTO> submit(Integer accountId, Money amount) {
+		if (!running) {
+			throw new AccountBusyException("Deposit pipeline is not accepting deposits.");
+		}
+		acquirePermit();
+		PendingCredit credit = new PendingCredit(amount.minorUnits(), new CompletableFuture<>());
+		while (true) {
+			PendingCredits queue = pendingByAccount.computeIfAbsent(accountId, id -> new PendingCredits());
+			switch (queue.add(credit, properties.maxBatchSize())) {
+				case RETIRED -> {
+					pendingByAccount.remove(accountId, queue);
+					continue;
+				}
+				case SCHEDULE -> schedule(accountId, queue, properties.window().toNanos());
+				case FLUSH_NOW -> schedule(accountId, queue, 0);
+				default -> {
+				}
+			}
+			return credit.result();
+		}
+	}
+
+	private void acquirePermit() {
+		try {
+			if (!pendingPermits.tryAcquire(properties.submitTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+				throw new AccountBusyException("Deposit pipeline is saturated, try again later.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccountBusyException("Interrupted while waiting for the deposit pipeline.");
+		}
+	}
+
+	/**
+	 * Schedules a flush of the queue, or flushes it on the calling thread if the flusher is shutting down,
+	 * so an accepted deposit is never left behind.
+	 *
+	 * @param accountId  the ID of the account
+	 * @param queue      the queue of the account
+	 * @param delayNanos how long to wait before the flush
+	 */
+	private void schedule(Integer accountId, PendingCredits queue, long delayNanos) {
+		try {
+			flusher.schedule(() -> flush(accountId, queue), delayNanos, TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			flush(accountId, queue);
+		}
+	}
+
+	private void flush(Integer accountId, PendingCredits queue) {
+		List<PendingCredit> batch = queue.drain(properties.maxBatchSize());
+		while (!batch.isEmpty()) {
+			apply(accountId, batch);
+			batch = queue.drain(properties.maxBatchSize());
+		}
+		pendingByAccount.remove(accountId, queue);
+	}
+
+	/**
+	 * Writes one batch of deposits with a single UPDATE and hands every caller its own resulting balance.
+	 *
+	 * @param accountId the ID of the account
+	 * @param batch     the deposits to write
+	 */
+	private void apply(Integer accountId, List<PendingCredit> batch) {
+		try {
+			List<AccountDTO> results = depositBatchWriter.write(accountId,
+					batch.stream().mapToLong(PendingCredit::amount).toArray());
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).result().complete(results.get(i));
+			}
+			batchSizes.record(batch.size());
+		} catch (RuntimeException e) {
+			batch.forEach(credit -> credit.result().completeExceptionally(e));
+		} finally {
+			pendingPermits.release(batch.size());
+		}
+	}
+
+	@Override
+	public void start() {
+		if (properties.enabled()) {
+			flusher = Executors.newScheduledThreadPool(properties.flushThreads());
+			running = true;
+		}
+	}
+
+	/**
+	 * Stops accepting deposits and writes everything still pending before returning.
+	 */
+	@Override
+	public void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		flusher.shutdown();
+		try {
+			if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+				LOGGER.warn("Deposit flusher did not terminate in time, flushing remaining deposits inline.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		pendingByAccount.forEach(this::flush);
+		LOGGER.info("Deposit pipeline stopped with all pending deposits written.");
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Starts before and stops after the embedded web server, so no request can submit to a stopped pipeline
+	 * that still has unwritten deposits.
+	 */
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	private enum AddResult {
+		SCHEDULE, FLUSH_NOW, QUEUED, RETIRED
+	}
+
+	private record PendingCredit(long amount, CompletableFuture<AccountDTO> result) {
+	}
+
+	/**
+	 * Deposits waiting to be written for one account.
+	 */
+	private static final class PendingCredits {
+		private final List<PendingCredit> credits = new ArrayList<>();
+		private boolean flushScheduled;
+		private boolean retired;
+
+		synchronized AddResult add(PendingCredit credit, int maxBatchSize) {
+			if (retired) {
+				return AddResult.RETIRED;
+			}
+			credits.add(credit);
+			if (!flushScheduled) {
+				flushScheduled = true;
+				return AddResult.SCHEDULE;
+			}
+			return credits.size() == maxBatchSize ? AddResult.FLUSH_NOW : AddResult.QUEUED;
+		}
+
+		/**
+		 * Takes up to maxBatchSize deposits; once the queue is empty it is retired so a new one takes its place.
+		 *
+		 * @param maxBatchSize the most deposits to take
+		 * @return the deposits taken, or an empty list once the queue is retired
+		 */
+		synchronized List<PendingCredit> drain(int maxBatchSize) {
+			if (credits.isEmpty()) {
+				retired = true;
+				return List.of();
+			}
+			List<PendingCredit> head = credits.subList(0, Math.min(maxBatchSize, credits.size()));
+			List<PendingCredit> batch = new ArrayList<>(head);
+			head.clear();
+			return batch;
+		}
+	}
+}
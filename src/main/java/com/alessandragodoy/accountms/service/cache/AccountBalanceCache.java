@@ -0,0 +1,101 @@
+package com.alessandragodoy.accountms.service.cache;
+
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
+import com.alessandragodoy.accountms.model.Account;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of account balances keyed by account number.
+ * <p>
+ * Writers publish the state they committed instead of letting the next reader reload it, and only once their
+ * transaction has committed, so a rolled back change is never served. Entries carry the entity version and an
+ * older snapshot never replaces a newer one, which keeps concurrent writers that finish out of order from
+ * reverting a balance. Writes and loads of the same key are serialized by the cache, so a load that read the
+ * row before a commit can not overwrite what that commit published. Other nodes' changes are only seen once
+ * the entry expires.
+ * </p>
+ */
+@Component
+public class AccountBalanceCache {
+	private final Cache<String, BalanceSnapshot> cache;
+
+	public AccountBalanceCache(AccountCacheProperties properties, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.maximumSize())
+				.expireAfterWrite(properties.timeToLive())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "account.balance");
+	}
+
+	/**
+	 * Returns the cached snapshot of an account, loading it on a miss.
+	 * <p>
+	 * Unknown account numbers are not cached, so an account created afterwards is found right away.
+	 * </p>
+	 *
+	 * @param accountNumber the account number
+	 * @param loader        reads the account from the database
+	 * @return the snapshot of the account, or empty if it does not exist
+	 */
+	public Optional<BalanceSnapshot> get(String accountNumber, Function<String, Optional<Account>> loader) {
+		return Optional.ofNullable(cache.get(accountNumber,
+				number -> loader.apply(number).map(BalanceSnapshot::of).orElse(null)));
+	}
+
+	/**
+	 * Publishes the state of an account once the current transaction commits, or right away outside of one.
+	 * <p>
+	 * The snapshot is taken after the commit, so versions incremented on flush are already applied.
+	 * </p>
+	 *
+	 * @param account the account whose state to publish
+	 */
+	public void putAfterCommit(Account account) {
+		afterCommit(() -> {
+			BalanceSnapshot snapshot = BalanceSnapshot.of(account);
+			cache.asMap().merge(snapshot.accountNumber(), snapshot, BalanceSnapshot::newest);
+		});
+	}
+
+	/**
+	 * Removes an account once the current transaction commits, or right away outside of one.
+	 *
+	 * @param accountNumber the account number
+	 */
+	public void evictAfterCommit(String accountNumber) {
+		afterCommit(() -> cache.invalidate(accountNumber));
+	}
+
+	/**
+	 * Returns the hit, miss and eviction statistics of the cache.
+	 *
+	 * @return the cache statistics
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,283 @@
+package com.alessandragodoy.accountms.service.cache;
+
+import com.alessandragodoy.accountms.configuration.AccountNumberFilterProperties;
+import com.alessandragodoy.accountms.configuration.AccountNumberProperties;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Negative-lookup filter over every account number.
+ * <p>
+ * Once built, a number the filter rules out is known not to exist and the lookup skips the database. Until
+ * the first build completes, or when disabled, every number is reported as possibly present. The filter is
+ * built in the background from a streaming scan of the account table and swapped in whole, so rebuilding
+ * never blocks lookups. Numbers created while a rebuild is running are added to both filters; deletions only
+ * reach the filter in use once they commit, which can only leave a false positive behind.
+ * </p>
+ * <p>
+ * Removing a number the filter never held would decrement counters shared with numbers it does hold and turn
+ * them into false negatives, so a deletion is only applied to the filter that was in use when the account was
+ * deleted, and only for numbers issued before that filter was built; anything else is left as a false positive
+ * until the next rebuild.
+ * </p>
+ * <p>
+ * Other instances create accounts this filter never hears of, so a negative answer is only trusted for numbers
+ * issued before the filter was built. A build first reads the shared sequence value, then waits out the maximum
+ * block age and the settle time before scanning: by then every number below that value has been issued and
+ * committed, so the scan sees it. Numbers at or above the value are always let through to the database.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class AccountNumberFilter {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AccountNumberFilter.class);
+
+	private final AccountRepository accountRepository;
+	private final AccountNumberGenerator numberGenerator;
+	private final AccountNumberFilterProperties properties;
+	private final long scanDelay;
+	private final ScheduledExecutorService rebuilder;
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+	private final Counter definiteMisses;
+	private final Counter falsePositives;
+	private volatile Built active;
+	private volatile CountingBloomFilter building;
+
+	public AccountNumberFilter(AccountRepository accountRepository, AccountNumberGenerator numberGenerator,
+							   AccountNumberFilterProperties properties, AccountNumberProperties numberProperties,
+							   MeterRegistry meterRegistry) {
+		this.accountRepository = accountRepository;
+		this.numberGenerator = numberGenerator;
+		this.properties = properties;
+		this.scanDelay = numberProperties.blockMaxAge().plus(properties.settleTime()).toMillis();
+		this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "account-number-filter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.definiteMisses = Counter.builder("account.number.filter.negatives")
+				.description("Account number lookups answered by the filter without the database")
+				.register(meterRegistry);
+		this.falsePositives = Counter.builder("account.number.filter.false.positives")
+				.description("Account numbers the filter let through that did not exist")
+				.register(meterRegistry);
+		Gauge.builder("account.number.filter.false.positive.rate", this, AccountNumberFilter::expectedFalsePositiveRate)
+				.description("Expected false positive rate for the number of accounts held")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Builds the filter once the application is ready and schedules the periodic rebuilds.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		if (!properties.enabled()) {
+			return;
+		}
+		long interval = properties.rebuildInterval().toMillis();
+		if (interval > 0) {
+			rebuilder.scheduleWithFixedDelay(this::rebuildNow, 0, interval, TimeUnit.MILLISECONDS);
+		} else {
+			rebuilder.execute(this::rebuildNow);
+		}
+	}
+
+	/**
+	 * Starts a rebuild in the background unless one is already running.
+	 *
+	 * @return true if a rebuild was started
+	 */
+	public boolean rebuild() {
+		if (!properties.enabled() || !rebuilding.compareAndSet(false, true)) {
+			return false;
+		}
+		rebuilder.execute(this::startBuild);
+		return true;
+	}
+
+	/**
+	 * Tells whether an account number may exist.
+	 *
+	 * @param accountNumber the account number
+	 * @return false if the account number definitely does not exist, true if it may
+	 */
+	public boolean mightContain(String accountNumber) {
+		Built built = active;
+		if (built == null || AccountNumberGenerator.payloadOf(accountNumber) >= built.issuedBelow() ||
+				built.filter().mightContain(accountNumber)) {
+			return true;
+		}
+		definiteMisses.increment();
+		return false;
+	}
+
+	/**
+	 * Records that a number the filter let through turned out not to exist.
+	 */
+	public void recordFalsePositive() {
+		if (active != null) {
+			falsePositives.increment();
+		}
+	}
+
+	/**
+	 * Adds the number of an account that has just been stored.
+	 *
+	 * @param accountNumber the account number
+	 */
+	public void add(String accountNumber) {
+		// Reading the filter being built first means a rebuild that swaps in between is still covered.
+		CountingBloomFilter next = building;
+		Built current = active;
+		if (next != null) {
+			next.add(accountNumber);
+		}
+		if (current != null && current.filter() != next) {
+			current.filter().add(accountNumber);
+		}
+	}
+
+	/**
+	 * Removes the number of a deleted account once the current transaction commits, or right away outside of
+	 * one; removing it earlier would report a still existing account as missing if the delete rolled back.
+	 *
+	 * @param accountNumber the account number
+	 */
+	public void removeAfterCommit(String accountNumber) {
+		Built current = active;
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			remove(current, accountNumber);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				remove(current, accountNumber);
+			}
+		});
+	}
+
+	/**
+	 * Removes the number of a deleted account from the filter that was in use when it was deleted, provided that
+	 * filter is still in use and held the number: numbers issued at or above its sequence value may have been
+	 * created by another instance and never added, and a filter swapped in since may have been scanned after
+	 * the row was gone.
+	 *
+	 * @param deletedFrom   the filter in use when the account was deleted, or null if none was built yet
+	 * @param accountNumber the account number
+	 */
+	private void remove(Built deletedFrom, String accountNumber) {
+		if (deletedFrom == null || active != deletedFrom ||
+				AccountNumberGenerator.payloadOf(accountNumber) >= deletedFrom.issuedBelow()) {
+			return;
+		}
+		deletedFrom.filter().remove(accountNumber);
+	}
+
+	/**
+	 * Returns the current state of the filter.
+	 *
+	 * @return the filter statistics
+	 */
+	public Stats stats() {
+		Built built = active;
+		if (built == null) {
+			return new Stats(false, rebuilding.get(), 0, 0, 0, 1.0, (long) definiteMisses.count(),
+					(long) falsePositives.count());
+		}
+		CountingBloomFilter filter = built.filter();
+		return new Stats(true, rebuilding.get(), filter.approximateSize(), filter.counters(),
+				filter.hashFunctions(), filter.expectedFalsePositiveRate(), (long) definiteMisses.count(),
+				(long) falsePositives.count());
+	}
+
+	private double expectedFalsePositiveRate() {
+		Built built = active;
+		return built == null ? 1.0 : built.filter().expectedFalsePositiveRate();
+	}
+
+	private void rebuildNow() {
+		if (rebuilding.compareAndSet(false, true)) {
+			startBuild();
+		}
+	}
+
+	/**
+	 * Reads the shared sequence value and schedules the scan once every number below it has been committed.
+	 */
+	private void startBuild() {
+		try {
+			long issuedBelow = numberGenerator.nextUnreserved();
+			rebuilder.schedule(() -> build(issuedBelow), scanDelay, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Account number filter rebuild failed, keeping the previous filter", e);
+			rebuilding.set(false);
+		}
+	}
+
+	private void build(long issuedBelow) {
+		try {
+			long start = System.nanoTime();
+			CountingBloomFilter next = new CountingBloomFilter(properties.expectedInsertions(),
+					properties.falsePositiveRate());
+			building = next;
+			accountRepository.forEachAccount(null, null, account -> next.add(account.getAccountNumber()));
+			active = new Built(next, issuedBelow);
+			LOGGER.info("Account number filter built with {} accounts in {} ms", next.approximateSize(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		} catch (RuntimeException e) {
+			LOGGER.warn("Account number filter rebuild failed, keeping the previous filter", e);
+		} finally {
+			building = null;
+			rebuilding.set(false);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		rebuilder.shutdownNow();
+	}
+
+	/**
+	 * A built filter, published together with the sequence value below which its negative answers hold.
+	 *
+	 * @param filter      the filter
+	 * @param issuedBelow the shared sequence value read before the scan; numbers generated from lower values
+	 *                    were all committed when the scan started
+	 */
+	private record Built(CountingBloomFilter filter, long issuedBelow) {
+	}
+
+	/**
+	 * State of the filter.
+	 *
+	 * @param ready                     whether lookups are answered by the filter yet
+	 * @param rebuilding                whether a rebuild is running
+	 * @param accounts                  the approximate number of account numbers held
+	 * @param counters                  the number of counters of the filter
+	 * @param hashFunctions             the number of counters touched per account number
+	 * @param expectedFalsePositiveRate the expected false positive rate for the accounts held
+	 * @param definiteMisses            the lookups answered without the database
+	 * @param falsePositives            the lookups let through for numbers that did not exist
+	 */
+	public record Stats(boolean ready, boolean rebuilding, long accounts, long counters, int hashFunctions,
+						double expectedFalsePositiveRate, long definiteMisses, long falsePositives) {
+	}
+}
@@ -0,0 +1,40 @@
+package com.alessandragodoy.accountms.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint to inspect and rebuild the account number filter.
+ */
+@Profile("!reactive")
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "accountNumberFilter")
+public class AccountNumberFilterEndpoint {
+	private final AccountNumberFilter accountNumberFilter;
+
+	/**
+	 * Returns the current state of the filter.
+	 *
+	 * @return the filter statistics
+	 */
+	@ReadOperation
+	public AccountNumberFilter.Stats stats() {
+		return accountNumberFilter.stats();
+	}
+
+	/**
+	 * Rebuilds the filter from the database in the background.
+	 *
+	 * @return the filter statistics, flagged as rebuilding if a rebuild was started
+	 */
+	@WriteOperation
+	public AccountNumberFilter.Stats rebuild() {
+		accountNumberFilter.rebuild();
+		return accountNumberFilter.stats();
+	}
+}
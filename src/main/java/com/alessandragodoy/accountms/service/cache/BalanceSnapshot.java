@@ -0,0 +1,37 @@
+package com.alessandragodoy.accountms.service.cache;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.Money;
+
+/**
+ * Immutable view of an account balance as of a given entity version.
+ *
+ * @param accountId     the ID of the account
+ * @param accountNumber the account number
+ * @param balance       the balance at that version
+ * @param version       the entity version the balance was read at
+ */
+public record BalanceSnapshot(Integer accountId, String accountNumber, Money balance, long version) {
+
+	/**
+	 * Captures the current state of an account.
+	 *
+	 * @param account the account to capture
+	 * @return the snapshot of the account
+	 */
+	public static BalanceSnapshot of(Account account) {
+		return new BalanceSnapshot(account.getAccountId(), account.getAccountNumber(), account.getBalance(),
+				account.getVersion());
+	}
+
+	/**
+	 * Picks the most recent of two snapshots of the same account.
+	 *
+	 * @param current   the snapshot currently cached
+	 * @param candidate the snapshot being written
+	 * @return the candidate unless the cached snapshot is newer
+	 */
+	static BalanceSnapshot newest(BalanceSnapshot current, BalanceSnapshot candidate) {
+		return candidate.version() >= current.version() ? candidate : current;
+	}
+}
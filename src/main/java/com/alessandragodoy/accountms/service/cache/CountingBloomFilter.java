@@ -0,0 +1,189 @@
+package com.alessandragodoy.accountms.service.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counting Bloom filter over strings.
+ * <p>
+ * Each slot is a 4-bit counter packed sixteen to a {@code long}, so keys can be removed as well as added. A
+ * counter that reaches its maximum stays there, which can only turn a later removal into a false positive,
+ * never into a false negative.
+ * </p>
+ */
+public final class CountingBloomFilter {
+	private static final int COUNTER_BITS = 4;
+	private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+	private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+	private static final double LN2 = Math.log(2);
+
+	private final AtomicLongArray words;
+	private final long counters;
+	private final int hashFunctions;
+	private final LongAdder size = new LongAdder();
+
+	/**
+	 * Sizes the filter for the expected number of keys at the target false positive rate.
+	 *
+	 * @param expectedInsertions the number of keys the filter is expected to hold
+	 * @param falsePositiveRate  the target false positive rate at that size, between 0 and 1
+	 */
+	public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+		}
+		long insertions = Math.max(1, expectedInsertions);
+		long optimalCounters = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+		this.words = new AtomicLongArray(Math.toIntExact((optimalCounters + COUNTERS_PER_WORD - 1) /
+				COUNTERS_PER_WORD));
+		this.counters = (long) words.length() * COUNTERS_PER_WORD;
+		this.hashFunctions = Math.max(1, (int) Math.round((double) counters / insertions * LN2));
+	}
+
+	/**
+	 * Adds a key.
+	 *
+	 * @param key the key to add
+	 */
+	public void add(String key) {
+		long hash1 = hash(key);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashFunctions; i++) {
+			increment(Math.floorMod(hash1 + i * hash2, counters));
+		}
+		size.increment();
+	}
+
+	/**
+	 * Removes a key previously added. Keys the filter already rules out are ignored, but a key that was never
+	 * added and only collides with added keys would still decrement their counters and hide them, so callers
+	 * must only remove keys they know were added.
+	 *
+	 * @param key the key to remove
+	 */
+	public void remove(String key) {
+		if (!mightContain(key)) {
+			return;
+		}
+		long hash1 = hash(key);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashFunctions; i++) {
+			decrement(Math.floorMod(hash1 + i * hash2, counters));
+		}
+		size.decrement();
+	}
+
+	/**
+	 * Tells whether a key may have been added.
+	 *
+	 * @param key the key to look up
+	 * @return false if the key was definitely never added, true if it may have been
+	 */
+	public boolean mightContain(String key) {
+		long hash1 = hash(key);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashFunctions; i++) {
+			if (count(Math.floorMod(hash1 + i * hash2, counters)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Estimates the false positive rate for the number of keys currently held.
+	 *
+	 * @return the expected probability that an absent key is reported as present
+	 */
+	public double expectedFalsePositiveRate() {
+		double keys = Math.max(0, size.sum());
+		return Math.pow(1 - Math.exp(-hashFunctions * keys / counters), hashFunctions);
+	}
+
+	/**
+	 * Returns the number of keys added and not removed since the filter was created.
+	 *
+	 * @return the approximate number of keys held
+	 */
+	public long approximateSize() {
+		return size.sum();
+	}
+
+	/**
+	 * Returns the number of counters of the filter.
+	 *
+	 * @return the number of counters
+	 */
+	public long counters() {
+		return counters;
+	}
+
+	/**
+	 * Returns the number of counters touched per key.
+	 *
+	 * @return the number of hash functions
+	 */
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	private long count(long index) {
+		int shift = shift(index);
+		return (words.get(word(index)) >>> shift) & MAX_COUNT;
+	}
+
+	private void increment(long index) {
+		int word = word(index);
+		int shift = shift(index);
+		long current;
+		do {
+			current = words.get(word);
+			if (((current >>> shift) & MAX_COUNT) == MAX_COUNT) {
+				return;
+			}
+		} while (!words.compareAndSet(word, current, current + (1L << shift)));
+	}
+
+	private void decrement(long index) {
+		int word = word(index);
+		int shift = shift(index);
+		long current;
+		do {
+			current = words.get(word);
+			long count = (current >>> shift) & MAX_COUNT;
+			if (count == 0 || count == MAX_COUNT) {
+				return;
+			}
+		} while (!words.compareAndSet(word, current, current - (1L << shift)));
+	}
+
+	private static int word(long index) {
+		return (int) (index / COUNTERS_PER_WORD);
+	}
+
+	private static int shift(long index) {
+		return (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+	}
+
+	/**
+	 * FNV-1a over the characters of the key, finished with a bit mixer so the double hashing below gets
+	 * independent-looking halves.
+	 *
+	 * @param key the key to hash
+	 * @return the 64-bit hash of the key
+	 */
+	private static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+		return mixed ^ (mixed >>> 31);
+	}
+}
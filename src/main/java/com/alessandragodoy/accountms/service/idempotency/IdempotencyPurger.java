@@ -0,0 +1,74 @@
+package com.alessandragodoy.accountms.service.idempotency;
+
+import com.alessandragodoy.accountms.configuration.IdempotencyProperties;
+import com.alessandragodoy.accountms.repository.IdempotencyRecordRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes the expired keys of the {@link IdempotencyStore} from the database in the background.
+ * <p>
+ * Expired keys are already ignored when looked up, so the purge only keeps the {@code idempotency_record} table
+ * from growing; a failed run is retried on the next one.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class IdempotencyPurger {
+	private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyPurger.class);
+
+	private final IdempotencyRecordRepository idempotencyRecordRepository;
+	private final IdempotencyProperties properties;
+	private final ScheduledExecutorService purger;
+
+	public IdempotencyPurger(IdempotencyRecordRepository idempotencyRecordRepository,
+							 IdempotencyProperties properties) {
+		this.idempotencyRecordRepository = idempotencyRecordRepository;
+		this.properties = properties;
+		this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "idempotency-purger");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Schedules the periodic purge of expired keys once the application is ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void schedulePurge() {
+		long interval = properties.purgeInterval().toMillis();
+		if (interval > 0) {
+			purger.scheduleWithFixedDelay(this::purge, interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Deletes the expired keys from the database.
+	 */
+	public void purge() {
+		try {
+			int purged = idempotencyRecordRepository.deleteExpired(Instant.now());
+			if (purged > 0) {
+				LOGGER.debug("Purged {} expired idempotency keys", purged);
+			}
+		} catch (RuntimeException e) {
+			LOGGER.warn("Purging expired idempotency keys failed, retrying on the next run", e);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		purger.shutdownNow();
+	}
+}
@@ -0,0 +1,206 @@
+package com.alessandragodoy.accountms.service.idempotency;
+
+import com.alessandragodoy.accountms.configuration.IdempotencyProperties;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.IdempotencyKeyReusedException;
+import com.alessandragodoy.accountms.model.IdempotencyRecord;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the results of balance updates made with an idempotency key, so a retried request is answered
+ * with the original result instead of being applied again.
+ * <p>
+ * Results are kept in a bounded in-memory map in front of the {@code idempotency_record} table. A retry that
+ * reaches the same instance is answered from memory; otherwise it costs one primary key lookup. The record is
+ * written in the transaction of the update itself, so an update and its record commit or roll back together.
+ * Keys expire after the configured time to live: the memory entry is evicted at that instant and the row is
+ * purged in the background by the {@link IdempotencyPurger}.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class IdempotencyStore {
+	private static final int MAX_KEY_LENGTH = 100;
+
+	private final IdempotencyRecordRepository idempotencyRecordRepository;
+	private final IdempotencyProperties properties;
+	private final Cache<String, StoredResult> results;
+
+	public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+							IdempotencyProperties properties, MeterRegistry meterRegistry) {
+		this.idempotencyRecordRepository = idempotencyRecordRepository;
+		this.properties = properties;
+		this.results = Caffeine.newBuilder()
+				.maximumSize(properties.maximumSize())
+				.expireAfter(new UntilExpiry())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, results, "account.idempotency");
+	}
+
+	/**
+	 * Describes a request, so a key sent again with a different request can be told apart from a retry.
+	 *
+	 * @param operation the name of the operation
+	 * @param target    the account the operation applies to
+	 * @param amount    the amount of the operation
+	 * @return the description of the request
+	 */
+	public static String describe(String operation, Object target, Money amount) {
+		return operation + " " + target + " " + amount;
+	}
+
+	/**
+	 * Runs a balance update unless a request with the same idempotency key already ran it.
+	 * <p>
+	 * The update stores its result under the key in its own transaction. When two requests with the same key
+	 * race past the lookup, the second insert of the key fails and rolls back its update; that request is then
+	 * answered with the result the first one committed.
+	 * </p>
+	 *
+	 * @param idempotencyKey the key sent with the request, or null to run the update unconditionally
+	 * @param request        the description of the request
+	 * @param update         runs the update and remembers its result
+	 * @return the result of the update, or of the earlier request with the same key
+	 * @throws AccountValidationException     if the key is blank or too long
+	 * @throws IdempotencyKeyReusedException if the key was used for a different request
+	 */
+	public AccountDTO execute(String idempotencyKey, String request, Supplier<AccountDTO> update) {
+		if (idempotencyKey == null) {
+			return update.get();
+		}
+		Optional<AccountDTO> stored = find(idempotencyKey, request);
+		if (stored.isPresent()) {
+			return stored.get();
+		}
+		try {
+			return update.get();
+		} catch (DataIntegrityViolationException e) {
+			return find(idempotencyKey, request).orElseThrow(() -> e);
+		}
+	}
+
+	/**
+	 * Finds the result of an earlier request made with the same key.
+	 *
+	 * @param idempotencyKey the key sent with the request
+	 * @param request        the description of the request
+	 * @return the stored result, or empty if the key has not been used or has expired
+	 * @throws AccountValidationException     if the key is blank or too long
+	 * @throws IdempotencyKeyReusedException if the key was used for a different request
+	 */
+	public Optional<AccountDTO> find(String idempotencyKey, String request) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new AccountValidationException("The Idempotency-Key header must have between 1 and " +
+					MAX_KEY_LENGTH + " characters.");
+		}
+		StoredResult stored = results.getIfPresent(idempotencyKey);
+		if (stored == null) {
+			stored = load(idempotencyKey);
+		}
+		if (stored == null) {
+			return Optional.empty();
+		}
+		if (!stored.request().equals(request)) {
+			throw new IdempotencyKeyReusedException("Idempotency key " + idempotencyKey + " was already used " +
+					"for a different request.");
+		}
+		return Optional.of(stored.result());
+	}
+
+	private StoredResult load(String idempotencyKey) {
+		Instant now = Instant.now();
+		Optional<IdempotencyRecord> found = idempotencyRecordRepository.findById(idempotencyKey);
+		if (found.isEmpty()) {
+			return null;
+		}
+		IdempotencyRecord record = found.get();
+		if (!record.getExpiresAt().isAfter(now)) {
+			// Not purged yet; deleting it now lets the key be used again right away.
+			idempotencyRecordRepository.deleteIfExpired(idempotencyKey, now);
+			return null;
+		}
+		StoredResult stored = new StoredResult(record.getRequest(), new AccountDTO(record.getAccountId(),
+				record.getAccountNumber(), record.getBalance(), record.getAccountType(), record.getCustomerId()),
+				record.getExpiresAt());
+		results.put(idempotencyKey, stored);
+		return stored;
+	}
+
+	/**
+	 * Stores the result of a request in the current transaction; nothing is stored without a key.
+	 * <p>
+	 * The result becomes visible in memory only once the transaction commits.
+	 * </p>
+	 *
+	 * @param idempotencyKey the key sent with the request, or null
+	 * @param request        the description of the request
+	 * @param result         the result to answer retries with
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void remember(String idempotencyKey, String request, AccountDTO result) {
+		if (idempotencyKey == null) {
+			return;
+		}
+		Instant expiresAt = Instant.now().plus(properties.timeToLive());
+		idempotencyRecordRepository.save(IdempotencyRecord.builder()
+				.idempotencyKey(idempotencyKey)
+				.request(request)
+				.accountId(result.accountId())
+				.accountNumber(result.accountNumber())
+				.balance(result.balance())
+				.accountType(result.accountType())
+				.customerId(result.customerId())
+				.expiresAt(expiresAt)
+				.build());
+		StoredResult stored = new StoredResult(request, result, expiresAt);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				results.put(idempotencyKey, stored);
+			}
+		});
+	}
+
+	private record StoredResult(String request, AccountDTO result, Instant expiresAt) {
+	}
+
+	/**
+	 * Keeps every result in memory until the instant its key expires, however late it was loaded.
+	 */
+	private static final class UntilExpiry implements Expiry<String, StoredResult> {
+		@Override
+		public long expireAfterCreate(String key, StoredResult value, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, StoredResult value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, StoredResult value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
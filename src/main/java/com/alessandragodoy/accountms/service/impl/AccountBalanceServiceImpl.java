@@ -0,0 +1,129 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.AccountBalanceService;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.balance.BalanceMutationEngine;
+import com.alessandragodoy.accountms.service.balance.DepositCoalescer;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.idempotency.IdempotencyStore;
+import com.alessandragodoy.accountms.utility.AccountMapper;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Implementation of the AccountBalanceService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceServiceImpl implements AccountBalanceService {
+	private final AccountRepository accountRepository;
+	private final BalanceMutationEngine balanceMutationEngine;
+	private final BalanceLedger balanceLedger;
+	private final DepositCoalescer depositCoalescer;
+	private final AccountBalanceCache balanceCache;
+	private final IdempotencyStore idempotencyStore;
+
+	@Override
+	public AccountDTO deposit(Integer accountId, Money amount, String idempotencyKey) {
+		AccountValidation.validateAmount(amount);
+		String request = IdempotencyStore.describe("deposit", accountId, amount);
+
+		return idempotencyStore.execute(idempotencyKey, request, () -> {
+			// Keyed deposits skip coalescing, so each one commits together with its own idempotency record.
+			if (idempotencyKey == null && depositCoalescer.isEnabled()) {
+				return await(depositCoalescer.submit(accountId, amount));
+			}
+			return balanceMutationEngine.execute(accountId, () -> {
+				if (accountRepository.updateBalanceDeposit(accountId, amount.minorUnits()) == 0) {
+					throw BalanceUpdateErrors.depositAccountNotFound(accountId);
+				}
+				Account account = accountRepository.findById(accountId)
+						.orElseThrow(() -> BalanceUpdateErrors.depositAccountNotFound(accountId));
+				balanceLedger.record(account, LedgerEntryType.DEPOSIT, amount);
+				balanceCache.putAfterCommit(account);
+				AccountDTO result = AccountMapper.toDTO(account);
+				idempotencyStore.remember(idempotencyKey, request, result);
+				return result;
+			});
+		});
+	}
+
+	@Override
+	public AccountDTO withdraw(Integer accountId, Money amount, String idempotencyKey) {
+		AccountValidation.validateAmount(amount);
+		String request = IdempotencyStore.describe("withdraw", accountId, amount);
+
+		return idempotencyStore.execute(idempotencyKey, request, () -> balanceMutationEngine.execute(accountId, () -> {
+			if (accountRepository.withdrawIfSufficientFunds(accountId, amount.minorUnits()) == 0) {
+				throw BalanceUpdateErrors.rejectedWithdrawal(accountRepository, accountId, amount);
+			}
+			Account account = accountRepository.findById(accountId)
+					.orElseThrow(() -> BalanceUpdateErrors.withdrawAccountNotFound(accountId));
+			balanceLedger.record(account, LedgerEntryType.WITHDRAWAL, amount.negate());
+			balanceCache.putAfterCommit(account);
+			AccountDTO result = AccountMapper.toDTO(account);
+			idempotencyStore.remember(idempotencyKey, request, result);
+			return result;
+		}));
+	}
+
+	@Override
+	public AccountDTO updateBalanceByAccountNumber(String accountNumber, Money amount, String idempotencyKey) {
+		String request = IdempotencyStore.describe("updateBalance", accountNumber, amount);
+
+		return idempotencyStore.execute(idempotencyKey, request, () -> {
+			Integer accountId = accountRepository.findAccountIdByAccountNumber(accountNumber)
+					.orElseThrow(() -> updateAccountNotFound(accountNumber));
+
+			if (idempotencyKey == null && amount.isPositive() && depositCoalescer.isEnabled()) {
+				return await(depositCoalescer.submit(accountId, amount));
+			}
+			return balanceMutationEngine.execute(accountId, () -> {
+				Account account = accountRepository.findById(accountId)
+						.orElseThrow(() -> updateAccountNotFound(accountNumber));
+				account.setBalance(account.getBalance().plus(amount));
+				Account saved = accountRepository.save(account);
+				balanceLedger.record(saved, LedgerEntryType.ADJUSTMENT, amount);
+				balanceCache.putAfterCommit(saved);
+				AccountDTO result = AccountMapper.toDTO(saved);
+				idempotencyStore.remember(idempotencyKey, request, result);
+				return result;
+			});
+		});
+	}
+
+	private static AccountNotFoundException updateAccountNotFound(String accountNumber) {
+		return new AccountNotFoundException("Account not found for number: " + accountNumber +
+				"can not update balance.");
+	}
+
+	/**
+	 * Waits for a pipelined operation and rethrows its failure as thrown by the pipeline.
+	 *
+	 * @param future the pending result
+	 * @param <T>    the result type
+	 * @return the result once available
+	 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.service.AccountChangeService;
+import com.alessandragodoy.accountms.service.changes.AccountChangeFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the AccountChangeService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class AccountChangeServiceImpl implements AccountChangeService {
+	private static final int MAX_PAGE_SIZE = 1_000;
+
+	private final AccountChangeFeed accountChangeFeed;
+
+	@Override
+	public AccountChangesDTO getChanges(long since, int limit) {
+		if (limit < 1 || limit > MAX_PAGE_SIZE) {
+			throw new AccountValidationException("The page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+		}
+		return accountChangeFeed.changesSince(since, limit);
+	}
+}
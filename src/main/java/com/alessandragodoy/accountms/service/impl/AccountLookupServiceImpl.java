@@ -0,0 +1,62 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.AccountLookupService;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.AccountNumberFilter;
+import com.alessandragodoy.accountms.service.cache.BalanceSnapshot;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementation of the AccountLookupService interface.
+ * <p>
+ * Lookups are answered from the {@link AccountNumberFilter} and the {@link AccountBalanceCache} before the
+ * database.
+ * </p>
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class AccountLookupServiceImpl implements AccountLookupService {
+	private final AccountRepository accountRepository;
+	private final AccountBalanceCache balanceCache;
+	private final AccountNumberFilter accountNumberFilter;
+
+	@Override
+	public Money getAccountBalance(String accountNumber) {
+		return findByAccountNumber(accountNumber)
+				.map(BalanceSnapshot::balance)
+				.orElseThrow(() ->
+						new AccountNotFoundException("Account " + accountNumber + " not found, can not get balance."));
+	}
+
+	@Override
+	public boolean accountExistsByAccountNumber(String accountNumber) {
+		return findByAccountNumber(accountNumber).isPresent();
+	}
+
+	/**
+	 * Looks an account up by number, answering malformed numbers and numbers the filter rules out without the
+	 * cache or the database.
+	 *
+	 * @param accountNumber the account number
+	 * @return the snapshot of the account, or empty if it does not exist
+	 */
+	private Optional<BalanceSnapshot> findByAccountNumber(String accountNumber) {
+		if (!AccountNumberGenerator.isPlausible(accountNumber) || !accountNumberFilter.mightContain(accountNumber)) {
+			return Optional.empty();
+		}
+		Optional<BalanceSnapshot> snapshot = balanceCache.get(accountNumber, accountRepository::findByAccountNumber);
+		if (snapshot.isEmpty()) {
+			accountNumberFilter.recordFalsePositive();
+		}
+		return snapshot;
+	}
+}
@@ -0,0 +1,116 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.exception.AccountBusyException;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.BalanceConflictException;
+import com.alessandragodoy.accountms.exception.CustomerNotFoundException;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.alessandragodoy.accountms.exception.IdempotencyKeyReusedException;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the account operations for the metering decorators of the account services.
+ * <p>
+ * Every operation is timed as {@code account.operation}, tagged with the operation name and its outcome, so
+ * latency percentiles and error rates can be read per endpoint. Rejected withdrawals are also counted as
+ * {@code account.insufficient.funds} by account type, and lookups of missing accounts as
+ * {@code account.not.found}.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class AccountOperationMeter {
+	private final MeterRegistry meterRegistry;
+
+	public AccountOperationMeter(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Runs an operation and records its latency and outcome.
+	 *
+	 * @param operation the name of the operation
+	 * @param call      runs the operation
+	 * @param <T>       the result type
+	 * @return the result of the operation
+	 */
+	public <T> T timed(String operation, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			T result = call.get();
+			record(operation, start, null);
+			return result;
+		} catch (RuntimeException e) {
+			record(operation, start, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts an asynchronous operation and records its latency and outcome once its future completes.
+	 *
+	 * @param operation the name of the operation
+	 * @param call      starts the operation
+	 * @param <T>       the result type
+	 * @return the future result of the operation
+	 */
+	public <T> CompletableFuture<T> timedAsync(String operation, Supplier<CompletableFuture<T>> call) {
+		long start = System.nanoTime();
+		CompletableFuture<T> pending;
+		try {
+			pending = call.get();
+		} catch (RuntimeException e) {
+			record(operation, start, e);
+			throw e;
+		}
+		return pending.whenComplete((result, error) -> record(operation, start,
+				error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+	}
+
+	/**
+	 * Records a finished operation, counting rejected withdrawals and missing accounts on the side.
+	 *
+	 * @param operation  the name of the operation
+	 * @param startNanos when the operation started
+	 * @param error      the failure of the operation, or null if it succeeded
+	 */
+	private void record(String operation, long startNanos, Throwable error) {
+		Timer.builder("account.operation")
+				.description("Latency of the account operations")
+				.tags("operation", operation, "outcome", outcome(error))
+				.register(meterRegistry)
+				.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+		if (error instanceof InsufficientFundsException e) {
+			meterRegistry.counter("account.insufficient.funds", "operation", operation, "type",
+					e.getAccountType() == null ? "unknown" : e.getAccountType().name()).increment();
+		} else if (error instanceof AccountNotFoundException) {
+			meterRegistry.counter("account.not.found", "operation", operation).increment();
+		}
+	}
+
+	private static String outcome(Throwable error) {
+		return switch (error) {
+			case null -> "success";
+			case InsufficientFundsException e -> "insufficient_funds";
+			case AccountNotFoundException e -> "not_found";
+			case CustomerNotFoundException e -> "customer_not_found";
+			case AccountValidationException e -> "invalid";
+			case ExternalServiceException e -> "customer_service_unavailable";
+			case BalanceConflictException e -> "conflict";
+			case AccountBusyException e -> "busy";
+			case IdempotencyKeyReusedException e -> "idempotency_key_reused";
+			default -> "error";
+		};
+	}
+}
@@ -0,0 +1,50 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.AccountQueryService;
+import com.alessandragodoy.accountms.utility.AccountMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the AccountQueryService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class AccountQueryServiceImpl implements AccountQueryService {
+	private static final int MAX_PAGE_SIZE = 1_000;
+
+	private final AccountRepository accountRepository;
+
+	@Override
+	public AccountPageDTO getAccounts(Integer customerId, AccountType accountType, Integer after, int limit) {
+		if (limit < 1 || limit > MAX_PAGE_SIZE) {
+			throw new AccountValidationException("The page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+		}
+
+		// One extra row tells whether another page follows without a separate count query.
+		List<Account> rows = accountRepository.findPage(after == null ? 0 : after, customerId, accountType,
+				Limit.of(limit + 1));
+		List<AccountDTO> page = rows.stream().limit(limit).map(AccountMapper::toDTO).toList();
+		Integer nextCursor = rows.size() > limit ? page.get(page.size() - 1).accountId() : null;
+
+		return new AccountPageDTO(page, nextCursor);
+	}
+
+	@Override
+	public void streamAccounts(Integer customerId, AccountType accountType, Consumer<AccountDTO> consumer) {
+		accountRepository.forEachAccount(customerId, accountType,
+				account -> consumer.accept(AccountMapper.toDTO(account)));
+	}
+}
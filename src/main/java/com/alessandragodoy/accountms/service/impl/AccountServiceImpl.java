@@ -6,30 +6,34 @@ import com.alessandragodoy.accountms.exception.AccountNotFoundException;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.repository.AccountRepository;
 import com.alessandragodoy.accountms.service.AccountService;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.AccountNumberFilter;
+import com.alessandragodoy.accountms.service.outbox.AccountEventOutbox;
 import com.alessandragodoy.accountms.utility.AccountMapper;
 import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
 import com.alessandragodoy.accountms.utility.AccountValidation;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of the AccountService interface.
  */
+@Profile("!reactive")
 @Service
 @RequiredArgsConstructor
 public class AccountServiceImpl implements AccountService {
-
 	private final AccountRepository accountRepository;
 	private final AccountValidation accountValidation;
 	private final AccountNumberGenerator numberGenerator;
-
-	@Override
-	public List<AccountDTO> getAllAccounts() {
-		return accountRepository.findAll().stream().map(AccountMapper::toDTO).toList();
-	}
+	private final AccountBalanceCache balanceCache;
+	private final AccountNumberFilter accountNumberFilter;
+	private final AccountEventOutbox accountEventOutbox;
+	private final TransactionTemplate transactionTemplate;
 
 	@Override
 	public AccountDTO getAccountById(Integer accountId) {
@@ -39,54 +43,34 @@ public class AccountServiceImpl implements AccountService {
 	}
 
 	@Override
-	public AccountDTO createAccount(CreateAccountDTO createAccountDTO) {
+	public CompletableFuture<AccountDTO> createAccount(CreateAccountDTO createAccountDTO) {
 		accountValidation.validateAccountData(createAccountDTO);
-		accountValidation.validateCustomerExists(createAccountDTO.customerId());
+		// The account is prepared while the customer lookup is in flight; nothing is stored until it succeeds.
+		CompletableFuture<Void> customerCheck =
+				accountValidation.validateCustomerExistsAsync(createAccountDTO.customerId());
 
 		Account newAccount = AccountMapper.toCreateEntity(createAccountDTO);
-		newAccount.setAccountNumber(numberGenerator.generate());
-		accountRepository.save(newAccount);
 
-		return AccountMapper.toDTO(newAccount);
+		return customerCheck.thenApply(ignored -> transactionTemplate.execute(status -> {
+			// Numbering inside the transaction keeps the time from issuing a number to committing it short, which
+			// the account number filters of other instances rely on.
+			newAccount.setAccountNumber(numberGenerator.generate());
+			accountRepository.save(newAccount);
+			accountEventOutbox.accountCreated(newAccount);
+			balanceCache.putAfterCommit(newAccount);
+			accountNumberFilter.add(newAccount.getAccountNumber());
+			return AccountMapper.toDTO(newAccount);
+		}));
 	}
 
 	@Transactional
-	@Override
-	public AccountDTO deposit(Integer accountId, Double amount) {
-		AccountValidation.validateAmount(amount);
-
-		Account account = accountRepository.findById(accountId)
-				.orElseThrow(() -> new AccountNotFoundException(
-						"Deposit can not continue. Account not found for ID: " + accountId));
-		accountRepository.updateBalanceDeposit(accountId, amount);
-		account.setBalance(accountRepository.getBalanceByAccountId(accountId));
-
-		return AccountMapper.toDTO(account);
-	}
-
-	@Transactional
-	@Override
-	public AccountDTO withdraw(Integer accountId, Double amount) {
-		AccountValidation.validateAmount(amount);
-
-		Account account = accountRepository.findById(accountId)
-				.orElseThrow(() -> new AccountNotFoundException("Withdraw can not continue. Account not found for " +
-						"ID:" +
-						" " + accountId));
-		Double currentBalance = account.getBalance();
-
-		AccountValidation.validateSufficientFunds(account, currentBalance, amount);
-
-		accountRepository.updateBalanceWithdraw(accountId, amount);
-		account.setBalance(accountRepository.getBalanceByAccountId(accountId));
-
-		return AccountMapper.toDTO(account);
-	}
-
 	@Override
 	public AccountDTO deleteAccountById(Integer accountId) {
 		return accountRepository.findById(accountId).map(existingAccount -> {
 			accountRepository.delete(existingAccount);
+			accountEventOutbox.accountDeleted(existingAccount);
+			balanceCache.evictAfterCommit(existingAccount.getAccountNumber());
+			accountNumberFilter.removeAfterCommit(existingAccount.getAccountNumber());
 			return AccountMapper.toDTO(existingAccount);
 		}).orElseThrow(() -> new AccountNotFoundException("Delete stopped. Account not found for ID: " + accountId));
 	}
@@ -96,26 +80,4 @@ public class AccountServiceImpl implements AccountService {
 		return accountRepository.existsByCustomerId(customerId);
 	}
 
-	@Override
-	public Double getAccountBalance(String accountNumber) {
-		return accountRepository.findByAccountNumber(accountNumber)
-				.map(Account::getBalance)
-				.orElseThrow(() ->
-						new AccountNotFoundException("Account " + accountNumber + " not found, can not get balance."));
-	}
-
-	@Override
-	public boolean accountExistsByAccountNumber(String accountNumber) {
-		return accountRepository.existsByAccountNumber(accountNumber);
-	}
-
-	@Override
-	public void updateBalanceByAccountNumber(String accountNumber, Double amount) {
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-				.orElseThrow(() -> new AccountNotFoundException("Account not found for number: " + accountNumber +
-						"can not update balance."));
-		account.setBalance(account.getBalance() + amount);
-		accountRepository.save(account);
-	}
-
 }
@@ -0,0 +1,55 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountStatementDTO;
+import com.alessandragodoy.accountms.controller.dto.StatementEntryDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.AccountStatementService;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.utility.AccountMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the AccountStatementService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class AccountStatementServiceImpl implements AccountStatementService {
+	private final AccountRepository accountRepository;
+	private final BalanceLedger balanceLedger;
+
+	@Override
+	public AccountStatementDTO getStatement(Integer accountId, Instant from, Instant to) {
+		Instant now = Instant.now();
+		Instant end = to == null || to.isAfter(now) ? now : to;
+		validateStatementRange(from, end);
+		Account account = accountRepository.findById(accountId)
+				.orElseThrow(() -> new AccountNotFoundException("Statement can not be built. Account not found for " +
+						"ID: " + accountId));
+
+		return new AccountStatementDTO(accountId, account.getAccountNumber(), from, end,
+				balanceLedger.balanceAt(accountId, from, account.getBalance()),
+				balanceLedger.balanceAt(accountId, end, account.getBalance()));
+	}
+
+	@Override
+	public void streamStatement(Integer accountId, Instant from, Instant to, Consumer<StatementEntryDTO> consumer) {
+		validateStatementRange(from, to);
+		balanceLedger.forEachEntry(accountId, from, to,
+				entry -> consumer.accept(AccountMapper.toStatementEntryDTO(entry)));
+	}
+
+	private static void validateStatementRange(Instant from, Instant to) {
+		if (from == null || to == null || !from.isBefore(to)) {
+			throw new AccountValidationException("The statement must start before it ends and before now.");
+		}
+	}
+}
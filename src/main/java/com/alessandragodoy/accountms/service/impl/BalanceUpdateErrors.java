@@ -0,0 +1,42 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+
+/**
+ * Builds the exceptions thrown when a guarded balance update does not update any row, shared by the services
+ * that update balances.
+ */
+final class BalanceUpdateErrors {
+	private BalanceUpdateErrors() {
+	}
+
+	/**
+	 * Explains why a guarded withdrawal did not update any row: either the account does not exist or the
+	 * overdraft rules of its type rejected the amount.
+	 *
+	 * @param accountRepository the repository to look the account up in
+	 * @param accountId         the ID of the account
+	 * @param amount            the rejected amount
+	 * @return the exception to throw
+	 */
+	static RuntimeException rejectedWithdrawal(AccountRepository accountRepository, Integer accountId,
+											   Money amount) {
+		Account account = accountRepository.findById(accountId)
+				.orElseThrow(() -> withdrawAccountNotFound(accountId));
+		AccountValidation.validateSufficientFunds(account, account.getBalance(), amount);
+		return new InsufficientFundsException("Insufficient funds for withdrawal.", account.getAccountType());
+	}
+
+	static AccountNotFoundException depositAccountNotFound(Integer accountId) {
+		return new AccountNotFoundException("Deposit can not continue. Account not found for ID: " + accountId);
+	}
+
+	static AccountNotFoundException withdrawAccountNotFound(Integer accountId) {
+		return new AccountNotFoundException("Withdraw can not continue. Account not found for ID: " + accountId);
+	}
+}
@@ -0,0 +1,172 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionItemDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionResultDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountJdbcRepository.BalanceChange;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.BatchTransactionService;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of the BatchTransactionService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class BatchTransactionServiceImpl implements BatchTransactionService {
+	private static final int MAX_BATCH_SIZE = 10_000;
+
+	private final AccountRepository accountRepository;
+	private final BalanceLedger balanceLedger;
+	private final AccountBalanceCache balanceCache;
+
+	@Transactional
+	@Override
+	public BatchTransactionResultDTO applyBatch(BatchTransactionRequestDTO request) {
+		List<BatchTransactionItemDTO> items = validateBatch(request);
+
+		// Applying changes grouped by account keeps their order per account and locks rows in a fixed order.
+		List<Integer> order = IntStream.range(0, items.size()).boxed()
+				.sorted(Comparator.comparingInt((Integer index) -> items.get(index).accountId()))
+				.toList();
+		int[] counts = accountRepository.applyBalanceChanges(order.stream()
+				.map(index -> new BalanceChange(items.get(index).accountId(),
+						items.get(index).signedAmount().minorUnits()))
+				.toList());
+
+		boolean rolledBack = request.mode() == BatchTransactionRequestDTO.Mode.ALL_OR_NOTHING &&
+				Arrays.stream(counts).anyMatch(count -> count == 0);
+		if (rolledBack) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+		}
+
+		Map<Integer, Account> accounts = accountRepository.findAllById(
+						items.stream().map(BatchTransactionItemDTO::accountId).distinct().toList())
+				.stream().collect(Collectors.toMap(Account::getAccountId, Function.identity()));
+		Money[] balancesAfter = rolledBack ? new Money[counts.length] :
+				batchBalancesAfter(items, order, counts, accounts);
+		if (!rolledBack) {
+			balanceLedger.recordAll(accounts.values(), batchLedgerEntries(items, order, balancesAfter));
+			accounts.values().forEach(balanceCache::putAfterCommit);
+		}
+		BatchTransactionResultDTO.Item[] results = new BatchTransactionResultDTO.Item[items.size()];
+		for (int position = 0; position < counts.length; position++) {
+			int index = order.get(position);
+			results[index] = batchItemResult(index, items.get(index).accountId(), counts[position] > 0,
+					balancesAfter[position], accounts);
+		}
+
+		int rejected = (int) Arrays.stream(counts).filter(count -> count == 0).count();
+		int applied = rolledBack ? 0 : items.size() - rejected;
+		return new BatchTransactionResultDTO(request.mode(), !rolledBack, applied, rejected, List.of(results));
+	}
+
+	private static List<BatchTransactionItemDTO> validateBatch(BatchTransactionRequestDTO request) {
+		if (request.mode() == null || request.transactions() == null || request.transactions().isEmpty()) {
+			throw new AccountValidationException("Batch mode and at least one transaction are required.");
+		}
+		if (request.transactions().size() > MAX_BATCH_SIZE) {
+			throw new AccountValidationException("A batch can not contain more than " + MAX_BATCH_SIZE +
+					" transactions.");
+		}
+		for (BatchTransactionItemDTO item : request.transactions()) {
+			if (item == null || item.accountId() == null || item.type() == null) {
+				throw new AccountValidationException("Account id and type are required for every transaction.");
+			}
+			AccountValidation.validateAmount(item.amount());
+		}
+		return request.transactions();
+	}
+
+	/**
+	 * Finds the balance right after each applied change of a batch.
+	 * <p>
+	 * Only the final balances are read back, so the balance after each change is found by walking every
+	 * account's changes backwards from its final balance.
+	 * </p>
+	 *
+	 * @param items    the transactions of the batch
+	 * @param order    the indexes of the transactions in the order they were applied
+	 * @param counts   the rows updated by each change, in the order they were applied
+	 * @param accounts the accounts of the batch with their final balances, by ID
+	 * @return the balance after each change in the order they were applied, null for rejected changes
+	 */
+	private static Money[] batchBalancesAfter(List<BatchTransactionItemDTO> items, List<Integer> order,
+											  int[] counts, Map<Integer, Account> accounts) {
+		Money[] balancesAfter = new Money[counts.length];
+		Map<Integer, Money> balances = new HashMap<>();
+		for (int position = counts.length - 1; position >= 0; position--) {
+			if (counts[position] == 0) {
+				continue;
+			}
+			BatchTransactionItemDTO item = items.get(order.get(position));
+			Money balanceAfter = balances.computeIfAbsent(item.accountId(), id -> accounts.get(id).getBalance());
+			balancesAfter[position] = balanceAfter;
+			balances.put(item.accountId(), balanceAfter.minus(item.signedAmount()));
+		}
+		return balancesAfter;
+	}
+
+	/**
+	 * Builds the ledger entries of the applied changes of a batch, in the order they were applied.
+	 *
+	 * @param items         the transactions of the batch
+	 * @param order         the indexes of the transactions in the order they were applied
+	 * @param balancesAfter the balance after each change in the order they were applied, null for rejected
+	 *                      changes
+	 * @return the ledger entries of the applied changes
+	 */
+	private static List<LedgerEntry> batchLedgerEntries(List<BatchTransactionItemDTO> items, List<Integer> order,
+														Money[] balancesAfter) {
+		List<LedgerEntry> entries = new ArrayList<>();
+		for (int position = 0; position < balancesAfter.length; position++) {
+			if (balancesAfter[position] == null) {
+				continue;
+			}
+			BatchTransactionItemDTO item = items.get(order.get(position));
+			entries.add(BalanceLedger.entry(item.accountId(), item.type() == BatchTransactionItemDTO.Type.WITHDRAW ?
+					LedgerEntryType.WITHDRAWAL : LedgerEntryType.DEPOSIT, item.signedAmount(),
+					balancesAfter[position]));
+		}
+		return entries;
+	}
+
+	private static BatchTransactionResultDTO.Item batchItemResult(int index, Integer accountId, boolean updated,
+																  Money balanceAfter, Map<Integer, Account> accounts) {
+		if (!updated) {
+			String reason = accounts.containsKey(accountId) ? "Insufficient funds for withdrawal." :
+					"Account not found for ID: " + accountId;
+			return new BatchTransactionResultDTO.Item(index, accountId, BatchTransactionResultDTO.Status.REJECTED,
+					null, reason);
+		}
+		if (balanceAfter == null) {
+			return new BatchTransactionResultDTO.Item(index, accountId, BatchTransactionResultDTO.Status.ROLLED_BACK,
+					null, "Rolled back because another transaction of the batch was rejected.");
+		}
+		return new BatchTransactionResultDTO.Item(index, accountId, BatchTransactionResultDTO.Status.APPLIED,
+				balanceAfter, null);
+	}
+}
@@ -0,0 +1,44 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountTypeTotalDTO;
+import com.alessandragodoy.accountms.controller.dto.CustomerAccountsDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.AccountRepository.CustomerAccount;
+import com.alessandragodoy.accountms.service.CustomerAccountsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the CustomerAccountsService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class CustomerAccountsServiceImpl implements CustomerAccountsService {
+	private final AccountRepository accountRepository;
+
+	@Override
+	public CustomerAccountsDTO getCustomerAccounts(Integer customerId) {
+		List<CustomerAccount> rows = accountRepository.findCustomerAccounts(customerId);
+		List<AccountDTO> accounts = rows.stream()
+				.map(row -> new AccountDTO(row.getAccountId(), row.getAccountNumber(),
+						Money.ofMinor(row.getBalanceMinor()), row.getAccountType(), customerId))
+				.toList();
+
+		// The totals are summed from the same rows, so they cost no second query.
+		Map<AccountType, AccountTypeTotalDTO> totals = new EnumMap<>(AccountType.class);
+		accounts.forEach(account -> totals.merge(account.accountType(),
+				new AccountTypeTotalDTO(account.accountType(), 1, account.balance()),
+				(total, one) -> new AccountTypeTotalDTO(total.accountType(), total.accounts() + 1,
+						total.balance().plus(one.balance()))));
+		return new CustomerAccountsDTO(customerId, accounts, List.copyOf(totals.values()));
+	}
+}
@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountBalanceService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Metering decorator of the {@link AccountBalanceServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredAccountBalanceService implements AccountBalanceService {
+	private final AccountBalanceServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredAccountBalanceService(AccountBalanceServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public AccountDTO deposit(Integer accountId, Money amount, String idempotencyKey) {
+		return meter.timed("deposit", () -> delegate.deposit(accountId, amount, idempotencyKey));
+	}
+
+	@Override
+	public AccountDTO withdraw(Integer accountId, Money amount, String idempotencyKey) {
+		return meter.timed("withdraw", () -> delegate.withdraw(accountId, amount, idempotencyKey));
+	}
+
+	@Override
+	public AccountDTO updateBalanceByAccountNumber(String accountNumber, Money amount, String idempotencyKey) {
+		return meter.timed("updateBalanceByAccountNumber",
+				() -> delegate.updateBalanceByAccountNumber(accountNumber, amount, idempotencyKey));
+	}
+}
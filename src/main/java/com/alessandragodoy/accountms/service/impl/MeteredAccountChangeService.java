@@ -0,0 +1,31 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.service.AccountChangeService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Metering decorator of the {@link AccountChangeServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredAccountChangeService implements AccountChangeService {
+	private final AccountChangeServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredAccountChangeService(AccountChangeServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public AccountChangesDTO getChanges(long since, int limit) {
+		return meter.timed("getChanges", () -> delegate.getChanges(since, limit));
+	}
+}
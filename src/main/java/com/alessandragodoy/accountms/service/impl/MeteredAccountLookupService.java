@@ -0,0 +1,37 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountLookupService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Metering decorator of the {@link AccountLookupServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredAccountLookupService implements AccountLookupService {
+	private final AccountLookupServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredAccountLookupService(AccountLookupServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public Money getAccountBalance(String accountNumber) {
+		return meter.timed("getAccountBalance", () -> delegate.getAccountBalance(accountNumber));
+	}
+
+	@Override
+	public boolean accountExistsByAccountNumber(String accountNumber) {
+		return meter.timed("accountExistsByAccountNumber",
+				() -> delegate.accountExistsByAccountNumber(accountNumber));
+	}
+}
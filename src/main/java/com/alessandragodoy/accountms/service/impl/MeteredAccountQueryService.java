@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.service.AccountQueryService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Metering decorator of the {@link AccountQueryServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredAccountQueryService implements AccountQueryService {
+	private final AccountQueryServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredAccountQueryService(AccountQueryServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public AccountPageDTO getAccounts(Integer customerId, AccountType accountType, Integer after, int limit) {
+		return meter.timed("getAccounts", () -> delegate.getAccounts(customerId, accountType, after, limit));
+	}
+
+	@Override
+	public void streamAccounts(Integer customerId, AccountType accountType, Consumer<AccountDTO> consumer) {
+		meter.timed("streamAccounts", () -> {
+			delegate.streamAccounts(customerId, accountType, consumer);
+			return null;
+		});
+	}
+}
@@ -0,0 +1,49 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.service.AccountService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Metering decorator of the {@link AccountServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredAccountService implements AccountService {
+	private final AccountServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredAccountService(AccountServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public AccountDTO getAccountById(Integer accountId) {
+		return meter.timed("getAccountById", () -> delegate.getAccountById(accountId));
+	}
+
+	@Override
+	public CompletableFuture<AccountDTO> createAccount(CreateAccountDTO createAccountDTO) {
+		return meter.timedAsync("createAccount", () -> delegate.createAccount(createAccountDTO));
+	}
+
+	@Override
+	public AccountDTO deleteAccountById(Integer accountId) {
+		return meter.timed("deleteAccountById", () -> delegate.deleteAccountById(accountId));
+	}
+
+	@Override
+	public boolean accountExists(Integer customerId) {
+		return meter.timed("accountExists", () -> delegate.accountExists(customerId));
+	}
+}
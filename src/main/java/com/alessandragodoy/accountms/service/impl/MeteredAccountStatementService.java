@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountStatementDTO;
+import com.alessandragodoy.accountms.controller.dto.StatementEntryDTO;
+import com.alessandragodoy.accountms.service.AccountStatementService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Metering decorator of the {@link AccountStatementServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredAccountStatementService implements AccountStatementService {
+	private final AccountStatementServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredAccountStatementService(AccountStatementServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public AccountStatementDTO getStatement(Integer accountId, Instant from, Instant to) {
+		return meter.timed("getStatement", () -> delegate.getStatement(accountId, from, to));
+	}
+
+	@Override
+	public void streamStatement(Integer accountId, Instant from, Instant to, Consumer<StatementEntryDTO> consumer) {
+		meter.timed("streamStatement", () -> {
+			delegate.streamStatement(accountId, from, to, consumer);
+			return null;
+		});
+	}
+}
@@ -0,0 +1,29 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionResultDTO;
+import com.alessandragodoy.accountms.service.BatchTransactionService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Metering decorator of the {@link BatchTransactionServiceImpl}, timed by the {@link AccountOperationMeter}.
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredBatchTransactionService implements BatchTransactionService {
+	private final BatchTransactionServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredBatchTransactionService(BatchTransactionServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public BatchTransactionResultDTO applyBatch(BatchTransactionRequestDTO request) {
+		return meter.timed("applyBatch", () -> delegate.applyBatch(request));
+	}
+}
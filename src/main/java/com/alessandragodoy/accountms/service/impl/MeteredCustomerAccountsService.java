@@ -0,0 +1,31 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.CustomerAccountsDTO;
+import com.alessandragodoy.accountms.service.CustomerAccountsService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Metering decorator of the {@link CustomerAccountsServiceImpl}.
+ * <p>
+ * Every operation is timed by the {@link AccountOperationMeter} under its method name.
+ * </p>
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredCustomerAccountsService implements CustomerAccountsService {
+	private final CustomerAccountsServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredCustomerAccountsService(CustomerAccountsServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public CustomerAccountsDTO getCustomerAccounts(Integer customerId) {
+		return meter.timed("getCustomerAccounts", () -> delegate.getCustomerAccounts(customerId));
+	}
+}
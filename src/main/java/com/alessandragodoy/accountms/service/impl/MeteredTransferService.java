@@ -0,0 +1,29 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferResultDTO;
+import com.alessandragodoy.accountms.service.TransferService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Metering decorator of the {@link TransferServiceImpl}, timed by the {@link AccountOperationMeter}.
+ */
+@Profile("!reactive")
+@Primary
+@Service
+public class MeteredTransferService implements TransferService {
+	private final TransferServiceImpl delegate;
+	private final AccountOperationMeter meter;
+
+	public MeteredTransferService(TransferServiceImpl delegate, AccountOperationMeter meter) {
+		this.delegate = delegate;
+		this.meter = meter;
+	}
+
+	@Override
+	public TransferResultDTO transfer(TransferRequestDTO request) {
+		return meter.timed("transfer", () -> delegate.transfer(request));
+	}
+}
@@ -0,0 +1,93 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.ReactiveAccountRepository;
+import com.alessandragodoy.accountms.service.ReactiveAccountService;
+import com.alessandragodoy.accountms.utility.AccountMapper;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Implementation of the ReactiveAccountService interface on R2DBC.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveAccountServiceImpl implements ReactiveAccountService {
+	private static final int MAX_PAGE_SIZE = 1_000;
+
+	private final ReactiveAccountRepository accountRepository;
+
+	@Override
+	public Mono<AccountPageDTO> getAccounts(Integer customerId, AccountType accountType, Integer after, int limit) {
+		if (limit < 1 || limit > MAX_PAGE_SIZE) {
+			return Mono.error(new AccountValidationException("The page limit must be between 1 and " +
+					MAX_PAGE_SIZE + "."));
+		}
+
+		// One extra row tells whether another page follows without a separate count query.
+		return accountRepository.findPage(after == null ? 0 : after, customerId, accountType, limit + 1)
+				.map(AccountMapper::toDTO)
+				.collectList()
+				.map(rows -> {
+					List<AccountDTO> page = rows.size() > limit ? rows.subList(0, limit) : rows;
+					Integer nextCursor = rows.size() > limit ? page.get(page.size() - 1).accountId() : null;
+					return new AccountPageDTO(page, nextCursor);
+				});
+	}
+
+	@Override
+	public Flux<AccountDTO> streamAccounts(Integer customerId, AccountType accountType) {
+		return accountRepository.findAll(customerId, accountType).map(AccountMapper::toDTO);
+	}
+
+	@Override
+	public Mono<AccountDTO> getAccountById(Integer accountId) {
+		return accountRepository.findById(accountId).map(AccountMapper::toDTO)
+				.switchIfEmpty(Mono.error(() -> new AccountNotFoundException("The account with ID " + accountId +
+						" does not exist.")));
+	}
+
+	@Override
+	public Mono<Boolean> accountExists(Integer customerId) {
+		return accountRepository.existsByCustomerId(customerId);
+	}
+
+	@Override
+	public Mono<Money> getAccountBalance(String accountNumber) {
+		return findByAccountNumber(accountNumber)
+				.map(Account::getBalance)
+				.switchIfEmpty(Mono.error(() ->
+						new AccountNotFoundException("Account " + accountNumber + " not found, can not get balance.")));
+	}
+
+	@Override
+	public Mono<Boolean> accountExistsByAccountNumber(String accountNumber) {
+		return findByAccountNumber(accountNumber).hasElement();
+	}
+
+	/**
+	 * Looks an account up by number, answering malformed numbers without the database.
+	 *
+	 * @param accountNumber the account number
+	 * @return the account, or empty if it does not exist
+	 */
+	private Mono<Account> findByAccountNumber(String accountNumber) {
+		if (!AccountNumberGenerator.isPlausible(accountNumber)) {
+			return Mono.empty();
+		}
+		return accountRepository.findByAccountNumber(accountNumber);
+	}
+}
@@ -0,0 +1,87 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.controller.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferResultDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.TransferService;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.balance.BalanceMutationEngine;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.utility.AccountMapper;
+import com.alessandragodoy.accountms.utility.AccountValidation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the TransferService interface.
+ */
+@Profile("!reactive")
+@Service
+@RequiredArgsConstructor
+public class TransferServiceImpl implements TransferService {
+	private final AccountRepository accountRepository;
+	private final BalanceMutationEngine balanceMutationEngine;
+	private final BalanceLedger balanceLedger;
+	private final AccountBalanceCache balanceCache;
+
+	@Override
+	public TransferResultDTO transfer(TransferRequestDTO request) {
+		AccountValidation.validateAmount(request.amount());
+		Integer sourceId = transferAccountId(request.sourceAccountNumber());
+		Integer targetId = transferAccountId(request.targetAccountNumber());
+		if (sourceId.equals(targetId)) {
+			throw new AccountValidationException("The source and target accounts of a transfer must be different.");
+		}
+		Money amount = request.amount();
+
+		return balanceMutationEngine.execute(List.of(sourceId, targetId), () -> {
+			// Rows are updated in ascending ID order, so opposite transfers between two accounts can not deadlock.
+			if (sourceId < targetId) {
+				debitForTransfer(sourceId, amount);
+				creditForTransfer(targetId, amount);
+			} else {
+				creditForTransfer(targetId, amount);
+				debitForTransfer(sourceId, amount);
+			}
+			Account source = accountRepository.findById(sourceId)
+					.orElseThrow(() -> BalanceUpdateErrors.withdrawAccountNotFound(sourceId));
+			Account target = accountRepository.findById(targetId)
+					.orElseThrow(() -> BalanceUpdateErrors.depositAccountNotFound(targetId));
+			balanceLedger.recordAll(List.of(source, target), List.of(
+					BalanceLedger.entry(sourceId, LedgerEntryType.TRANSFER_OUT, amount.negate(), source.getBalance()),
+					BalanceLedger.entry(targetId, LedgerEntryType.TRANSFER_IN, amount, target.getBalance())));
+			balanceCache.putAfterCommit(source);
+			balanceCache.putAfterCommit(target);
+			return new TransferResultDTO(AccountMapper.toDTO(source), AccountMapper.toDTO(target));
+		});
+	}
+
+	private Integer transferAccountId(String accountNumber) {
+		if (accountNumber == null) {
+			throw new AccountValidationException("Source and target account numbers are required for a transfer.");
+		}
+		return accountRepository.findAccountIdByAccountNumber(accountNumber)
+				.orElseThrow(() -> new AccountNotFoundException("Transfer can not continue. Account not found for " +
+						"number: " + accountNumber));
+	}
+
+	private void debitForTransfer(Integer accountId, Money amount) {
+		if (accountRepository.withdrawIfSufficientFunds(accountId, amount.minorUnits()) == 0) {
+			throw BalanceUpdateErrors.rejectedWithdrawal(accountRepository, accountId, amount);
+		}
+	}
+
+	private void creditForTransfer(Integer accountId, Money amount) {
+		if (accountRepository.updateBalanceDeposit(accountId, amount.minorUnits()) == 0) {
+			throw BalanceUpdateErrors.depositAccountNotFound(accountId);
+		}
+	}
+}
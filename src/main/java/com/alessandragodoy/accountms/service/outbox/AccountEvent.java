@@ -0,0 +1,40 @@
+package com.alessandragodoy.accountms.service.outbox;
+
+import com.alessandragodoy.accountms.model.AccountEventType;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.model.OutboxEvent;
+
+import java.time.Instant;
+
+/**
+ * An account event as handed to the sinks.
+ *
+ * @param eventId       the ID of the event, increasing with the order of the changes of every account
+ * @param type          the kind of event
+ * @param accountId     the ID of the account
+ * @param accountNumber the number of the account
+ * @param accountType   the type of the account
+ * @param customerId    the ID of the customer owning the account
+ * @param changeType    the kind of balance change, only for balance changes
+ * @param amount        the signed amount added to the balance, only for balance changes
+ * @param balance       the balance of the account right after the event
+ * @param occurredAt    the instant the event was written
+ */
+public record AccountEvent(Long eventId, AccountEventType type, Integer accountId, String accountNumber,
+						   AccountType accountType, Integer customerId, LedgerEntryType changeType, Money amount,
+						   Money balance, Instant occurredAt) {
+
+	/**
+	 * Converts an event read from the outbox.
+	 *
+	 * @param event the outbox row
+	 * @return the event to publish
+	 */
+	public static AccountEvent from(OutboxEvent event) {
+		return new AccountEvent(event.getEventId(), event.getEventType(), event.getAccountId(),
+				event.getAccountNumber(), event.getAccountType(), event.getCustomerId(), event.getChangeType(),
+				event.getAmount(), event.getBalance(), event.getCreatedAt());
+	}
+}
@@ -0,0 +1,104 @@
+package com.alessandragodoy.accountms.service.outbox;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountEventType;
+import com.alessandragodoy.accountms.model.AccountTombstone;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.OutboxEvent;
+import com.alessandragodoy.accountms.repository.AccountTombstoneRepository;
+import com.alessandragodoy.accountms.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes account events to the outbox as part of the transaction that makes the change they announce, so an
+ * event is published if and only if its change commits.
+ * <p>
+ * Events are only written here; the {@link OutboxRelay} publishes them in the background. Their IDs also serve
+ * as the change sequence of the change feed: the ID of the latest event of an account is stamped on it, or on
+ * its tombstone when it is deleted, so the feed costs no sequence of its own.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+@RequiredArgsConstructor
+public class AccountEventOutbox {
+	private final OutboxEventRepository outboxEventRepository;
+	private final AccountTombstoneRepository accountTombstoneRepository;
+
+	/**
+	 * Announces a new account.
+	 *
+	 * @param account the account as it was created
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void accountCreated(Account account) {
+		OutboxEvent event = outboxEventRepository.save(event(AccountEventType.ACCOUNT_CREATED, account).build());
+		stamp(account, event.getEventId(), Instant.now());
+	}
+
+	/**
+	 * Announces a deleted account.
+	 *
+	 * @param account the account as it stood when deleted
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void accountDeleted(Account account) {
+		OutboxEvent event = outboxEventRepository.save(event(AccountEventType.ACCOUNT_DELETED, account).build());
+		accountTombstoneRepository.save(AccountTombstone.builder()
+				.accountId(account.getAccountId())
+				.accountNumber(account.getAccountNumber())
+				.changeSeq(event.getEventId())
+				.deletedAt(Instant.now())
+				.build());
+	}
+
+	/**
+	 * Announces balance changes, one event per ledger entry and in the same order.
+	 *
+	 * @param accounts the changed accounts by ID
+	 * @param entries  the ledger entries of the changes
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void balanceChanged(Map<Integer, Account> accounts, List<LedgerEntry> entries) {
+		List<OutboxEvent> events = outboxEventRepository.saveAll(entries.stream()
+				.map(entry -> event(AccountEventType.ACCOUNT_BALANCE_CHANGED, accounts.get(entry.getAccountId()))
+						.changeType(entry.getEntryType())
+						.amount(entry.getAmount())
+						.balance(entry.getBalanceAfter())
+						.build())
+				.toList());
+		Instant now = Instant.now();
+		events.forEach(event -> stamp(accounts.get(event.getAccountId()), event.getEventId(), now));
+	}
+
+	/**
+	 * Stamps a changed account with its place in the change sequence; the account is managed, so the stamp is
+	 * written when the transaction flushes.
+	 *
+	 * @param account   the changed account
+	 * @param changeSeq the place of the change in the change sequence
+	 * @param changedAt when the change was stamped
+	 */
+	private static void stamp(Account account, long changeSeq, Instant changedAt) {
+		account.setChangeSeq(changeSeq);
+		account.setChangedAt(changedAt);
+	}
+
+	private static OutboxEvent.OutboxEventBuilder event(AccountEventType eventType, Account account) {
+		return OutboxEvent.builder()
+				.eventType(eventType)
+				.accountId(account.getAccountId())
+				.accountNumber(account.getAccountNumber())
+				.accountType(account.getAccountType())
+				.customerId(account.getCustomerId())
+				.balance(account.getBalance());
+	}
+}
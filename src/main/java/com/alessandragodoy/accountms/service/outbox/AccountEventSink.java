@@ -0,0 +1,22 @@
+package com.alessandragodoy.accountms.service.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the account events relayed from the outbox.
+ * <p>
+ * Events arrive in batches, each in outbox order, and a batch is only removed from the outbox once
+ * {@link #publish(List)} returns. A failing sink therefore sees the same events again on the next attempt:
+ * delivery is at least once, and consumers recognize repeats by the event ID.
+ * </p>
+ */
+public interface AccountEventSink {
+
+	/**
+	 * Publishes a batch of events.
+	 *
+	 * @param events the events, oldest first
+	 * @throws RuntimeException if the batch could not be published and must be retried
+	 */
+	void publish(List<AccountEvent> events);
+}
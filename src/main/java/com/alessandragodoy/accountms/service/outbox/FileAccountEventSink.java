@@ -0,0 +1,59 @@
+package com.alessandragodoy.accountms.service.outbox;
+
+import com.alessandragodoy.accountms.configuration.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink appending every event to a file as one JSON object per line, for local runs and consumers that tail it.
+ * <p>
+ * A batch is written with a single flush, and the file is only appended to, so it survives restarts.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+@ConditionalOnProperty(name = "account.outbox.sink", havingValue = "file")
+public class FileAccountEventSink implements AccountEventSink {
+	private final ObjectWriter eventWriter;
+	private final Writer out;
+
+	public FileAccountEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+		this.eventWriter = objectMapper.writerFor(AccountEvent.class);
+		try {
+			this.out = Files.newBufferedWriter(properties.file(), StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not open the account event file " + properties.file(), e);
+		}
+	}
+
+	@Override
+	public synchronized void publish(List<AccountEvent> events) {
+		try {
+			for (AccountEvent event : events) {
+				out.write(eventWriter.writeValueAsString(event));
+				out.write('\n');
+			}
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not append account events", e);
+		}
+	}
+
+	@PreDestroy
+	synchronized void close() throws IOException {
+		out.close();
+	}
+}
@@ -0,0 +1,46 @@
+package com.alessandragodoy.accountms.service.outbox;
+
+import com.alessandragodoy.accountms.configuration.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sink keeping the most recent events in memory, for local runs and tests; older events are dropped once the
+ * configured capacity is reached.
+ */
+@Profile("!reactive")
+@Component
+@ConditionalOnProperty(name = "account.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAccountEventSink implements AccountEventSink {
+	private final int capacity;
+	private final Deque<AccountEvent> events;
+
+	public InMemoryAccountEventSink(OutboxProperties properties) {
+		this.capacity = properties.memoryCapacity();
+		this.events = new ArrayDeque<>(Math.min(capacity, 1024));
+	}
+
+	@Override
+	public synchronized void publish(List<AccountEvent> batch) {
+		for (AccountEvent event : batch) {
+			if (events.size() == capacity) {
+				events.removeFirst();
+			}
+			events.addLast(event);
+		}
+	}
+
+	/**
+	 * Returns the events kept so far.
+	 *
+	 * @return the kept events, oldest first
+	 */
+	public synchronized List<AccountEvent> events() {
+		return List.copyOf(events);
+	}
+}
@@ -0,0 +1,111 @@
+package com.alessandragodoy.accountms.service.outbox;
+
+import com.alessandragodoy.accountms.configuration.OutboxProperties;
+import com.alessandragodoy.accountms.model.OutboxEvent;
+import com.alessandragodoy.accountms.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the events written to the outbox to the configured {@link AccountEventSink}.
+ * <p>
+ * The relay takes the oldest events in batches, publishes each batch with one call to the sink and deletes it
+ * in the same transaction. The batch stays locked meanwhile, so relays on other instances wait for it rather
+ * than publishing later events first; the events of every account therefore reach the sink in the order their
+ * changes committed. Once the outbox is empty the relay sleeps for the poll interval. A failed batch is left in
+ * the outbox and retried on the next run.
+ * </p>
+ */
+@Profile("!reactive")
+@Component
+public class OutboxRelay {
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final AccountEventSink sink;
+	private final OutboxProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final Counter published;
+	private final Counter failures;
+	private final ScheduledExecutorService relayer;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, AccountEventSink sink,
+					   OutboxProperties properties, PlatformTransactionManager transactionManager,
+					   MeterRegistry meterRegistry) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.sink = sink;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.published = Counter.builder("account.outbox.published")
+				.description("Account events published from the outbox")
+				.register(meterRegistry);
+		this.failures = Counter.builder("account.outbox.failures")
+				.description("Outbox batches that could not be published and were left for the next run")
+				.register(meterRegistry);
+		this.relayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "outbox-relay");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts relaying once the application is ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		long interval = properties.pollInterval().toMillis();
+		relayer.scheduleWithFixedDelay(this::relay, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Publishes batches until the outbox is empty or a batch fails.
+	 *
+	 * @return the number of events published
+	 */
+	public int relay() {
+		int total = 0;
+		try {
+			int count;
+			do {
+				count = transactionTemplate.execute(status -> publishOldest());
+				total += count;
+			} while (count == properties.batchSize());
+		} catch (RuntimeException e) {
+			failures.increment();
+			LOGGER.warn("Publishing account events failed, retrying on the next run", e);
+		}
+		return total;
+	}
+
+	private int publishOldest() {
+		List<OutboxEvent> events = outboxEventRepository.findOldestForUpdate(Limit.of(properties.batchSize()));
+		if (events.isEmpty()) {
+			return 0;
+		}
+		sink.publish(events.stream().map(AccountEvent::from).toList());
+		outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getEventId).toList());
+		published.increment(events.size());
+		return events.size();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		relayer.shutdownNow();
+	}
+}
@@ -2,8 +2,10 @@ package com.alessandragodoy.accountms.utility;
 
 import com.alessandragodoy.accountms.controller.dto.AccountDTO;
 import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.controller.dto.StatementEntryDTO;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntry;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,13 +23,21 @@ public class AccountMapper {
 		);
 	}
 
-	public static Account toCreateEntity(CreateAccountDTO createAccountDTO) {
-		return new Account(
-				null,
-				null,
-				createAccountDTO.balance(),
-				AccountType.valueOf(createAccountDTO.accountType().toUpperCase()),
-				createAccountDTO.customerId()
+	public static StatementEntryDTO toStatementEntryDTO(LedgerEntry entry) {
+		return new StatementEntryDTO(
+				entry.getEntryId(),
+				entry.getEntryType(),
+				entry.getAmount(),
+				entry.getBalanceAfter(),
+				entry.getCreatedAt()
 		);
 	}
+
+	public static Account toCreateEntity(CreateAccountDTO createAccountDTO) {
+		return Account.builder()
+				.balance(createAccountDTO.balance())
+				.accountType(AccountType.valueOf(createAccountDTO.accountType().toUpperCase()))
+				.customerId(createAccountDTO.customerId())
+				.build();
+	}
 }
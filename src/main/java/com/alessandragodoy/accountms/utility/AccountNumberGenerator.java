@@ -1,13 +1,257 @@
 package com.alessandragodoy.accountms.utility;
 
+import com.alessandragodoy.accountms.configuration.AccountNumberProperties;
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import com.alessandragodoy.accountms.repository.AccountNumberSequenceRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Component responsible for generating unique account numbers.
+ * <p>
+ * Numbers are {@code A} followed by an 11-digit sequence value and a Luhn check digit. Every instance reserves
+ * blocks of sequence values from a row shared through the database and hands them out with a lock-free counter,
+ * so numbers are unique across instances and the database is only reached once per block. Legacy numbers have
+ * one digit less and can never collide with generated ones.
+ * </p>
+ * <p>
+ * A block is given up once it is older than the configured maximum age, so every number below the shared
+ * sequence value is issued within that time of reading it. After giving a block up, the next one is sized after
+ * the numbers actually used, so an instance creating few accounts does not burn through the sequence.
+ * </p>
  */
+@Profile("!reactive")
 @Component
 public class AccountNumberGenerator {
+	private static final String SEQUENCE_NAME = "account_number";
+	private static final char PREFIX = 'A';
+	private static final int PAYLOAD_DIGITS = 11;
+	private static final int NUMBER_LENGTH = PAYLOAD_DIGITS + 2;
+	static final long MAX_PAYLOAD = 99_999_999_999L;
+	static final int MIN_BLOCK_SIZE = 16;
+
+	private final AccountNumberSequenceRepository sequenceRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int blockSize;
+	private final long blockMaxAge;
+	private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+	private final ReentrantLock refillLock = new ReentrantLock();
+
+	public AccountNumberGenerator(AccountNumberSequenceRepository sequenceRepository,
+								  PlatformTransactionManager transactionManager, AccountNumberProperties properties) {
+		this.sequenceRepository = sequenceRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.blockSize = properties.blockSize();
+		this.blockMaxAge = properties.blockMaxAge().toNanos();
+	}
+
+	/**
+	 * Generates the next account number.
+	 *
+	 * @return a unique account number
+	 * @throws IllegalStateException if every account number has been allocated
+	 */
 	public String generate() {
-		return "A" + (System.currentTimeMillis() / 100);
+		while (true) {
+			Block block = current.get();
+			if (block.isOlderThan(blockMaxAge)) {
+				// The replacement is used whatever its age, so a slow reservation can not expire it over and over.
+				refill(block);
+				block = current.get();
+			}
+			long payload = block.next().getAndIncrement();
+			if (payload < block.end()) {
+				return format(payload);
+			}
+			refill(block);
+		}
+	}
+
+	/**
+	 * Tells whether an account number can have been issued, rejecting generated-format numbers whose check digit
+	 * does not match, such as most mistyped ones.
+	 *
+	 * @param accountNumber the account number
+	 * @return false if the account number can not exist
+	 */
+	public static boolean isPlausible(String accountNumber) {
+		if (accountNumber == null || accountNumber.length() != NUMBER_LENGTH || accountNumber.charAt(0) != PREFIX) {
+			return true;
+		}
+		long payload = parsePayload(accountNumber);
+		return payload >= 0 && accountNumber.charAt(NUMBER_LENGTH - 1) == checkDigit(payload);
+	}
+
+	/**
+	 * Returns the sequence value an account number was generated from.
+	 *
+	 * @param accountNumber the account number
+	 * @return the sequence value, or -1 if the account number does not have the generated format
+	 */
+	public static long payloadOf(String accountNumber) {
+		if (accountNumber == null || accountNumber.length() != NUMBER_LENGTH || accountNumber.charAt(0) != PREFIX) {
+			return -1;
+		}
+		return parsePayload(accountNumber);
+	}
+
+	/**
+	 * Reads the first sequence value no instance has reserved yet, without locking the sequence row.
+	 *
+	 * @return the first unreserved sequence value
+	 */
+	public long nextUnreserved() {
+		return sequenceRepository.findById(SEQUENCE_NAME).map(AccountNumberSequence::getNextValue).orElse(1L);
+	}
+
+	private static long parsePayload(String accountNumber) {
+		long payload = 0;
+		for (int position = 1; position <= PAYLOAD_DIGITS; position++) {
+			char digit = accountNumber.charAt(position);
+			if (digit < '0' || digit > '9') {
+				return -1;
+			}
+			payload = payload * 10 + (digit - '0');
+		}
+		return payload;
+	}
+
+	/**
+	 * Sizes the block replacing another one: a block given up before running out is replaced by one twice the
+	 * size of its used part, any other block by a full one.
+	 *
+	 * @param replaced  the block being replaced
+	 * @param blockSize the configured block size
+	 * @return the size of the next block
+	 */
+	static int nextBlockSize(Block replaced, int blockSize) {
+		long used = replaced.used();
+		if (used >= replaced.size()) {
+			return blockSize;
+		}
+		return (int) Math.min(blockSize, Math.max(MIN_BLOCK_SIZE, used * 2));
+	}
+
+	/**
+	 * Formats a sequence value as an account number.
+	 *
+	 * @param payload the sequence value
+	 * @return the account number including its check digit
+	 */
+	static String format(long payload) {
+		char[] number = new char[NUMBER_LENGTH];
+		number[0] = PREFIX;
+		long remaining = payload;
+		for (int position = PAYLOAD_DIGITS; position >= 1; position--) {
+			number[position] = (char) ('0' + remaining % 10);
+			remaining /= 10;
+		}
+		number[NUMBER_LENGTH - 1] = checkDigit(payload);
+		return new String(number);
+	}
+
+	/**
+	 * Computes the Luhn check digit of a sequence value, doubling every other digit from the rightmost one.
+	 *
+	 * @param payload the sequence value
+	 * @return the check digit
+	 */
+	private static char checkDigit(long payload) {
+		int sum = 0;
+		long remaining = payload;
+		for (int position = 0; position < PAYLOAD_DIGITS; position++) {
+			int digit = (int) (remaining % 10);
+			remaining /= 10;
+			if (position % 2 == 0) {
+				digit *= 2;
+				if (digit > 9) {
+					digit -= 9;
+				}
+			}
+			sum += digit;
+		}
+		return (char) ('0' + (10 - sum % 10) % 10);
+	}
+
+	/**
+	 * Replaces an exhausted block. A lock rather than a synchronized block keeps virtual threads waiting on the
+	 * database round trip from pinning their carrier thread.
+	 *
+	 * @param exhausted the block to replace, left alone if another thread replaced it already
+	 */
+	private void refill(Block exhausted) {
+		refillLock.lock();
+		try {
+			if (current.get() == exhausted) {
+				current.set(allocate(nextBlockSize(exhausted, blockSize)));
+			}
+		} finally {
+			refillLock.unlock();
+		}
+	}
+
+	/**
+	 * Reserves the next block of sequence values in its own transaction, so the sequence row is unlocked as soon
+	 * as the block is taken even when called from a longer transaction.
+	 *
+	 * @param size the number of sequence values to reserve
+	 * @return the reserved block
+	 */
+	private Block allocate(int size) {
+		Long start;
+		try {
+			start = transactionTemplate.execute(status -> reserve(size));
+		} catch (DataIntegrityViolationException e) {
+			// Another instance created the sequence row first.
+			start = transactionTemplate.execute(status -> reserve(size));
+		}
+		return new Block(start, start + size);
+	}
+
+	private long reserve(int size) {
+		AccountNumberSequence sequence = sequenceRepository.findForUpdate(SEQUENCE_NAME)
+				.orElseGet(() -> new AccountNumberSequence(SEQUENCE_NAME, 1));
+		long start = sequence.getNextValue();
+		if (start + size - 1 > MAX_PAYLOAD) {
+			throw new IllegalStateException("Account numbers exhausted.");
+		}
+		sequence.setNextValue(start + size);
+		sequenceRepository.saveAndFlush(sequence);
+		return start;
+	}
+
+	/**
+	 * A reserved range of sequence values, from the next one to hand out up to its exclusive end.
+	 *
+	 * @param next       the next value to hand out
+	 * @param start      the first value of the range
+	 * @param end        the exclusive end of the range
+	 * @param reservedAt the {@link System#nanoTime()} at which the range was reserved
+	 */
+	record Block(AtomicLong next, long start, long end, long reservedAt) {
+		Block(long start, long end) {
+			this(new AtomicLong(start), start, end, System.nanoTime());
+		}
+
+		boolean isOlderThan(long maxAge) {
+			return maxAge > 0 && System.nanoTime() - reservedAt > maxAge;
+		}
+
+		long size() {
+			return end - start;
+		}
+
+		long used() {
+			return Math.min(next.get(), end) - start;
+		}
 	}
 }
@@ -7,8 +7,11 @@ import com.alessandragodoy.accountms.exception.CustomerNotFoundException;
 import com.alessandragodoy.accountms.exception.InsufficientFundsException;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Utility class for validating account-related operations.
  * <p>
@@ -19,6 +22,11 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class AccountValidation {
+	/**
+	 * Lowest balance a checking account may reach after a withdrawal, in minor units.
+	 */
+	public static final long CHECKING_OVERDRAFT_LIMIT = -50_000L;
+
 	private final AccountAdapter accountAdapter;
 
 	public AccountValidation(AccountAdapter accountAdapter) {
@@ -31,8 +39,8 @@ public class AccountValidation {
 	 * @param amount the amount to validate.
 	 * @throws AccountValidationException if the amount is null or less than or equal to zero.
 	 */
-	public static void validateAmount(Double amount) {
-		if (amount == null || amount <= 0) {
+	public static void validateAmount(Money amount) {
+		if (amount == null || !amount.isPositive()) {
 			throw new AccountValidationException("Amount must be greater than zero.");
 		}
 	}
@@ -41,7 +49,7 @@ public class AccountValidation {
 	 * Validates that the account has sufficient funds for the specified amount.
 	 * <p>
 	 * For savings accounts, the current balance must be greater than or equal to the amount.
-	 * For checking accounts, the current balance minus the amount must be greater than or equal to -500.
+	 * For checking accounts, the current balance minus the amount must be greater than or equal to {@link #CHECKING_OVERDRAFT_LIMIT}.
 	 * </p>
 	 *
 	 * @param account        the account to validate.
@@ -49,12 +57,13 @@ public class AccountValidation {
 	 * @param amount         the amount to validate.
 	 * @throws InsufficientFundsException if the account does not have sufficient funds.
 	 */
-	public static void validateSufficientFunds(Account account, Double currentBalance, Double amount) {
-		if (account.getAccountType() == AccountType.SAVINGS && currentBalance < amount) {
-			throw new InsufficientFundsException("Insufficient funds for withdrawal.");
-		} else if (account.getAccountType() == AccountType.CHECKING && currentBalance - amount < -500) {
+	public static void validateSufficientFunds(Account account, Money currentBalance, Money amount) {
+		long remaining = currentBalance.minorUnits() - amount.minorUnits();
+		if (account.getAccountType() == AccountType.SAVINGS && remaining < 0) {
+			throw new InsufficientFundsException("Insufficient funds for withdrawal.", account.getAccountType());
+		} else if (account.getAccountType() == AccountType.CHECKING && remaining < CHECKING_OVERDRAFT_LIMIT) {
 			throw new InsufficientFundsException("Insufficient funds for withdrawal. Account overdraft limit reached" +
-					".");
+					".", account.getAccountType());
 		}
 	}
 
@@ -70,6 +79,21 @@ public class AccountValidation {
 		}
 	}
 
+	/**
+	 * Validates if a customer exists without blocking the calling thread.
+	 *
+	 * @param customerId the ID of the customer to validate.
+	 * @return a future completed once the customer is known to exist, or failed with a
+	 * {@link CustomerNotFoundException} if it does not.
+	 */
+	public CompletableFuture<Void> validateCustomerExistsAsync(Integer customerId) {
+		return accountAdapter.customerExistsAsync(customerId).thenAccept(exists -> {
+			if (!exists) {
+				throw new CustomerNotFoundException("Customer not found for ID: " + customerId);
+			}
+		});
+	}
+
 	/**
 	 * Validates the account data in the CreateAccountDTO.
 	 *
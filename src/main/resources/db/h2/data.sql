@@ -0,0 +1,6 @@
+INSERT INTO account (account_number, balance_minor, account_type, customer_id) VALUES
+    ('A00000000001', 100000, 'SAVINGS', 1),
+    ('A00000000002', 100000, 'CHECKING', 2),
+    ('A00000000003', 100000, 'SAVINGS', 3),
+    ('A00000000004', 100000, 'CHECKING', 4),
+    ('A00000000005', 100000, 'SAVINGS', 5);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS account (
+    account_id     INT AUTO_INCREMENT PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL UNIQUE,
+    balance_minor  BIGINT NOT NULL DEFAULT 0,
+    account_type   VARCHAR(255) NOT NULL,
+    customer_id    INT NOT NULL,
+    version        BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_customer_type ON account (customer_id, account_type);
@@ -0,0 +1,110 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.BalanceSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the AccountBalanceCache.
+ */
+class AccountBalanceCacheTests {
+	private static final String ACCOUNT_NUMBER = "A000000001";
+
+	private AccountBalanceCache balanceCache;
+
+	@BeforeEach
+	public void setUp() {
+		balanceCache = new AccountBalanceCache(new AccountCacheProperties(100, Duration.ofMinutes(1)),
+				new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("Test putAfterCommit method - it never replaces a newer snapshot with an older one")
+	void AccountBalanceCache_putAfterCommit_KeepsNewestVersion() {
+		// Arrange
+		balanceCache.putAfterCommit(account("500.0", 3));
+
+		// Act
+		balanceCache.putAfterCommit(account("200.0", 2));
+
+		// Assert
+		assertEquals(Money.valueOf("500.0"), cachedBalance());
+	}
+
+	@Test
+	@DisplayName("Test putAfterCommit method - it publishes only once the transaction commits")
+	void AccountBalanceCache_putAfterCommit_WaitsForCommit() {
+		// Arrange
+		balanceCache.putAfterCommit(account("100.0", 1));
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		balanceCache.putAfterCommit(account("300.0", 2));
+		Money beforeCommit = cachedBalance();
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// Assert
+		assertEquals(Money.valueOf("100.0"), beforeCommit);
+		assertEquals(Money.valueOf("300.0"), cachedBalance());
+	}
+
+	@Test
+	@DisplayName("Test evictAfterCommit method - it makes the next read load the account again")
+	void AccountBalanceCache_evictAfterCommit_RemovesEntry() {
+		// Arrange
+		balanceCache.putAfterCommit(account("100.0", 1));
+
+		// Act
+		balanceCache.evictAfterCommit(ACCOUNT_NUMBER);
+
+		// Assert
+		assertFalse(balanceCache.get(ACCOUNT_NUMBER, number -> Optional.empty()).isPresent());
+		assertEquals(1, balanceCache.stats().missCount());
+	}
+
+	@Test
+	@DisplayName("Test get method - it does not cache unknown account numbers")
+	void AccountBalanceCache_get_DoesNotCacheMisses() {
+		// Act
+		balanceCache.get(ACCOUNT_NUMBER, number -> Optional.empty());
+		Optional<BalanceSnapshot> snapshot = balanceCache.get(ACCOUNT_NUMBER,
+				number -> Optional.of(account("100.0", 1)));
+
+		// Assert
+		assertTrue(snapshot.isPresent());
+		assertEquals(2, balanceCache.stats().missCount());
+	}
+
+	private Money cachedBalance() {
+		return balanceCache.get(ACCOUNT_NUMBER, number -> Optional.empty()).orElseThrow().balance();
+	}
+
+	private static Account account(String balance, long version) {
+		return Account.builder().accountId(1).accountNumber(ACCOUNT_NUMBER).balance(Money.valueOf(balance))
+				.accountType(AccountType.SAVINGS).customerId(1).version(version).build();
+	}
+}
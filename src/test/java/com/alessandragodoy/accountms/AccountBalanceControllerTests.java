@@ -0,0 +1,132 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.AccountBalanceController;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.TransactionRequestDTO;
+import com.alessandragodoy.accountms.exception.IdempotencyKeyReusedException;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountBalanceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountBalanceController.class)
+class AccountBalanceControllerTests {
+
+	@MockBean
+	AccountBalanceService accountBalanceService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	List<AccountDTO> accounts = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		accounts.add(new AccountDTO(1, "A0001", Money.valueOf("100.0"), AccountType.SAVINGS, 1));
+		accounts.add(new AccountDTO(1, "A0002", Money.valueOf("100.0"), AccountType.CHECKING, 2));
+		accounts.add(new AccountDTO(1, "A0003", Money.valueOf("100.0"), AccountType.SAVINGS, 3));
+	}
+
+	@Test
+	@DisplayName("Test deposit - Returns a AccountDTO with deposit data")
+	void deposit_ReturnsAccountDTO() throws Exception {
+		int accountId = 2;
+		TransactionRequestDTO transactionRequest = new TransactionRequestDTO(Money.valueOf("100.0"));
+
+		when(accountBalanceService.deposit(accountId, transactionRequest.amount(), null)).thenReturn(accounts.get(1));
+
+		mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/accounts/deposit/" + accountId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(new ObjectMapper().writeValueAsString(transactionRequest))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.customerId").value(accountId))
+				.andDo(print());
+
+	}
+
+	@Test
+	@DisplayName("Test withdraw - Returns a AccountDTO with withdraw data")
+	void withdraw_ReturnsAccountDTO() throws Exception {
+		int accountId = 3;
+		TransactionRequestDTO transactionRequest = new TransactionRequestDTO(Money.valueOf("100.0"));
+
+		when(accountBalanceService.withdraw(accountId, transactionRequest.amount(), null)).thenReturn(accounts.get(2));
+
+		mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/accounts/withdraw/" + accountId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(new ObjectMapper().writeValueAsString(transactionRequest))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.customerId").value(accountId))
+				.andDo(print());
+
+	}
+
+	@Test
+	@DisplayName("Test updateBalanceByAccountNumber - Returns String")
+	void updateBalanceByAccountNumber_ReturnsString() throws Exception {
+		String accountNumber = "A0003";
+		Money amount = Money.valueOf("500.0");
+
+		when(accountBalanceService.updateBalanceByAccountNumber(accountNumber, amount, null)).thenReturn(accounts.get(2));
+
+		mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/accounts/update/" + accountNumber + "?amount=" + amount)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").value("Balance updated successfully"))
+				.andDo(print());
+
+	}
+
+	@Test
+	@DisplayName("Test updateBalanceByAccountNumber - Passes the Idempotency-Key header to the service")
+	void updateBalanceByAccountNumber_WithIdempotencyKey_PassesKey() throws Exception {
+		String accountNumber = "A0003";
+		Money amount = Money.valueOf("500.0");
+
+		when(accountBalanceService.updateBalanceByAccountNumber(accountNumber, amount, "retry-1"))
+				.thenReturn(accounts.get(2));
+
+		mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/accounts/update/" + accountNumber + "?amount=" + amount)
+						.header("Idempotency-Key", "retry-1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").value("Balance updated successfully"));
+
+		verify(accountBalanceService).updateBalanceByAccountNumber(accountNumber, amount, "retry-1");
+	}
+
+	@Test
+	@DisplayName("Test deposit - Returns 422 when the Idempotency-Key was used for another request")
+	void deposit_ReusedIdempotencyKey_ReturnsUnprocessableEntity() throws Exception {
+		TransactionRequestDTO transactionRequest = new TransactionRequestDTO(Money.valueOf("100.0"));
+
+		when(accountBalanceService.deposit(2, transactionRequest.amount(), "retry-2"))
+				.thenThrow(new IdempotencyKeyReusedException("Idempotency key retry-2 was already used for a " +
+						"different request."));
+
+		mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/accounts/deposit/2")
+						.header("Idempotency-Key", "retry-2")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(new ObjectMapper().writeValueAsString(transactionRequest)))
+				.andExpect(status().isUnprocessableEntity());
+	}
+}
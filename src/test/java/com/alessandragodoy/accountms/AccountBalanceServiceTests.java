@@ -0,0 +1,261 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.balance.BalanceMutationEngine;
+import com.alessandragodoy.accountms.service.balance.DepositCoalescer;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.BalanceSnapshot;
+import com.alessandragodoy.accountms.service.idempotency.IdempotencyStore;
+import com.alessandragodoy.accountms.service.impl.AccountBalanceServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AccountBalanceService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceServiceTests {
+	public List<Account> accounts = new ArrayList<>();
+	@InjectMocks
+	private AccountBalanceServiceImpl accountBalanceService;
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private BalanceMutationEngine balanceMutationEngine;
+	@Mock
+	private BalanceLedger balanceLedger;
+	@Mock
+	private DepositCoalescer depositCoalescer;
+	@Spy
+	private AccountBalanceCache balanceCache = new AccountBalanceCache(
+			new AccountCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+	@Mock
+	private IdempotencyStore idempotencyStore;
+
+	@BeforeEach
+	public void setUp() {
+		lenient().when(balanceMutationEngine.execute(anyInt(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		lenient().when(idempotencyStore.execute(any(), anyString(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+		accounts.add(Account.builder()
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.SAVINGS).customerId(1).build());
+		accounts.add(Account.builder()
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.SAVINGS).customerId(2).build());
+		accounts.add(Account.builder()
+				.accountId(3).accountNumber("A000000003").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.CHECKING).customerId(2).build());
+	}
+
+	@Test
+	@DisplayName("Test deposit method - it returns AccountDTO")
+	void AccountBalanceService_deposit_ReturnsAccountDTO() {
+		// Arrange
+		int accountId = 1;
+		Money amount = Money.valueOf("100.0");
+		Account existingAccount = accounts.get(0);
+		existingAccount.setBalance(Money.valueOf("1100.0"));
+		when(accountRepository.updateBalanceDeposit(accountId, amount.minorUnits())).thenReturn(1);
+		when(accountRepository.findById(accountId)).thenReturn(Optional.ofNullable(existingAccount));
+
+		// Act
+		AccountDTO accountDTO = accountBalanceService.deposit(accountId, amount);
+
+		// Assert
+		assertNotNull(accountDTO);
+		assertEquals(Money.valueOf("1100.0"), accountDTO.balance());
+		verify(accountRepository, times(1)).findById(accountId);
+		verify(accountRepository, times(1)).updateBalanceDeposit(accountId, amount.minorUnits());
+		verify(balanceLedger, times(1)).record(existingAccount, LedgerEntryType.DEPOSIT, amount);
+	}
+
+	@Test
+	@DisplayName("Test deposit method - it remembers the result under the key in the same transaction")
+	void AccountBalanceService_deposit_NewKey_RemembersResult() {
+		// Arrange
+		Money amount = Money.valueOf("100.0");
+		Account existingAccount = accounts.get(0);
+		when(accountRepository.updateBalanceDeposit(1, amount.minorUnits())).thenReturn(1);
+		when(accountRepository.findById(1)).thenReturn(Optional.of(existingAccount));
+
+		// Act
+		AccountDTO accountDTO = accountBalanceService.deposit(1, amount, "key-2");
+
+		// Assert
+		verify(idempotencyStore, times(1)).remember("key-2", "deposit 1 100.00", accountDTO);
+		verify(depositCoalescer, never()).submit(anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("Test withdraw method - it returns AccountDTO")
+	void AccountBalanceService_withdraw_ReturnsAccountDTO() {
+		// Arrange
+		int accountId = 1;
+		Money amount = Money.valueOf("100.0");
+		Account existingAccount = accounts.get(0);
+		Money updatedBalance = existingAccount.getBalance().minus(amount);
+		existingAccount.setBalance(updatedBalance);
+		when(accountRepository.withdrawIfSufficientFunds(accountId, amount.minorUnits())).thenReturn(1);
+		when(accountRepository.findById(accountId)).thenReturn(Optional.of(existingAccount));
+
+		// Act
+		AccountDTO accountDTO = accountBalanceService.withdraw(accountId, amount);
+
+		// Assert
+		assertNotNull(accountDTO);
+		assertEquals(updatedBalance, accountDTO.balance());
+		verify(accountRepository, times(1)).withdrawIfSufficientFunds(accountId, amount.minorUnits());
+		verify(accountRepository, times(1)).findById(accountId);
+		verify(balanceLedger, times(1)).record(existingAccount, LedgerEntryType.WITHDRAWAL, amount.negate());
+	}
+
+	@Test
+	@DisplayName("Test deposit method - it returns AccountValidationException for invalid amount")
+	void AccountBalanceService_deposit_ReturnsException() {
+		// Arrange
+		int accountId = 1;
+		Money invalidAmount = Money.valueOf("-100.0");
+
+		// Act & Assert
+		AccountValidationException exception = assertThrows(AccountValidationException.class,
+				() -> accountBalanceService.deposit(accountId, invalidAmount));
+		assertEquals("Amount must be greater than zero.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("Test deposit method - it returns AccountNotFoundException")
+	void AccountBalanceService_deposit_ReturnsExceptionNotFound() {
+		// Arrange
+		int accountId = 10;
+		Money amount = Money.valueOf("100.0");
+
+		when(accountRepository.updateBalanceDeposit(accountId, amount.minorUnits())).thenReturn(0);
+		// Act & Assert
+		AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
+				() -> accountBalanceService.deposit(accountId, amount));
+		assertEquals("Deposit can not continue. Account not found for ID: " + accountId, exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("Test withdraw method - it returns InsufficientFundsException for savings account")
+	void AccountBalanceService_withdraw_ReturnsExceptionSavings() {
+		// Arrange
+		int accountId = 1;
+		Money amount = Money.valueOf("2000.0");
+		Account existingAccount = accounts.get(0);
+
+		when(accountRepository.findById(accountId)).thenReturn(Optional.ofNullable(existingAccount));
+
+		// Act & Assert
+		InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
+				() -> accountBalanceService.withdraw(accountId, amount));
+		assertEquals("Insufficient funds for withdrawal.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("Test withdraw method - it returns InsufficientFundsException for checking account")
+	void AccountBalanceService_withdraw_ReturnsExceptionChecking() {
+		// Arrange
+		int accountId = 3;
+		Money amount = Money.valueOf("2000.0");
+		Account existingAccount = accounts.get(2);
+
+		when(accountRepository.findById(accountId)).thenReturn(Optional.ofNullable(existingAccount));
+
+		// Act & Assert
+		InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
+				() -> accountBalanceService.withdraw(accountId, amount));
+		assertEquals("Insufficient funds for withdrawal. Account overdraft limit reached.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("Test withdraw method - it returns AccountNotFoundException when no row is updated")
+	void AccountBalanceService_withdraw_ReturnsExceptionNotFound() {
+		// Arrange
+		int accountId = 10;
+		Money amount = Money.valueOf("100.0");
+
+		when(accountRepository.withdrawIfSufficientFunds(accountId, amount.minorUnits())).thenReturn(0);
+		when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
+
+		// Act & Assert
+		AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
+				() -> accountBalanceService.withdraw(accountId, amount));
+		assertEquals("Withdraw can not continue. Account not found for ID: " + accountId, exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("Test updateBalanceByAccountNumber method - it returns boolean")
+	void AccountBalanceService_updateBalanceByAccountNumber_ReturnsBoolean() {
+		// Arrange
+		String accountNumber = "A000000001";
+		Money amount = Money.valueOf("500.0");
+		Account account = accounts.get(0);
+		when(accountRepository.findAccountIdByAccountNumber(accountNumber)).thenReturn(Optional.of(1));
+		when(accountRepository.findById(1)).thenReturn(Optional.of(account));
+		when(accountRepository.save(account)).thenReturn(account);
+
+		// Act
+		accountBalanceService.updateBalanceByAccountNumber(accountNumber, amount);
+
+		// Assert
+		assertEquals(Money.valueOf("1500.0"), account.getBalance());
+		verify(accountRepository, times(1)).findAccountIdByAccountNumber(accountNumber);
+		verify(accountRepository, times(1)).save(account);
+		verify(balanceLedger, times(1)).record(account, LedgerEntryType.ADJUSTMENT, amount);
+	}
+
+	@Test
+	@DisplayName("Test updateBalanceByAccountNumber method - it writes the new balance through to the cache")
+	void AccountBalanceService_updateBalanceByAccountNumber_UpdatesCachedBalance() {
+		// Arrange
+		String accountNumber = "A000000001";
+		Account account = accounts.get(0);
+		when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+		when(accountRepository.findAccountIdByAccountNumber(accountNumber)).thenReturn(Optional.of(1));
+		when(accountRepository.findById(1)).thenReturn(Optional.of(account));
+		when(accountRepository.save(account)).thenAnswer(invocation -> {
+			account.setVersion(account.getVersion() + 1);
+			return account;
+		});
+		balanceCache.get(accountNumber, accountRepository::findByAccountNumber);
+
+		// Act
+		accountBalanceService.updateBalanceByAccountNumber(accountNumber, Money.valueOf("-250.0"));
+		Optional<BalanceSnapshot> cached = balanceCache.get(accountNumber, accountRepository::findByAccountNumber);
+
+		// Assert
+		assertEquals(Money.valueOf("750.0"), cached.orElseThrow().balance());
+		verify(accountRepository, times(1)).findByAccountNumber(accountNumber);
+	}
+}
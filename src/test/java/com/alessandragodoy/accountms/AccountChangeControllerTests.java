@@ -0,0 +1,54 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.AccountChangeController;
+import com.alessandragodoy.accountms.controller.dto.AccountChangeDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountChangeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountChangeController.class)
+class AccountChangeControllerTests {
+
+	@MockBean
+	AccountChangeService accountChangeService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	AccountDTO account = new AccountDTO(1, "A0001", Money.valueOf("100.0"), AccountType.SAVINGS, 1);
+
+	@Test
+	@DisplayName("Test getChanges - Returns changed and deleted accounts with the next cursor")
+	void getChanges_ReturnsAccountChangesDTO() throws Exception {
+		when(accountChangeService.getChanges(10, 100)).thenReturn(new AccountChangesDTO(List.of(
+				new AccountChangeDTO(11, 1, "A0001", false, account),
+				new AccountChangeDTO(12, 4, "A0004", true, null)), 12, false));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/changes?since=10")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.changes.length()").value(2))
+				.andExpect(jsonPath("$.changes[0].account.accountNumber").value("A0001"))
+				.andExpect(jsonPath("$.changes[1].deleted").value(true))
+				.andExpect(jsonPath("$.nextCursor").value(12))
+				.andExpect(jsonPath("$.hasMore").value(false))
+				.andDo(print());
+	}
+}
@@ -0,0 +1,118 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.ChangeFeedProperties;
+import com.alessandragodoy.accountms.controller.dto.AccountChangeDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountTombstone;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.AccountTombstoneRepository;
+import com.alessandragodoy.accountms.service.changes.AccountChangeFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the AccountChangeFeed.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountChangeFeedTests {
+	private static final Instant SETTLED = Instant.now().minus(Duration.ofMinutes(1));
+
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private AccountTombstoneRepository accountTombstoneRepository;
+	private AccountChangeFeed accountChangeFeed;
+
+	@BeforeEach
+	void setUp() {
+		accountChangeFeed = new AccountChangeFeed(accountRepository, accountTombstoneRepository,
+				new ChangeFeedProperties(Duration.ofSeconds(5)));
+	}
+
+	private static Account account(Integer accountId, long changeSeq, Instant changedAt) {
+		return Account.builder()
+				.accountId(accountId).accountNumber("A00000000" + accountId).balance(Money.valueOf("100.0"))
+				.accountType(AccountType.SAVINGS).customerId(1)
+				.changeSeq(changeSeq).changedAt(changedAt).build();
+	}
+
+	private static AccountTombstone tombstone(Integer accountId, long changeSeq) {
+		return AccountTombstone.builder()
+				.accountId(accountId).accountNumber("A00000000" + accountId)
+				.changeSeq(changeSeq).deletedAt(SETTLED).build();
+	}
+
+	@Test
+	@DisplayName("Test changesSince method - it merges changed and deleted accounts in change sequence order")
+	void AccountChangeFeed_changesSince_MergesTombstones() {
+		// Arrange
+		when(accountRepository.findByChangeSeqGreaterThanOrderByChangeSeq(10, Limit.of(4)))
+				.thenReturn(List.of(account(1, 11, SETTLED), account(3, 14, SETTLED)));
+		when(accountTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeq(10, Limit.of(4)))
+				.thenReturn(List.of(tombstone(2, 12)));
+
+		// Act
+		AccountChangesDTO changes = accountChangeFeed.changesSince(10, 3);
+
+		// Assert
+		assertEquals(List.of(11L, 12L, 14L), changes.changes().stream().map(AccountChangeDTO::changeSeq).toList());
+		assertTrue(changes.changes().get(1).deleted());
+		assertNull(changes.changes().get(1).account());
+		assertEquals("A000000003", changes.changes().get(2).account().accountNumber());
+		assertEquals(14, changes.nextCursor());
+		assertFalse(changes.hasMore());
+	}
+
+	@Test
+	@DisplayName("Test changesSince method - it cuts the page at the limit and reports more changes")
+	void AccountChangeFeed_changesSince_FullPage_HasMore() {
+		// Arrange
+		when(accountRepository.findByChangeSeqGreaterThanOrderByChangeSeq(-1, Limit.of(3)))
+				.thenReturn(List.of(account(1, 1, SETTLED), account(3, 3, SETTLED)));
+		when(accountTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeq(-1, Limit.of(3)))
+				.thenReturn(List.of(tombstone(2, 2)));
+
+		// Act
+		AccountChangesDTO changes = accountChangeFeed.changesSince(-1, 2);
+
+		// Assert
+		assertEquals(2, changes.changes().size());
+		assertEquals(2, changes.nextCursor());
+		assertTrue(changes.hasMore());
+	}
+
+	@Test
+	@DisplayName("Test changesSince method - it keeps the cursor before changes younger than the settle time")
+	void AccountChangeFeed_changesSince_RecentChange_HoldsCursor() {
+		// Arrange
+		when(accountRepository.findByChangeSeqGreaterThanOrderByChangeSeq(10, Limit.of(101)))
+				.thenReturn(List.of(account(1, 11, SETTLED), account(2, 12, Instant.now()), account(3, 13, SETTLED)));
+		when(accountTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeq(10, Limit.of(101)))
+				.thenReturn(List.of());
+
+		// Act
+		AccountChangesDTO changes = accountChangeFeed.changesSince(10, 100);
+
+		// Assert
+		assertEquals(3, changes.changes().size());
+		assertEquals(11, changes.nextCursor());
+	}
+}
@@ -0,0 +1,52 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountChangesDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.service.changes.AccountChangeFeed;
+import com.alessandragodoy.accountms.service.impl.AccountChangeServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AccountChangeService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountChangeServiceTests {
+	@InjectMocks
+	private AccountChangeServiceImpl accountChangeService;
+	@Mock
+	private AccountChangeFeed accountChangeFeed;
+
+	@Test
+	@DisplayName("Test getChanges method - it returns the changes read from the change feed")
+	void AccountChangeService_GetChanges_ReturnsAccountChangesDTO() {
+		// Arrange
+		AccountChangesDTO changes = new AccountChangesDTO(List.of(), 7, false);
+		when(accountChangeFeed.changesSince(7, 50)).thenReturn(changes);
+
+		// Act
+		AccountChangesDTO result = accountChangeService.getChanges(7, 50);
+
+		// Assert
+		assertEquals(changes, result);
+	}
+
+	@Test
+	@DisplayName("Test getChanges method - it rejects a limit out of range without reading the feed")
+	void AccountChangeService_getChanges_LimitOutOfRange_ThrowsException() {
+		// Act & Assert
+		assertThrows(AccountValidationException.class, () -> accountChangeService.getChanges(-1, 0));
+		assertThrows(AccountValidationException.class, () -> accountChangeService.getChanges(-1, 1_001));
+		verifyNoInteractions(accountChangeFeed);
+	}
+}
@@ -0,0 +1,291 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Offline load test of the HTTP surface of the AccountController.
+ * <p>
+ * The application runs on an embedded H2 database, and an in-process stub answers the Customer microservice
+ * calls with a configurable latency and error rate. A closed-loop driver mixes create, deposit, withdraw, balance
+ * and verify requests, then reports throughput and latency percentiles per endpoint and checks that the sum of
+ * all balances matches the successful operations. Run with {@code mvn test -Pbenchmark -Dtest=AccountLoadTests},
+ * tuning it with the {@code load.duration}, {@code load.concurrency}, {@code customer.stub.latency} and
+ * {@code customer.stub.error-rate} system properties.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:h2:mem:accountms-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"logging.level.root=WARN"})
+class AccountLoadTests {
+	private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "30s"));
+	private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+	private static final long STUB_LATENCY_MILLIS = Long.getLong("customer.stub.latency", 20);
+	private static final double STUB_ERROR_RATE =
+			Double.parseDouble(System.getProperty("customer.stub.error-rate", "0.01"));
+	private static final int UNKNOWN_CUSTOMER_ID = 1_000_000;
+	private static final HttpServer CUSTOMER_STUB = startCustomerStub();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final List<AccountDTO> accounts = Collections.synchronizedList(new ArrayList<>());
+	private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+	private final LongAdder expectedChange = new LongAdder();
+	private final AtomicLong unknownOutcomes = new AtomicLong();
+
+	@LocalServerPort
+	private int port;
+
+	@DynamicPropertySource
+	static void customerStubUrl(DynamicPropertyRegistry registry) {
+		registry.add("customer.ms.url",
+				() -> "http://localhost:" + CUSTOMER_STUB.getAddress().getPort() + "/api/v1/customers");
+	}
+
+	@AfterAll
+	static void stopCustomerStub() {
+		CUSTOMER_STUB.stop(0);
+	}
+
+	/**
+	 * Answers customer lookups after the configured latency: unknown IDs with 404, a share of calls with 500 and
+	 * every other ID as an existing customer.
+	 */
+	private static HttpServer startCustomerStub() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			server.createContext("/api/v1/customers", exchange -> {
+				try {
+					Thread.sleep(STUB_LATENCY_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				String path = exchange.getRequestURI().getPath();
+				int customerId = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+				int status = ThreadLocalRandom.current().nextDouble() < STUB_ERROR_RATE ? 500 :
+						customerId >= UNKNOWN_CUSTOMER_ID ? 404 : 200;
+				byte[] body = "true".getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(status, body.length);
+				try (OutputStream outputStream = exchange.getResponseBody()) {
+					outputStream.write(body);
+				}
+			});
+			server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+			server.start();
+			return server;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Load test - mixed traffic keeps the sum of balances equal to the applied operations")
+	void AccountController_mixedTraffic_ConservesBalances() throws Exception {
+		// Arrange
+		Arrays.stream(Operation.values()).forEach(operation -> recorders.put(operation, new Recorder()));
+		long initialTotal = totalBalance();
+		accounts.addAll(allAccounts());
+
+		// Act
+		long deadline = System.nanoTime() + DURATION.toNanos();
+		try (ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY)) {
+			List<Future<?>> drivers = new ArrayList<>();
+			for (int i = 0; i < CONCURRENCY; i++) {
+				drivers.add(workers.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						runOne(Operation.pick());
+					}
+					return null;
+				}));
+			}
+			for (Future<?> driver : drivers) {
+				driver.get(DURATION.toSeconds() + 60, TimeUnit.SECONDS);
+			}
+		}
+
+		// Assert
+		report();
+		assertEquals(0, unknownOutcomes.get());
+		assertEquals(initialTotal + expectedChange.sum(), totalBalance());
+	}
+
+	private void runOne(Operation operation) throws Exception {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		AccountDTO account = accounts.get(random.nextInt(accounts.size()));
+		int amount = 1 + random.nextInt(100);
+		HttpRequest request = switch (operation) {
+			case CREATE -> json("/api/v1/accounts", "POST", "{\"balance\":" + amount + ",\"accountType\":\"" +
+					(random.nextBoolean() ? "SAVINGS" : "CHECKING") + "\",\"customerId\":" +
+					(random.nextInt(20) == 0 ? UNKNOWN_CUSTOMER_ID : random.nextInt(UNKNOWN_CUSTOMER_ID)) + "}");
+			case DEPOSIT -> json("/api/v1/accounts/deposit/" + account.accountId(), "PUT",
+					"{\"amount\":" + amount + "}");
+			case WITHDRAW -> json("/api/v1/accounts/withdraw/" + account.accountId(), "PUT",
+					"{\"amount\":" + amount + "}");
+			case BALANCE -> get("/api/v1/accounts/balance/" + account.accountNumber());
+			case VERIFY -> get("/api/v1/accounts/verify/" + account.accountNumber());
+		};
+
+		long start = System.nanoTime();
+		HttpResponse<String> response;
+		try {
+			response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (IOException e) {
+			recorders.get(operation).record(System.nanoTime() - start, -1);
+			if (operation != Operation.BALANCE && operation != Operation.VERIFY) {
+				unknownOutcomes.incrementAndGet();
+			}
+			return;
+		}
+		recorders.get(operation).record(System.nanoTime() - start, response.statusCode());
+
+		if (response.statusCode() == 200) {
+			switch (operation) {
+				case CREATE -> {
+					accounts.add(objectMapper.readValue(response.body(), AccountDTO.class));
+					expectedChange.add(amount * 100L);
+				}
+				case DEPOSIT -> expectedChange.add(amount * 100L);
+				case WITHDRAW -> expectedChange.add(-amount * 100L);
+				default -> {
+				}
+			}
+		}
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(Duration.ofSeconds(30))
+				.GET()
+				.build();
+	}
+
+	private HttpRequest json(String path, String method, String body) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json")
+				.method(method, HttpRequest.BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private List<AccountDTO> allAccounts() throws Exception {
+		List<AccountDTO> all = new ArrayList<>();
+		Integer cursor = null;
+		do {
+			HttpResponse<String> response = client.send(get("/api/v1/accounts?limit=1000" +
+					(cursor == null ? "" : "&after=" + cursor)), HttpResponse.BodyHandlers.ofString());
+			AccountPageDTO page = objectMapper.readValue(response.body(), AccountPageDTO.class);
+			all.addAll(page.accounts());
+			cursor = page.nextCursor();
+		} while (cursor != null);
+		return all;
+	}
+
+	private long totalBalance() throws Exception {
+		return allAccounts().stream().mapToLong(account -> account.balance().minorUnits()).sum();
+	}
+
+	private void report() {
+		double seconds = DURATION.toNanos() / 1e9;
+		System.out.printf("%-9s %8s %9s %9s %9s %9s  %s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms",
+				"p999 ms", "status codes");
+		recorders.forEach((operation, recorder) -> System.out.printf("%-9s %8d %9.1f %9.2f %9.2f %9.2f  %s%n",
+				operation, recorder.count(), recorder.count() / seconds, recorder.percentileMillis(0.50),
+				recorder.percentileMillis(0.99), recorder.percentileMillis(0.999), recorder.statuses()));
+	}
+
+	/**
+	 * The operations of the traffic mix, with their share of the requests in percent.
+	 */
+	private enum Operation {
+		CREATE(5), DEPOSIT(30), WITHDRAW(25), BALANCE(30), VERIFY(10);
+
+		private final int weight;
+
+		Operation(int weight) {
+			this.weight = weight;
+		}
+
+		static Operation pick() {
+			int roll = ThreadLocalRandom.current().nextInt(100);
+			for (Operation operation : values()) {
+				roll -= operation.weight;
+				if (roll < 0) {
+					return operation;
+				}
+			}
+			return VERIFY;
+		}
+	}
+
+	/**
+	 * Latencies and status codes of one endpoint; -1 stands for a request that got no response.
+	 */
+	private static final class Recorder {
+		private final List<Long> latencies = new ArrayList<>();
+		private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+		synchronized void record(long latencyNanos, int status) {
+			latencies.add(latencyNanos);
+			statuses.merge(status, 1, Integer::sum);
+		}
+
+		synchronized int count() {
+			return latencies.size();
+		}
+
+		synchronized double percentileMillis(double percentile) {
+			if (latencies.isEmpty()) {
+				return 0;
+			}
+			List<Long> sorted = latencies.stream().sorted().toList();
+			int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+			return sorted.get(Math.max(index, 0)) / 1e6;
+		}
+
+		synchronized Map<Integer, Integer> statuses() {
+			return new TreeMap<>(statuses);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountLockProperties;
+import com.alessandragodoy.accountms.exception.AccountBusyException;
+import com.alessandragodoy.accountms.service.balance.AccountLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the striped AccountLockManager.
+ */
+class AccountLockManagerTests {
+	private SimpleMeterRegistry meterRegistry;
+	private AccountLockManager lockManager;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		lockManager = new AccountLockManager(new AccountLockProperties(10, Duration.ofMillis(50)), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("Test constructor - it rounds the stripe count up to a power of two")
+	void AccountLockManager_constructor_RoundsStripes() {
+		assertEquals(16, lockManager.queueDepths().length);
+	}
+
+	@Test
+	@DisplayName("Test withLock method - it serializes concurrent updates to the same account")
+	void AccountLockManager_withLock_SerializesSameAccount() throws Exception {
+		// Arrange
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		AtomicInteger inside = new AtomicInteger();
+		AtomicInteger maxInside = new AtomicInteger();
+		AccountLockManager patientManager = new AccountLockManager(
+				new AccountLockProperties(16, Duration.ofSeconds(10)), meterRegistry);
+
+		// Act
+		Future<?>[] futures = new Future<?>[8];
+		for (int i = 0; i < futures.length; i++) {
+			futures[i] = executor.submit(() -> patientManager.withLock(7, () -> {
+				maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+				inside.decrementAndGet();
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// Assert
+		assertEquals(1, maxInside.get());
+	}
+
+	@Test
+	@DisplayName("Test withLock method - it returns AccountBusyException when the stripe is held past the timeout")
+	void AccountLockManager_withLock_ReturnsExceptionOnTimeout() throws Exception {
+		// Arrange
+		CountDownLatch held = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread holder = new Thread(() -> lockManager.withLock(1, () -> {
+			held.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}));
+		holder.start();
+		assertTrue(held.await(1, TimeUnit.SECONDS));
+
+		// Act & Assert
+		assertThrows(AccountBusyException.class, () -> lockManager.withLock(1, () -> null));
+		assertEquals(1.0, meterRegistry.counter("account.lock.timeouts").count());
+		assertEquals(0, Arrays.stream(lockManager.queueDepths()).sum());
+
+		release.countDown();
+		holder.join();
+	}
+
+	@Test
+	@DisplayName("Test withLocks method - it never deadlocks when two callers lock the same accounts in opposite order")
+	void AccountLockManager_withLocks_OppositeOrder_DoesNotDeadlock() throws Exception {
+		// Arrange
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		AtomicInteger completed = new AtomicInteger();
+		AccountLockManager patientManager = new AccountLockManager(
+				new AccountLockProperties(16, Duration.ofSeconds(10)), meterRegistry);
+
+		// Act
+		Future<?> forward = executor.submit(() -> {
+			for (int i = 0; i < 1_000; i++) {
+				patientManager.withLocks(List.of(1, 2), completed::incrementAndGet);
+			}
+		});
+		Future<?> backward = executor.submit(() -> {
+			for (int i = 0; i < 1_000; i++) {
+				patientManager.withLocks(List.of(2, 1), completed::incrementAndGet);
+			}
+		});
+		forward.get(10, TimeUnit.SECONDS);
+		backward.get(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// Assert
+		assertEquals(2_000, completed.get());
+		assertEquals(0.0, meterRegistry.counter("account.lock.timeouts").count());
+		assertEquals(0, Arrays.stream(patientManager.queueDepths()).sum());
+	}
+}
@@ -0,0 +1,58 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.AccountLookupController;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountLookupService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountLookupController.class)
+class AccountLookupControllerTests {
+
+	@MockBean
+	AccountLookupService accountLookupService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@DisplayName("Test getAccountBalance - Returns the balance as a decimal number")
+	void getAccountBalance_ReturnsBalance() throws Exception {
+		String accountNumber = "A0003";
+		Money amount = Money.valueOf("500.0");
+		when(accountLookupService.getAccountBalance(accountNumber)).thenReturn(amount);
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/balance/" + accountNumber)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").value(500.0))
+				.andDo(print());
+
+	}
+
+	@Test
+	@DisplayName("Test verifyAccountByAccountNumber - Returns boolean")
+	void verifyAccountByAccountNumber_ReturnsBoolean() throws Exception {
+		String accountNumber = "A0003";
+
+		when(accountLookupService.accountExistsByAccountNumber(accountNumber)).thenReturn(true);
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/verify/" + accountNumber)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").value(true))
+				.andDo(print());
+
+	}
+}
@@ -0,0 +1,141 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountNumberFilterProperties;
+import com.alessandragodoy.accountms.configuration.AccountNumberProperties;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.cache.AccountNumberFilter;
+import com.alessandragodoy.accountms.service.cache.CountingBloomFilter;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the AccountNumberFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountNumberFilterTests {
+	private static final String FIRST = "A000000000018";
+	private static final String SECOND = "A000000000026";
+	private static final String SEVENTH = "A000000000075";
+
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private AccountNumberGenerator numberGenerator;
+	private AccountNumberFilter filter;
+
+	@BeforeEach
+	void setUp() throws InterruptedException {
+		doAnswer(invocation -> {
+			Consumer<Account> consumer = invocation.getArgument(2);
+			consumer.accept(Account.builder().accountNumber(FIRST).build());
+			return null;
+		}).when(accountRepository).forEachAccount(any(), any(), any());
+		when(numberGenerator.nextUnreserved()).thenReturn(3L);
+		filter = built(1_000, 0.001);
+	}
+
+	private AccountNumberFilter built(long expectedInsertions, double falsePositiveRate)
+			throws InterruptedException {
+		AccountNumberFilter built = new AccountNumberFilter(accountRepository, numberGenerator,
+				new AccountNumberFilterProperties(true, expectedInsertions, falsePositiveRate, Duration.ZERO,
+						Duration.ZERO),
+				new AccountNumberProperties(100, Duration.ZERO), new SimpleMeterRegistry());
+		built.rebuild();
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (!built.stats().ready() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		return built;
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static List<TransactionSynchronization> removeInTransaction(AccountNumberFilter filter, String number) {
+		TransactionSynchronizationManager.initSynchronization();
+		filter.removeAfterCommit(number);
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		return synchronizations;
+	}
+
+	@Test
+	@DisplayName("Test removeAfterCommit method - a rolled back delete leaves the account number in the filter")
+	void AccountNumberFilter_removeAfterCommit_RolledBack_KeepsNumber() {
+		// Act
+		removeInTransaction(filter, FIRST)
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// Assert
+		assertTrue(filter.mightContain(FIRST));
+	}
+
+	@Test
+	@DisplayName("Test removeAfterCommit method - a committed delete removes the account number from the filter")
+	void AccountNumberFilter_removeAfterCommit_Committed_RemovesNumber() {
+		// Arrange
+		List<TransactionSynchronization> synchronizations = removeInTransaction(filter, FIRST);
+		assertTrue(filter.mightContain(FIRST));
+
+		// Act
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+		// Assert
+		assertFalse(filter.mightContain(FIRST));
+	}
+
+	@Test
+	@DisplayName("Test removeAfterCommit method - deleting a number the filter never held keeps the colliding numbers")
+	void AccountNumberFilter_removeAfterCommit_CollidingNonMember_KeepsMember() throws InterruptedException {
+		// Arrange
+		AccountNumberFilter small = built(1, 0.5);
+		CountingBloomFilter probe = new CountingBloomFilter(1, 0.5);
+		probe.add(FIRST);
+		// A number another instance issued after the build whose counters are all shared with FIRST.
+		String collider = LongStream.range(3, 100_000)
+				.mapToObj(payload -> String.format("A%011d0", payload))
+				.filter(probe::mightContain)
+				.findFirst().orElseThrow();
+
+		// Act
+		small.removeAfterCommit(collider);
+
+		// Assert
+		assertTrue(small.mightContain(FIRST));
+		assertEquals(1, small.stats().accounts());
+	}
+
+	@Test
+	@DisplayName("Test mightContain method - it only rules out numbers issued before the filter was built")
+	void AccountNumberFilter_mightContain_NumberIssuedAfterBuild_LetsThrough() {
+		// Act & Assert
+		assertFalse(filter.mightContain(SECOND));
+		assertTrue(filter.mightContain(SEVENTH));
+	}
+}
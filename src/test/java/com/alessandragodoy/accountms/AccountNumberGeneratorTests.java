@@ -0,0 +1,127 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountNumberProperties;
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import com.alessandragodoy.accountms.repository.AccountNumberSequenceRepository;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the block-allocating AccountNumberGenerator.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountNumberGeneratorTests {
+	@Mock
+	private AccountNumberSequenceRepository sequenceRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	private AccountNumberSequence sequence;
+	private AccountNumberGenerator generator;
+
+	@BeforeEach
+	public void setUp() {
+		lenient().when(sequenceRepository.findForUpdate("account_number"))
+				.thenAnswer(invocation -> Optional.ofNullable(sequence));
+		lenient().when(sequenceRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+			sequence = invocation.getArgument(0);
+			return sequence;
+		});
+		generator = new AccountNumberGenerator(sequenceRepository, transactionManager, new AccountNumberProperties(100, Duration.ZERO));
+	}
+
+	@Test
+	@DisplayName("Test generate method - it returns A, 11 sequence digits and a Luhn check digit")
+	void AccountNumberGenerator_generate_ReturnsCheckedNumber() {
+		// Act
+		String first = generator.generate();
+		String second = generator.generate();
+
+		// Assert
+		assertEquals("A000000000018", first);
+		assertEquals("A000000000026", second);
+		assertTrue(AccountNumberGenerator.isPlausible(first));
+	}
+
+	@Test
+	@DisplayName("Test generate method - it reserves one block of numbers per database round trip")
+	void AccountNumberGenerator_generate_ReservesBlocks() {
+		// Act
+		IntStream.range(0, 250).forEach(i -> generator.generate());
+
+		// Assert
+		verify(sequenceRepository, times(3)).saveAndFlush(any());
+		assertEquals(301, sequence.getNextValue());
+	}
+
+	@Test
+	@DisplayName("Test generate method - it never hands out the same number twice across threads")
+	void AccountNumberGenerator_generate_ConcurrentCallers_UniqueNumbers() throws Exception {
+		// Arrange
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+		// Act
+		List<Future<?>> futures = IntStream.range(0, 8)
+				.<Future<?>>mapToObj(i -> executor.submit(() -> {
+					for (int j = 0; j < 5_000; j++) {
+						numbers.add(generator.generate());
+					}
+				}))
+				.toList();
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// Assert
+		assertEquals(40_000, numbers.size());
+	}
+
+	@Test
+	@DisplayName("Test generate method - it gives up a block past its maximum age for one sized after its use")
+	void AccountNumberGenerator_generate_ExpiredBlock_ReservesSmallerBlock() {
+		// Arrange
+		AccountNumberGenerator expiring = new AccountNumberGenerator(sequenceRepository, transactionManager,
+				new AccountNumberProperties(100, Duration.ofNanos(1)));
+
+		// Act
+		String first = expiring.generate();
+		String second = expiring.generate();
+
+		// Assert
+		assertEquals(1, AccountNumberGenerator.payloadOf(first));
+		assertEquals(101, AccountNumberGenerator.payloadOf(second));
+		assertEquals(117, sequence.getNextValue());
+	}
+
+	@Test
+	@DisplayName("Test isPlausible method - it rejects generated-format numbers with a wrong check digit")
+	void AccountNumberGenerator_isPlausible_RejectsMistypedNumbers() {
+		// Act & Assert
+		assertFalse(AccountNumberGenerator.isPlausible("A000000000019"));
+		assertFalse(AccountNumberGenerator.isPlausible("A000000000081"));
+		assertTrue(AccountNumberGenerator.isPlausible("A00000000001"));
+	}
+}
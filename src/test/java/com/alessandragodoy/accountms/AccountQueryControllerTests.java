@@ -0,0 +1,83 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.AccountQueryController;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountQueryController.class)
+class AccountQueryControllerTests {
+
+	@MockBean
+	AccountQueryService accountQueryService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	List<AccountDTO> accounts = List.of(
+			new AccountDTO(1, "A0001", Money.valueOf("100.0"), AccountType.SAVINGS, 1),
+			new AccountDTO(2, "A0002", Money.valueOf("100.0"), AccountType.CHECKING, 2),
+			new AccountDTO(3, "A0003", Money.valueOf("100.0"), AccountType.SAVINGS, 3));
+
+	@Test
+	@DisplayName("Test getAccounts - Returns a page of AccountDTO with the next cursor")
+	void getAccounts_ReturnsAccountPageDTO() throws Exception {
+		when(accountQueryService.getAccounts(2, AccountType.CHECKING, null, 100))
+				.thenReturn(new AccountPageDTO(accounts, 3));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts?customerId=2&accountType=CHECKING")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accounts.length()").value(accounts.size()))
+				.andExpect(jsonPath("$.accounts[0].accountNumber").value(accounts.get(0).accountNumber()))
+				.andExpect(jsonPath("$.nextCursor").value(3))
+				.andDo(print());
+	}
+
+	@Test
+	@DisplayName("Test streamAccounts - Writes one AccountDTO per line")
+	void streamAccounts_WritesNewlineDelimitedJson() throws Exception {
+		doAnswer(invocation -> {
+			Consumer<AccountDTO> consumer = invocation.getArgument(2);
+			accounts.forEach(consumer);
+			return null;
+		}).when(accountQueryService).streamAccounts(eq(null), eq(null), any());
+
+		MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/stream"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		String[] lines = body.strip().split("\n");
+		assertEquals(accounts.size(), lines.length);
+		assertTrue(lines[1].contains("\"accountNumber\":\"A0002\""));
+	}
+}
@@ -0,0 +1,92 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountPageDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.impl.AccountQueryServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AccountQueryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountQueryServiceTests {
+	public List<Account> accounts = List.of(
+			Account.builder().accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
+					.accountType(AccountType.SAVINGS).customerId(1).build(),
+			Account.builder().accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
+					.accountType(AccountType.SAVINGS).customerId(2).build(),
+			Account.builder().accountId(3).accountNumber("A000000003").balance(Money.valueOf("1000.0"))
+					.accountType(AccountType.CHECKING).customerId(2).build());
+	@InjectMocks
+	private AccountQueryServiceImpl accountQueryService;
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Test
+	@DisplayName("Test getAccounts method - it returns a page of AccountDTO and the next cursor")
+	void AccountQueryService_GetAccounts_ReturnsAccountPageDTO() {
+		// Arrange
+		when(accountRepository.findPage(0, null, null, Limit.of(3))).thenReturn(accounts);
+
+		// Act
+		AccountPageDTO page = accountQueryService.getAccounts(null, null, null, 2);
+
+		// Assert
+		assertEquals(2, page.accounts().size());
+		assertEquals("A000000001", page.accounts().get(0).accountNumber());
+		assertEquals(2, page.nextCursor());
+	}
+
+	@Test
+	@DisplayName("Test getAccounts method - it returns no cursor on the last page")
+	void AccountQueryService_GetAccounts_LastPage_ReturnsNullCursor() {
+		// Arrange
+		when(accountRepository.findPage(1, 2, AccountType.CHECKING, Limit.of(11)))
+				.thenReturn(List.of(accounts.get(2)));
+
+		// Act
+		AccountPageDTO page = accountQueryService.getAccounts(2, AccountType.CHECKING, 1, 10);
+
+		// Assert
+		assertEquals(1, page.accounts().size());
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	@DisplayName("Test streamAccounts method - it hands every account to the consumer")
+	void AccountQueryService_StreamAccounts_ConsumesEveryAccount() {
+		// Arrange
+		doAnswer(invocation -> {
+			Consumer<Account> consumer = invocation.getArgument(2);
+			accounts.forEach(consumer);
+			return null;
+		}).when(accountRepository).forEachAccount(eq(null), eq(null), any());
+		List<AccountDTO> streamed = new ArrayList<>();
+
+		// Act
+		accountQueryService.streamAccounts(null, null, streamed::add);
+
+		// Assert
+		assertEquals(3, streamed.size());
+		assertEquals("A000000003", streamed.get(2).accountNumber());
+	}
+}
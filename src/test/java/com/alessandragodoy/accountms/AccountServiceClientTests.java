@@ -0,0 +1,105 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.adapter.AccountServiceClient;
+import com.alessandragodoy.accountms.adapter.resilience.CustomerCallGuard;
+import com.alessandragodoy.accountms.configuration.CustomerClientProperties;
+import com.alessandragodoy.accountms.configuration.CustomerResilienceProperties;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the asynchronous customer lookup of the AccountServiceClient.
+ */
+class AccountServiceClientTests {
+	private HttpServer server;
+	private AccountServiceClient client;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/api/v1/customers", exchange -> {
+			String customerId = exchange.getRequestURI().getPath().substring("/api/v1/customers/".length());
+			int status = switch (customerId) {
+				case "1", "2" -> 200;
+				case "404" -> 404;
+				default -> 500;
+			};
+			byte[] body = ("2".equals(customerId) ? "false" : "true").getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(status, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		server.start();
+		CustomerClientProperties properties = new CustomerClientProperties(Duration.ofSeconds(1),
+				Duration.ofSeconds(1), 2);
+		CustomerCallGuard callGuard = new CustomerCallGuard(new CustomerResilienceProperties(20, 10, 50, 80,
+				Duration.ofSeconds(1), Duration.ofSeconds(10), 3, 20, Duration.ZERO), new SimpleMeterRegistry());
+		client = new AccountServiceClient(new RestTemplate(), HttpClient.newHttpClient(), properties, callGuard,
+				"http://localhost:" + server.getAddress().getPort() + "/api/v1/customers");
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("Test customerExistsAsync method - it completes with the answer of the customer service")
+	void AccountServiceClient_customerExistsAsync_ReturnsBody() {
+		// Act & Assert
+		assertTrue(client.customerExistsAsync(1).join());
+		assertFalse(client.customerExistsAsync(2).join());
+	}
+
+	@Test
+	@DisplayName("Test customerExistsAsync method - it completes with false when the customer is not found")
+	void AccountServiceClient_customerExistsAsync_NotFound_ReturnsFalse() {
+		// Act & Assert
+		assertFalse(client.customerExistsAsync(404).join());
+	}
+
+	@Test
+	@DisplayName("Test customerExistsAsync method - it fails with ExternalServiceException on a server error")
+	void AccountServiceClient_customerExistsAsync_ServerError_ThrowsException() {
+		// Act
+		CompletionException exception = assertThrows(CompletionException.class,
+				() -> client.customerExistsAsync(500).join());
+
+		// Assert
+		assertInstanceOf(ExternalServiceException.class, exception.getCause());
+	}
+
+	@Test
+	@DisplayName("Test customerExistsAsync method - it fails with ExternalServiceException when unreachable")
+	void AccountServiceClient_customerExistsAsync_Unreachable_ThrowsException() {
+		// Arrange
+		server.stop(0);
+
+		// Act
+		CompletionException exception = assertThrows(CompletionException.class,
+				() -> client.customerExistsAsync(1).join());
+
+		// Assert
+		assertInstanceOf(ExternalServiceException.class, exception.getCause());
+	}
+}
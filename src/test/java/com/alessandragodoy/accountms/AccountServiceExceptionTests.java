@@ -1,28 +1,40 @@
 package com.alessandragodoy.accountms;
 
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
 import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
 import com.alessandragodoy.accountms.exception.AccountNotFoundException;
-import com.alessandragodoy.accountms.exception.AccountValidationException;
 import com.alessandragodoy.accountms.exception.CustomerNotFoundException;
-import com.alessandragodoy.accountms.exception.InsufficientFundsException;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
 import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.AccountNumberFilter;
+import com.alessandragodoy.accountms.service.outbox.AccountEventOutbox;
 import com.alessandragodoy.accountms.service.impl.AccountServiceImpl;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
 import com.alessandragodoy.accountms.utility.AccountValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -36,19 +48,33 @@ class AccountServiceExceptionTests {
 	private AccountServiceImpl accountService;
 	@Mock
 	private AccountRepository accountRepository;
+	@Spy
+	private AccountBalanceCache balanceCache = new AccountBalanceCache(
+			new AccountCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+	@Mock
+	private AccountNumberFilter accountNumberFilter;
+	@Mock
+	private AccountEventOutbox accountEventOutbox;
+	@Mock
+	private TransactionTemplate transactionTemplate;
 	@Mock
 	private AccountValidation accountValidation;
+	@Mock
+	private AccountNumberGenerator accountNumberGenerator;
 
 	@BeforeEach
 	public void setUp() {
+		lenient().when(transactionTemplate.execute(any()))
+				.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		lenient().when(accountNumberFilter.mightContain(anyString())).thenReturn(true);
 		accounts.add(Account.builder()
-				.accountId(1).accountNumber("A000000001").balance(1000.0)
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS).customerId(1).build());
 		accounts.add(Account.builder()
-				.accountId(2).accountNumber("A000000002").balance(1000.0)
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS).customerId(2).build());
 		accounts.add(Account.builder()
-				.accountId(3).accountNumber("A000000003").balance(1000.0)
+				.accountId(3).accountNumber("A000000003").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.CHECKING).customerId(2).build());
 	}
 
@@ -72,75 +98,18 @@ class AccountServiceExceptionTests {
 	void CustomerService_createAccount_ReturnsExceptionNotFound() {
 		// Arrange
 		int customerId = 10;
-		CreateAccountDTO accountRequest = new CreateAccountDTO(1000.0, "SAVINGS", customerId);
+		CreateAccountDTO accountRequest = new CreateAccountDTO(Money.valueOf("1000.0"), "SAVINGS", customerId);
 		doNothing().when(accountValidation).validateAccountData(accountRequest);
-		doThrow(new CustomerNotFoundException("Customer not found for ID: " + customerId)).when(accountValidation)
-				.validateCustomerExists(customerId);
+		when(accountValidation.validateCustomerExistsAsync(customerId)).thenReturn(CompletableFuture.failedFuture(
+				new CustomerNotFoundException("Customer not found for ID: " + customerId)));
 
 		// Act & Assert
-		CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
-				() -> accountService.createAccount(accountRequest));
-		assertEquals("Customer not found for ID: " + customerId, exception.getMessage());
-
-	}
-
-	@Test
-	@DisplayName("Test deposit method - it returns AccountValidationException for invalid amount")
-	void CustomerService_deposit_ReturnsException() {
-		// Arrange
-		int accountId = 1;
-		Double invalidAmount = -100.0;
+		CompletionException exception = assertThrows(CompletionException.class,
+				() -> accountService.createAccount(accountRequest).join());
+		assertInstanceOf(CustomerNotFoundException.class, exception.getCause());
+		assertEquals("Customer not found for ID: " + customerId, exception.getCause().getMessage());
+		verify(accountRepository, never()).save(any());
 
-		// Act & Assert
-		AccountValidationException exception = assertThrows(AccountValidationException.class,
-				() -> accountService.deposit(accountId, invalidAmount));
-		assertEquals("Amount must be greater than zero.", exception.getMessage());
-	}
-
-	@Test
-	@DisplayName("Test deposit method - it returns AccountNotFoundException")
-	void CustomerService_deposit_ReturnsExceptionNotFound() {
-		// Arrange
-		int accountId = 10;
-		Double amount = 100.0;
-
-		when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
-		// Act & Assert
-		AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
-				() -> accountService.deposit(accountId, amount));
-		assertEquals("Deposit can not continue. Account not found for ID: " + accountId, exception.getMessage());
-	}
-
-	@Test
-	@DisplayName("Test withdraw method - it returns InsufficientFundsException for savings account")
-	void CustomerService_withdraw_ReturnsExceptionSavings() {
-		// Arrange
-		int accountId = 1;
-		Double amount = 2000.0;
-		Account existingAccount = accounts.get(0);
-
-		when(accountRepository.findById(accountId)).thenReturn(Optional.ofNullable(existingAccount));
-
-		// Act & Assert
-		InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
-				() -> accountService.withdraw(accountId, amount));
-		assertEquals("Insufficient funds for withdrawal.", exception.getMessage());
-	}
-
-	@Test
-	@DisplayName("Test withdraw method - it returns InsufficientFundsException for checking account")
-	void CustomerService_withdraw_ReturnsExceptionChecking() {
-		// Arrange
-		int accountId = 3;
-		Double amount = 2000.0;
-		Account existingAccount = accounts.get(2);
-
-		when(accountRepository.findById(accountId)).thenReturn(Optional.ofNullable(existingAccount));
-
-		// Act & Assert
-		InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
-				() -> accountService.withdraw(accountId, amount));
-		assertEquals("Insufficient funds for withdrawal. Account overdraft limit reached.", exception.getMessage());
 	}
 
 	@Test
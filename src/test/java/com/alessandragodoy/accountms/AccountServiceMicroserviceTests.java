@@ -1,18 +1,27 @@
 package com.alessandragodoy.accountms;
 
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
 import com.alessandragodoy.accountms.exception.AccountNotFoundException;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
 import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.AccountNumberFilter;
+import com.alessandragodoy.accountms.service.impl.AccountLookupServiceImpl;
 import com.alessandragodoy.accountms.service.impl.AccountServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,19 +34,29 @@ class AccountServiceMicroserviceTests {
 	public List<Account> accounts = new ArrayList<>();
 	@InjectMocks
 	private AccountServiceImpl accountService;
+	@InjectMocks
+	private AccountLookupServiceImpl accountLookupService;
 	@Mock
 	private AccountRepository accountRepository;
+	@Mock
+	private BalanceLedger balanceLedger;
+	@Spy
+	private AccountBalanceCache balanceCache = new AccountBalanceCache(
+			new AccountCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+	@Mock
+	private AccountNumberFilter accountNumberFilter;
 
 	@BeforeEach
 	public void setUp() {
+		lenient().when(accountNumberFilter.mightContain(anyString())).thenReturn(true);
 		accounts.add(Account.builder()
-				.accountId(1).accountNumber("A000000001").balance(1000.0)
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS).customerId(1).build());
 		accounts.add(Account.builder()
-				.accountId(2).accountNumber("A000000002").balance(1000.0)
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS).customerId(2).build());
 		accounts.add(Account.builder()
-				.accountId(3).accountNumber("A000000003").balance(1000.0)
+				.accountId(3).accountNumber("A000000003").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.CHECKING).customerId(2).build());
 	}
 
@@ -56,14 +75,14 @@ class AccountServiceMicroserviceTests {
 	}
 
 	@Test
-	@DisplayName("Test getAccountBalance method - it returns double")
-	void AccountService_getAccountBalance_ReturnsDouble() {
+	@DisplayName("Test getAccountBalance method - it returns the balance")
+	void AccountService_getAccountBalance_ReturnsBalance() {
 		// Arrange
 		Account account = accounts.get(0);
 		when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
 
 		// Act
-		Double response = accountService.getAccountBalance(account.getAccountNumber());
+		Money response = accountLookupService.getAccountBalance(account.getAccountNumber());
 
 		// Assert
 		assertEquals(account.getBalance(), response);
@@ -78,41 +97,72 @@ class AccountServiceMicroserviceTests {
 
 		// Act & Assert
 		AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
-				() -> accountService.getAccountBalance(account.getAccountNumber()));
+				() -> accountLookupService.getAccountBalance(account.getAccountNumber()));
 		assertEquals("Account " + account.getAccountNumber() + " not found, can not get balance.",
 				exception.getMessage());
 	}
 
+	@Test
+	@DisplayName("Test getAccountBalance method - it serves repeated reads from the cache")
+	void AccountService_getAccountBalance_CachesBalance() {
+		// Arrange
+		Account account = accounts.get(0);
+		when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
+
+		// Act
+		accountLookupService.getAccountBalance(account.getAccountNumber());
+		boolean exists = accountLookupService.accountExistsByAccountNumber(account.getAccountNumber());
+		Money response = accountLookupService.getAccountBalance(account.getAccountNumber());
+
+		// Assert
+		assertTrue(exists);
+		assertEquals(account.getBalance(), response);
+		verify(accountRepository, times(1)).findByAccountNumber(account.getAccountNumber());
+		assertEquals(2, balanceCache.stats().hitCount());
+	}
+
 	@Test
 	@DisplayName("Test accountExistsByAccountNumber method - it returns boolean")
 	void AccountService_accountExistsByAccountNumber_ReturnsBoolean() {
 		// Arrange
 		String accountNumber = "A000000001";
-		when(accountRepository.existsByAccountNumber(accountNumber)).thenReturn(true);
+		when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(accounts.get(0)));
 
 		// Act
-		boolean response = accountService.accountExistsByAccountNumber(accountNumber);
+		boolean response = accountLookupService.accountExistsByAccountNumber(accountNumber);
 
 		// Assert
 		assertTrue(response);
 	}
 
 	@Test
-	@DisplayName("Test updateBalanceByAccountNumber method - it returns boolean")
-	void AccountService_updateBalanceByAccountNumber_ReturnsBoolean() {
+	@DisplayName("Test accountExistsByAccountNumber method - it answers numbers ruled out by the filter without the database")
+	void AccountService_accountExistsByAccountNumber_FilteredNumber_SkipsRepository() {
 		// Arrange
-		String accountNumber = "A000000001";
-		Double amount = 500.0;
-		Account account = accounts.get(0);
-		when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
-		when(accountRepository.save(account)).thenReturn(account);
+		String accountNumber = "A999999999";
+		when(accountNumberFilter.mightContain(accountNumber)).thenReturn(false);
+
+		// Act
+		boolean response = accountLookupService.accountExistsByAccountNumber(accountNumber);
+
+		// Assert
+		assertFalse(response);
+		verifyNoInteractions(accountRepository);
+	}
+
+	@Test
+	@DisplayName("Test accountExistsByAccountNumber method - it records numbers the filter let through but do not exist")
+	void AccountService_accountExistsByAccountNumber_MissingNumber_RecordsFalsePositive() {
+		// Arrange
+		String accountNumber = "A999999999";
+		when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.empty());
 
 		// Act
-		accountService.updateBalanceByAccountNumber(accountNumber, amount);
+		boolean response = accountLookupService.accountExistsByAccountNumber(accountNumber);
 
 		// Assert
-		verify(accountRepository, times(1)).findByAccountNumber(accountNumber);
-		verify(accountRepository, times(1)).save(account);
+		assertFalse(response);
+		verify(accountNumberFilter, times(1)).recordFalsePositive();
 	}
 
 	@Test
@@ -124,7 +174,7 @@ class AccountServiceMicroserviceTests {
 
 		// Act & Assert
 		AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
-				() -> accountService.getAccountBalance(account.getAccountNumber()));
+				() -> accountLookupService.getAccountBalance(account.getAccountNumber()));
 		assertEquals("Account " + account.getAccountNumber() + " not found, can not get balance.",
 				exception.getMessage());
 	}
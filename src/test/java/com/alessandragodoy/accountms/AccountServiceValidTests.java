@@ -1,24 +1,35 @@
 package com.alessandragodoy.accountms;
 
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
 import com.alessandragodoy.accountms.controller.dto.AccountDTO;
 import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
 import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.cache.AccountNumberFilter;
+import com.alessandragodoy.accountms.service.outbox.AccountEventOutbox;
 import com.alessandragodoy.accountms.service.impl.AccountServiceImpl;
 import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
 import com.alessandragodoy.accountms.utility.AccountValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -35,6 +46,15 @@ class AccountServiceValidTests {
 	private AccountServiceImpl accountService;
 	@Mock
 	private AccountRepository accountRepository;
+	@Spy
+	private AccountBalanceCache balanceCache = new AccountBalanceCache(
+			new AccountCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+	@Mock
+	private AccountNumberFilter accountNumberFilter;
+	@Mock
+	private AccountEventOutbox accountEventOutbox;
+	@Mock
+	private TransactionTemplate transactionTemplate;
 	@Mock
 	private AccountValidation accountValidation;
 	@Mock
@@ -42,31 +62,20 @@ class AccountServiceValidTests {
 
 	@BeforeEach
 	public void setUp() {
+		lenient().when(transactionTemplate.execute(any()))
+				.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		lenient().when(accountNumberFilter.mightContain(anyString())).thenReturn(true);
 		accounts.add(Account.builder()
-				.accountId(1).accountNumber("A000000001").balance(1000.0)
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS).customerId(1).build());
 		accounts.add(Account.builder()
-				.accountId(2).accountNumber("A000000002").balance(1000.0)
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS).customerId(2).build());
 		accounts.add(Account.builder()
-				.accountId(3).accountNumber("A000000003").balance(1000.0)
+				.accountId(3).accountNumber("A000000003").balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.CHECKING).customerId(2).build());
 	}
 
-	@Test
-	@DisplayName("Test getAllAccounts method - it returns AccountDTO list")
-	void AccountService_GetAllAccounts_ReturnsAccountDTOList() {
-		// Arrange
-		when(accountRepository.findAll()).thenReturn(accounts);
-
-		// Act
-		List<AccountDTO> accountsDTO = accountService.getAllAccounts();
-
-		// Assert
-		assertEquals(3, accountsDTO.size());
-		assertEquals("A000000001", accountsDTO.get(0).accountNumber());
-	}
-
 	@Test
 	@DisplayName("Test getAccountById method - it returns an AccountDTO")
 	void AccountService_GetAccountById_ReturnsAccountDTO() {
@@ -86,72 +95,31 @@ class AccountServiceValidTests {
 	void CustomerService_createAccount_ReturnsAccountDTO() {
 		// Arrange
 		int customerId = 1;
-		CreateAccountDTO accountRequest = new CreateAccountDTO(1000.0, "SAVINGS", customerId);
+		CreateAccountDTO accountRequest = new CreateAccountDTO(Money.valueOf("1000.0"), "SAVINGS", customerId);
 
 		Account newAccount = Account.builder()
 				.accountId(4)
 				.accountNumber("A000000004")
-				.balance(1000.0)
+				.balance(Money.valueOf("1000.0"))
 				.accountType(AccountType.SAVINGS)
 				.customerId(customerId)
 				.build();
 
 		doNothing().when(accountValidation).validateAccountData(accountRequest);
-		doNothing().when(accountValidation).validateCustomerExists(customerId);
+		when(accountValidation.validateCustomerExistsAsync(customerId))
+				.thenReturn(CompletableFuture.completedFuture(null));
 		when(accountNumberGenerator.generate()).thenReturn("A00001");
 		when(accountRepository.save(any(Account.class))).thenReturn(newAccount);
 
 		// Act
-		AccountDTO result = accountService.createAccount(accountRequest);
+		AccountDTO result = accountService.createAccount(accountRequest).join();
 
 		// Assert
 		assertNotNull(result);
 		assertEquals(1, result.customerId());
-		assertEquals(1000.0, result.balance());
+		assertEquals(Money.valueOf("1000.0"), result.balance());
 		verify(accountRepository, times(1)).save(any(Account.class));
-	}
-
-	@Test
-	@DisplayName("Test deposit method - it returns AccountDTO")
-	void CustomerService_deposit_ReturnsAccountDTO() {
-		// Arrange
-		int accountId = 1;
-		Double amount = 100.0;
-		Account existingAccount = accounts.get(0);
-		when(accountRepository.findById(accountId)).thenReturn(Optional.ofNullable(existingAccount));
-		when(accountRepository.getBalanceByAccountId(accountId)).thenReturn(1100.0);
-
-		// Act
-		AccountDTO accountDTO = accountService.deposit(accountId, amount);
-
-		// Assert
-		assertNotNull(accountDTO);
-		assertEquals(1100.0, accountDTO.balance());
-		verify(accountRepository, times(1)).findById(accountId);
-		verify(accountRepository, times(1)).updateBalanceDeposit(accountId, amount);
-	}
-
-	@Test
-	@DisplayName("Test withdraw method - it returns AccountDTO")
-	void CustomerService_withdraw_ReturnsAccountDTO() {
-		// Arrange
-		int accountId = 1;
-		Double amount = 100.0;
-		Account existingAccount = accounts.get(0);
-		Double updatedBalance = existingAccount.getBalance() - amount;
-		when(accountRepository.findById(accountId)).thenReturn(Optional.of(existingAccount));
-		doNothing().when(accountRepository).updateBalanceWithdraw(accountId, amount);
-		when(accountRepository.getBalanceByAccountId(accountId)).thenReturn(updatedBalance);
-
-		// Act
-		AccountDTO accountDTO = accountService.withdraw(accountId, amount);
-
-		// Assert
-		assertNotNull(accountDTO);
-		assertEquals(updatedBalance, accountDTO.balance());
-		verify(accountRepository, times(1)).findById(accountId);
-		verify(accountRepository, times(1)).updateBalanceWithdraw(accountId, amount);
-		verify(accountRepository, times(1)).getBalanceByAccountId(accountId);
+		verify(accountEventOutbox, times(1)).accountCreated(any(Account.class));
 	}
 
 	@Test
@@ -170,6 +138,8 @@ class AccountServiceValidTests {
 		// Assert
 		assertNotNull(deletedAccount);
 		assertEquals(3, deletedAccount.accountId());
+		verify(accountEventOutbox, times(1)).accountDeleted(existingAccount);
+		verify(accountNumberFilter, times(1)).removeAfterCommit(existingAccount.getAccountNumber());
 	}
 
 }
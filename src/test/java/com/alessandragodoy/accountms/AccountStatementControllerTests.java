@@ -0,0 +1,69 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.AccountStatementController;
+import com.alessandragodoy.accountms.controller.dto.AccountStatementDTO;
+import com.alessandragodoy.accountms.controller.dto.StatementEntryDTO;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.AccountStatementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountStatementController.class)
+class AccountStatementControllerTests {
+
+	@MockBean
+	AccountStatementService accountStatementService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@DisplayName("Test getStatement - Writes the statement balances followed by its movements")
+	void getStatement_WritesBalancesAndEntries() throws Exception {
+		Instant from = Instant.parse("2026-09-01T00:00:00Z");
+		Instant to = Instant.parse("2026-10-01T00:00:00Z");
+		when(accountStatementService.getStatement(1, from, to)).thenReturn(new AccountStatementDTO(1, "A0001", from, to,
+				Money.valueOf("100.0"), Money.valueOf("130.0")));
+		doAnswer(invocation -> {
+			Consumer<StatementEntryDTO> consumer = invocation.getArgument(3);
+			consumer.accept(new StatementEntryDTO(7L, LedgerEntryType.DEPOSIT, Money.valueOf("50.0"),
+					Money.valueOf("150.0"), from.plusSeconds(60)));
+			consumer.accept(new StatementEntryDTO(9L, LedgerEntryType.WITHDRAWAL, Money.valueOf("-20.0"),
+					Money.valueOf("130.0"), from.plusSeconds(120)));
+			return null;
+		}).when(accountStatementService).streamStatement(eq(1), eq(from), eq(to), any());
+
+		MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/1/statement")
+						.param("from", from.toString())
+						.param("to", to.toString()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.statement.openingBalance").value(100.0))
+				.andExpect(jsonPath("$.statement.closingBalance").value(130.0))
+				.andExpect(jsonPath("$.entries.length()").value(2))
+				.andExpect(jsonPath("$.entries[1].type").value("WITHDRAWAL"))
+				.andExpect(jsonPath("$.entries[1].amount").value(-20.0));
+	}
+}
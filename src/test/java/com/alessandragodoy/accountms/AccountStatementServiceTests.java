@@ -0,0 +1,74 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountStatementDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.impl.AccountStatementServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AccountStatementService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountStatementServiceTests {
+	public List<Account> accounts = List.of(Account.builder()
+			.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
+			.accountType(AccountType.SAVINGS).customerId(1).build());
+	@InjectMocks
+	private AccountStatementServiceImpl accountStatementService;
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private BalanceLedger balanceLedger;
+
+	@Test
+	@DisplayName("Test getStatement method - it returns the balances at both ends of the range")
+	void AccountStatementService_getStatement_ReturnsOpeningAndClosingBalances() {
+		// Arrange
+		Instant from = Instant.parse("2026-09-01T00:00:00Z");
+		Instant to = Instant.parse("2026-10-01T00:00:00Z");
+		Account account = accounts.get(0);
+		when(accountRepository.findById(1)).thenReturn(Optional.of(account));
+		when(balanceLedger.balanceAt(1, from, account.getBalance())).thenReturn(Money.valueOf("700.0"));
+		when(balanceLedger.balanceAt(1, to, account.getBalance())).thenReturn(Money.valueOf("900.0"));
+
+		// Act
+		AccountStatementDTO statement = accountStatementService.getStatement(1, from, to);
+
+		// Assert
+		assertEquals("A000000001", statement.accountNumber());
+		assertEquals(Money.valueOf("700.0"), statement.openingBalance());
+		assertEquals(Money.valueOf("900.0"), statement.closingBalance());
+		assertEquals(to, statement.to());
+	}
+
+	@Test
+	@DisplayName("Test getStatement method - it rejects a range that does not start before it ends")
+	void AccountStatementService_getStatement_EmptyRange_ThrowsException() {
+		// Arrange
+		Instant from = Instant.parse("2026-09-01T00:00:00Z");
+
+		// Act & Assert
+		assertThrows(AccountValidationException.class, () -> accountStatementService.getStatement(1, from, from));
+		assertThrows(AccountValidationException.class,
+				() -> accountStatementService.getStatement(1, Instant.now().plusSeconds(60), null));
+		verifyNoInteractions(accountRepository, balanceLedger);
+	}
+}
@@ -0,0 +1,97 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.LedgerEntryRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.outbox.AccountEventOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the BalanceLedger.
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceLedgerTests {
+	private static final Instant INSTANT = Instant.parse("2026-09-01T00:00:00Z");
+
+	@InjectMocks
+	private BalanceLedger balanceLedger;
+	@Mock
+	private LedgerEntryRepository ledgerEntryRepository;
+	@Mock
+	private AccountEventOutbox accountEventOutbox;
+
+	@Test
+	@DisplayName("Test record method - it journals the change and announces it through the outbox")
+	void BalanceLedger_record_AnnouncesChange() {
+		// Arrange
+		Account account = Account.builder()
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1100.0"))
+				.accountType(AccountType.SAVINGS).customerId(1).build();
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<LedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+
+		// Act
+		balanceLedger.record(account, LedgerEntryType.DEPOSIT, Money.valueOf("100.0"));
+
+		// Assert
+		verify(ledgerEntryRepository).save(any(LedgerEntry.class));
+		verify(accountEventOutbox).balanceChanged(eq(Map.of(1, account)), entries.capture());
+		assertEquals(Money.valueOf("100.0"), entries.getValue().get(0).getAmount());
+		assertEquals(Money.valueOf("1100.0"), entries.getValue().get(0).getBalanceAfter());
+	}
+
+	@Test
+	@DisplayName("Test balanceAt method - it returns the balance left by the last earlier entry")
+	void BalanceLedger_balanceAt_EarlierEntry_ReturnsItsBalance() {
+		// Arrange
+		when(ledgerEntryRepository.findBalancesAfterEntriesBefore(1, INSTANT, Limit.of(1))).thenReturn(List.of(70000L));
+
+		// Act
+		Money balance = balanceLedger.balanceAt(1, INSTANT, Money.valueOf("1000.0"));
+
+		// Assert
+		assertEquals(Money.valueOf("700.0"), balance);
+		verify(ledgerEntryRepository, never()).findBalancesBeforeEntriesFrom(1, INSTANT, Limit.of(1));
+	}
+
+	@Test
+	@DisplayName("Test balanceAt method - it falls back to the next entry, then to the current balance")
+	void BalanceLedger_balanceAt_NoEarlierEntry_FallsBack() {
+		// Arrange
+		Instant later = INSTANT.plusSeconds(3600);
+		when(ledgerEntryRepository.findBalancesAfterEntriesBefore(1, INSTANT, Limit.of(1))).thenReturn(List.of());
+		when(ledgerEntryRepository.findBalancesBeforeEntriesFrom(1, INSTANT, Limit.of(1))).thenReturn(List.of(50000L));
+		when(ledgerEntryRepository.findBalancesAfterEntriesBefore(1, later, Limit.of(1))).thenReturn(List.of());
+		when(ledgerEntryRepository.findBalancesBeforeEntriesFrom(1, later, Limit.of(1))).thenReturn(List.of());
+
+		// Act
+		Money opening = balanceLedger.balanceAt(1, INSTANT, Money.valueOf("1000.0"));
+		Money current = balanceLedger.balanceAt(1, later, Money.valueOf("1000.0"));
+
+		// Assert
+		assertEquals(Money.valueOf("500.0"), opening);
+		assertEquals(Money.valueOf("1000.0"), current);
+	}
+}
@@ -0,0 +1,71 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.BalanceMinorUnitsMigration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the BalanceMinorUnitsMigration against an in-memory H2 database.
+ */
+class BalanceMinorUnitsMigrationTests {
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() +
+				";MODE=MySQL", "sa", "", true));
+	}
+
+	private void createLegacyAccount() {
+		jdbcTemplate.execute("CREATE TABLE account (account_id INT PRIMARY KEY, balance DOUBLE, balance_minor BIGINT)");
+		jdbcTemplate.update("INSERT INTO account (account_id, balance) VALUES (1, 12.34)");
+	}
+
+	@Test
+	@DisplayName("Test afterPropertiesSet method - it converts the legacy balances when enabled")
+	void BalanceMinorUnitsMigration_afterPropertiesSet_Enabled_ConvertsBalances() {
+		// Arrange
+		createLegacyAccount();
+
+		// Act
+		new BalanceMinorUnitsMigration(jdbcTemplate, null, true).afterPropertiesSet();
+
+		// Assert
+		assertEquals(1234L, jdbcTemplate.queryForObject("SELECT balance_minor FROM account WHERE account_id = 1",
+				Long.class));
+	}
+
+	@Test
+	@DisplayName("Test afterPropertiesSet method - it refuses to start while legacy balances are unconverted")
+	void BalanceMinorUnitsMigration_afterPropertiesSet_DisabledWithPendingRows_ThrowsException() {
+		// Arrange
+		createLegacyAccount();
+		BalanceMinorUnitsMigration migration = new BalanceMinorUnitsMigration(jdbcTemplate, null, false);
+
+		// Act & Assert
+		assertThrows(IllegalStateException.class, migration::afterPropertiesSet);
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account WHERE balance_minor IS NOT NULL",
+				Integer.class));
+	}
+
+	@Test
+	@DisplayName("Test afterPropertiesSet method - it ignores balance columns of other tables")
+	void BalanceMinorUnitsMigration_afterPropertiesSet_BalanceColumnOnOtherTable_DoesNothing() {
+		// Arrange
+		jdbcTemplate.execute("CREATE TABLE account (account_id INT PRIMARY KEY, balance_minor BIGINT)");
+		jdbcTemplate.execute("CREATE TABLE account_snapshot (account_id INT PRIMARY KEY, balance DOUBLE)");
+		jdbcTemplate.update("INSERT INTO account (account_id) VALUES (1)");
+
+		// Act & Assert
+		assertDoesNotThrow(() -> new BalanceMinorUnitsMigration(jdbcTemplate, null, false).afterPropertiesSet());
+	}
+}
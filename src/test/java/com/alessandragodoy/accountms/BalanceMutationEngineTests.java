@@ -0,0 +1,76 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountLockProperties;
+import com.alessandragodoy.accountms.configuration.BalanceRetryProperties;
+import com.alessandragodoy.accountms.exception.BalanceConflictException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.service.balance.AccountLockManager;
+import com.alessandragodoy.accountms.service.balance.BalanceMutationEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the retry behaviour of the BalanceMutationEngine.
+ */
+class BalanceMutationEngineTests {
+	private SimpleMeterRegistry meterRegistry;
+	private BalanceMutationEngine engine;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		BalanceRetryProperties retryProperties = new BalanceRetryProperties(3, Duration.ofNanos(1000),
+				Duration.ofNanos(4000), 2.0);
+		AccountLockManager lockManager = new AccountLockManager(
+				new AccountLockProperties(16, Duration.ofMillis(100)), meterRegistry);
+		engine = new BalanceMutationEngine(mock(PlatformTransactionManager.class), lockManager, retryProperties,
+				meterRegistry);
+	}
+
+	@Test
+	@DisplayName("Test execute method - it retries optimistic locking conflicts until the mutation commits")
+	void BalanceMutationEngine_execute_RetriesConflicts() {
+		// Arrange
+		AtomicInteger attempts = new AtomicInteger();
+
+		// Act
+		String result = engine.execute(1, () -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new ObjectOptimisticLockingFailureException(Account.class, 1);
+			}
+			return "committed";
+		});
+
+		// Assert
+		assertEquals("committed", result);
+		assertEquals(3, attempts.get());
+		assertEquals(2.0, meterRegistry.counter("account.balance.retries").count());
+		assertEquals(2.0, meterRegistry.counter("account.balance.conflicts").count());
+	}
+
+	@Test
+	@DisplayName("Test execute method - it returns BalanceConflictException when every attempt conflicts")
+	void BalanceMutationEngine_execute_ReturnsExceptionWhenExhausted() {
+		// Arrange
+		AtomicInteger attempts = new AtomicInteger();
+
+		// Act & Assert
+		assertThrows(BalanceConflictException.class, () -> engine.execute(1, () -> {
+			attempts.incrementAndGet();
+			throw new ObjectOptimisticLockingFailureException(Account.class, 1);
+		}));
+		assertEquals(3, attempts.get());
+		assertEquals(1.0, meterRegistry.counter("account.balance.retries.exhausted").count());
+	}
+}
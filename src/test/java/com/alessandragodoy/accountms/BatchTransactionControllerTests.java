@@ -0,0 +1,57 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.BatchTransactionController;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionItemDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionResultDTO;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.BatchTransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BatchTransactionController.class)
+class BatchTransactionControllerTests {
+
+	@MockBean
+	BatchTransactionService batchTransactionService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@DisplayName("Test applyBatch - Returns a BatchTransactionResultDTO with every item result")
+	void applyBatch_ReturnsBatchTransactionResultDTO() throws Exception {
+		BatchTransactionRequestDTO batchRequest = new BatchTransactionRequestDTO(
+				BatchTransactionRequestDTO.Mode.ALL_OR_NOTHING,
+				List.of(new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("100.0"))));
+		BatchTransactionResultDTO batchResult = new BatchTransactionResultDTO(
+				BatchTransactionRequestDTO.Mode.ALL_OR_NOTHING, true, 1, 0,
+				List.of(new BatchTransactionResultDTO.Item(0, 1, BatchTransactionResultDTO.Status.APPLIED, Money.valueOf("200.0"),
+						null)));
+
+		when(batchTransactionService.applyBatch(batchRequest)).thenReturn(batchResult);
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/accounts/transactions:batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(new ObjectMapper().writeValueAsString(batchRequest))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.applied").value(1))
+				.andExpect(jsonPath("$.results[0].status").value("APPLIED"))
+				.andDo(print());
+	}
+}
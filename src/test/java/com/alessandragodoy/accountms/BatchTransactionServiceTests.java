@@ -0,0 +1,137 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionItemDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.BatchTransactionResultDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountJdbcRepository.BalanceChange;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.impl.BatchTransactionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the BatchTransactionService.
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchTransactionServiceTests {
+	public List<Account> accounts = new ArrayList<>();
+	@InjectMocks
+	private BatchTransactionServiceImpl batchTransactionService;
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private BalanceLedger balanceLedger;
+	@Spy
+	private AccountBalanceCache balanceCache = new AccountBalanceCache(
+			new AccountCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+	@BeforeEach
+	public void setUp() {
+		accounts.add(Account.builder()
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.SAVINGS).customerId(1).build());
+		accounts.add(Account.builder()
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.SAVINGS).customerId(2).build());
+		accounts.add(Account.builder()
+				.accountId(3).accountNumber("A000000003").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.CHECKING).customerId(2).build());
+	}
+
+	@Test
+	@DisplayName("Test applyBatch method - it applies valid transactions and rejects the rest in best-effort mode")
+	void BatchTransactionService_applyBatch_ReturnsItemResults() {
+		// Arrange
+		BatchTransactionRequestDTO request = new BatchTransactionRequestDTO(BatchTransactionRequestDTO.Mode.BEST_EFFORT,
+				List.of(new BatchTransactionItemDTO(3, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("100.0")),
+						new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.WITHDRAW, Money.valueOf("5000.0"))));
+		when(accountRepository.applyBalanceChanges(List.of(new BalanceChange(1, -500000L),
+				new BalanceChange(3, 10000L)))).thenReturn(new int[]{0, 1});
+		when(accountRepository.findAllById(List.of(3, 1))).thenReturn(List.of(accounts.get(0), accounts.get(2)));
+
+		// Act
+		BatchTransactionResultDTO result = batchTransactionService.applyBatch(request);
+
+		// Assert
+		assertTrue(result.committed());
+		assertEquals(1, result.applied());
+		assertEquals(1, result.rejected());
+		assertEquals(BatchTransactionResultDTO.Status.APPLIED, result.results().get(0).status());
+		assertEquals(BatchTransactionResultDTO.Status.REJECTED, result.results().get(1).status());
+		assertEquals("Insufficient funds for withdrawal.", result.results().get(1).message());
+	}
+
+	@Test
+	@DisplayName("Test applyBatch method - it journals every applied change with the balance right after it")
+	void BatchTransactionService_applyBatch_RecordsLedgerEntries() {
+		// Arrange
+		BatchTransactionRequestDTO request = new BatchTransactionRequestDTO(BatchTransactionRequestDTO.Mode.BEST_EFFORT,
+				List.of(new BatchTransactionItemDTO(3, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("20.0")),
+						new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("100.0")),
+						new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.WITHDRAW, Money.valueOf("50.0"))));
+		when(accountRepository.applyBalanceChanges(List.of(new BalanceChange(1, 10000L), new BalanceChange(1, -5000L),
+				new BalanceChange(3, 2000L)))).thenReturn(new int[]{1, 1, 1});
+		when(accountRepository.findAllById(List.of(3, 1))).thenReturn(List.of(accounts.get(0), accounts.get(2)));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<LedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+
+		// Act
+		batchTransactionService.applyBatch(request);
+
+		// Assert
+		verify(balanceLedger).recordAll(anyCollection(), entries.capture());
+		assertEquals(List.of(Money.valueOf("100.0"), Money.valueOf("-50.0"), Money.valueOf("20.0")),
+				entries.getValue().stream().map(LedgerEntry::getAmount).toList());
+		assertEquals(List.of(Money.valueOf("1050.0"), Money.valueOf("1000.0"), Money.valueOf("1000.0")),
+				entries.getValue().stream().map(LedgerEntry::getBalanceAfter).toList());
+		assertEquals(LedgerEntryType.WITHDRAWAL, entries.getValue().get(1).getEntryType());
+	}
+
+	@Test
+	@DisplayName("Test applyBatch method - it reports the balance right after each applied transaction")
+	void BatchTransactionService_applyBatch_SameAccount_ReturnsBalanceAfterEachItem() {
+		// Arrange
+		BatchTransactionRequestDTO request = new BatchTransactionRequestDTO(BatchTransactionRequestDTO.Mode.BEST_EFFORT,
+				List.of(new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("100.0")),
+						new BatchTransactionItemDTO(3, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("20.0")),
+						new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.WITHDRAW, Money.valueOf("50.0")),
+						new BatchTransactionItemDTO(1, BatchTransactionItemDTO.Type.DEPOSIT, Money.valueOf("30.0"))));
+		when(accountRepository.applyBalanceChanges(List.of(new BalanceChange(1, 10000L), new BalanceChange(1, -5000L),
+				new BalanceChange(1, 3000L), new BalanceChange(3, 2000L)))).thenReturn(new int[]{1, 1, 1, 1});
+		when(accountRepository.findAllById(List.of(1, 3))).thenReturn(List.of(accounts.get(0), accounts.get(2)));
+
+		// Act
+		BatchTransactionResultDTO result = batchTransactionService.applyBatch(request);
+
+		// Assert
+		assertEquals(List.of(Money.valueOf("1020.0"), Money.valueOf("1000.0"), Money.valueOf("970.0"),
+						Money.valueOf("1000.0")),
+				result.results().stream().map(BatchTransactionResultDTO.Item::balance).toList());
+	}
+}
@@ -0,0 +1,89 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.adapter.impl.AccountRestAdapter;
+import com.alessandragodoy.accountms.adapter.impl.CachingAccountAdapter;
+import com.alessandragodoy.accountms.configuration.CustomerCacheProperties;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the CachingAccountAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingAccountAdapterTests {
+	@Mock
+	private AccountRestAdapter delegate;
+	private CachingAccountAdapter adapter;
+
+	@BeforeEach
+	public void setUp() {
+		adapter = new CachingAccountAdapter(delegate,
+				new CustomerCacheProperties(100, Duration.ofMinutes(5), Duration.ofMinutes(1)),
+				new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("Test customerExistsAsync method - it shares one in-flight lookup between concurrent callers")
+	void CachingAccountAdapter_customerExistsAsync_CoalescesConcurrentLookups() {
+		// Arrange
+		CompletableFuture<Boolean> pending = new CompletableFuture<>();
+		when(delegate.customerExistsAsync(1)).thenReturn(pending);
+
+		// Act
+		CompletableFuture<Boolean> first = adapter.customerExistsAsync(1);
+		CompletableFuture<Boolean> second = adapter.customerExistsAsync(1);
+		pending.complete(true);
+
+		// Assert
+		assertTrue(first.join());
+		assertTrue(second.join());
+		assertTrue(adapter.customerExists(1));
+		verify(delegate, times(1)).customerExistsAsync(1);
+		assertEquals(2, adapter.stats().hitCount());
+	}
+
+	@Test
+	@DisplayName("Test customerExists method - it caches customers that do not exist")
+	void CachingAccountAdapter_customerExists_CachesNegativeAnswers() {
+		// Arrange
+		when(delegate.customerExistsAsync(2)).thenReturn(CompletableFuture.completedFuture(false));
+
+		// Act
+		boolean first = adapter.customerExists(2);
+		boolean second = adapter.customerExists(2);
+
+		// Assert
+		assertFalse(first);
+		assertFalse(second);
+		verify(delegate, times(1)).customerExistsAsync(2);
+	}
+
+	@Test
+	@DisplayName("Test customerExists method - it does not cache failed lookups")
+	void CachingAccountAdapter_customerExists_DoesNotCacheFailures() {
+		// Arrange
+		when(delegate.customerExistsAsync(3))
+				.thenReturn(CompletableFuture.failedFuture(new ExternalServiceException("Customer service down.")))
+				.thenReturn(CompletableFuture.completedFuture(true));
+
+		// Act & Assert
+		assertThrows(ExternalServiceException.class, () -> adapter.customerExists(3));
+		assertTrue(adapter.customerExists(3));
+		verify(delegate, times(2)).customerExistsAsync(3);
+	}
+}
@@ -0,0 +1,110 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.adapter.resilience.CircuitBreaker;
+import com.alessandragodoy.accountms.configuration.CustomerResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the count-based CircuitBreaker.
+ */
+class CircuitBreakerTests {
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+	private final AtomicLong clock = new AtomicLong();
+	private CircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	public void setUp() {
+		circuitBreaker = new CircuitBreaker(new CustomerResilienceProperties(10, 4, 50, 80, Duration.ofSeconds(1),
+				Duration.ofSeconds(10), 2, 20, Duration.ZERO), clock::get);
+	}
+
+	@Test
+	@DisplayName("Test onResult method - it opens the circuit once the failure rate reaches the threshold")
+	void CircuitBreaker_onResult_FailureRate_OpensCircuit() {
+		// Act
+		record(FAST, false);
+		record(FAST, false);
+		record(FAST, true);
+		CircuitBreaker.State beforeThreshold = circuitBreaker.state();
+		record(FAST, true);
+
+		// Assert
+		assertEquals(CircuitBreaker.State.CLOSED, beforeThreshold);
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+	}
+
+	@Test
+	@DisplayName("Test onResult method - it opens the circuit once too many calls are slow")
+	void CircuitBreaker_onResult_SlowCalls_OpensCircuit() {
+		// Act
+		for (int i = 0; i < 4; i++) {
+			record(SLOW, false);
+		}
+
+		// Assert
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+	}
+
+	@Test
+	@DisplayName("Test tryAcquirePermission method - it lets a limited number of trial calls through after the open duration")
+	void CircuitBreaker_tryAcquirePermission_HalfOpen_ClosesOnSuccess() {
+		// Arrange
+		openCircuit();
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+		// Act
+		boolean first = circuitBreaker.tryAcquirePermission();
+		boolean second = circuitBreaker.tryAcquirePermission();
+		boolean third = circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onResult(FAST, false);
+		circuitBreaker.onResult(FAST, false);
+
+		// Assert
+		assertTrue(first);
+		assertTrue(second);
+		assertFalse(third);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+	}
+
+	@Test
+	@DisplayName("Test onResult method - it reopens the circuit when the trial calls keep failing")
+	void CircuitBreaker_onResult_HalfOpen_ReopensOnFailure() {
+		// Arrange
+		openCircuit();
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+		// Act
+		circuitBreaker.tryAcquirePermission();
+		circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onResult(FAST, true);
+		circuitBreaker.onResult(FAST, false);
+
+		// Assert
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+	}
+
+	private void openCircuit() {
+		for (int i = 0; i < 4; i++) {
+			record(FAST, true);
+		}
+	}
+
+	private void record(long durationNanos, boolean failed) {
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		circuitBreaker.onResult(durationNanos, failed);
+	}
+}
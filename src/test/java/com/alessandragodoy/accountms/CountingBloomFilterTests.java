@@ -0,0 +1,84 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.service.cache.CountingBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the CountingBloomFilter.
+ */
+class CountingBloomFilterTests {
+
+	@Test
+	@DisplayName("Test mightContain method - it never misses an added key")
+	void CountingBloomFilter_mightContain_NoFalseNegatives() {
+		// Arrange
+		CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+
+		// Act
+		IntStream.range(0, 10_000).forEach(i -> filter.add("A" + i));
+
+		// Assert
+		assertTrue(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("A" + i)));
+		assertEquals(10_000, filter.approximateSize());
+	}
+
+	@Test
+	@DisplayName("Test mightContain method - it keeps false positives near the target rate")
+	void CountingBloomFilter_mightContain_FalsePositiveRateNearTarget() {
+		// Arrange
+		CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.add("A" + i));
+
+		// Act
+		long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("B" + i)).count();
+
+		// Assert
+		assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+		assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+	}
+
+	@Test
+	@DisplayName("Test remove method - it forgets a removed key and keeps the others")
+	void CountingBloomFilter_remove_ForgetsKey() {
+		// Arrange
+		CountingBloomFilter filter = new CountingBloomFilter(100, 0.001);
+		filter.add("A0001");
+		filter.add("A0002");
+
+		// Act
+		filter.remove("A0001");
+
+		// Assert
+		assertFalse(filter.mightContain("A0001"));
+		assertTrue(filter.mightContain("A0002"));
+		assertEquals(1, filter.approximateSize());
+	}
+
+	@Test
+	@DisplayName("Test remove method - it keeps a key added more times than a counter can hold")
+	void CountingBloomFilter_remove_SaturatedCountersStay() {
+		// Arrange
+		CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+		IntStream.range(0, 20).forEach(i -> filter.add("A0001"));
+
+		// Act
+		IntStream.range(0, 19).forEach(i -> filter.remove("A0001"));
+
+		// Assert
+		assertTrue(filter.mightContain("A0001"));
+	}
+
+	@Test
+	@DisplayName("Test constructor - it rejects a false positive rate outside of (0, 1)")
+	void CountingBloomFilter_constructor_InvalidRate_ThrowsException() {
+		assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(100, 1.0));
+	}
+}
@@ -0,0 +1,52 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.CustomerAccountsController;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountTypeTotalDTO;
+import com.alessandragodoy.accountms.controller.dto.CustomerAccountsDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.CustomerAccountsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CustomerAccountsController.class)
+class CustomerAccountsControllerTests {
+
+	@MockBean
+	CustomerAccountsService customerAccountsService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	AccountDTO account = new AccountDTO(1, "A0001", Money.valueOf("100.0"), AccountType.SAVINGS, 1);
+
+	@Test
+	@DisplayName("Test getCustomerAccounts - Returns the accounts of a customer with the totals per type")
+	void getCustomerAccounts_ReturnsCustomerAccountsDTO() throws Exception {
+		when(customerAccountsService.getCustomerAccounts(1)).thenReturn(new CustomerAccountsDTO(1, List.of(account),
+				List.of(new AccountTypeTotalDTO(AccountType.SAVINGS, 1, Money.valueOf("100.0")))));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/customer/1/accounts")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accounts[0].accountNumber").value("A0001"))
+				.andExpect(jsonPath("$.totals[0].accountType").value("SAVINGS"))
+				.andExpect(jsonPath("$.totals[0].accounts").value(1))
+				.andExpect(jsonPath("$.totals[0].balance").value(100.0))
+				.andDo(print());
+	}
+}
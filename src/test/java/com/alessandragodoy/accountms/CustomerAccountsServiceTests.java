@@ -0,0 +1,77 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.AccountTypeTotalDTO;
+import com.alessandragodoy.accountms.controller.dto.CustomerAccountsDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.AccountRepository.CustomerAccount;
+import com.alessandragodoy.accountms.service.impl.CustomerAccountsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the CustomerAccountsService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomerAccountsServiceTests {
+	@InjectMocks
+	private CustomerAccountsServiceImpl customerAccountsService;
+	@Mock
+	private AccountRepository accountRepository;
+
+	private static CustomerAccount customerAccount(Integer accountId, AccountType accountType, long balanceMinor) {
+		return new CustomerAccount() {
+			@Override
+			public Integer getAccountId() {
+				return accountId;
+			}
+
+			@Override
+			public String getAccountNumber() {
+				return "A00000000" + accountId;
+			}
+
+			@Override
+			public AccountType getAccountType() {
+				return accountType;
+			}
+
+			@Override
+			public long getBalanceMinor() {
+				return balanceMinor;
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("Test getCustomerAccounts method - it returns the accounts of a customer and the totals per type")
+	void CustomerAccountsService_GetCustomerAccounts_ReturnsCustomerAccountsDTO() {
+		// Arrange
+		when(accountRepository.findCustomerAccounts(1)).thenReturn(List.of(
+				customerAccount(3, AccountType.CHECKING, -5_000),
+				customerAccount(1, AccountType.SAVINGS, 10_000),
+				customerAccount(2, AccountType.SAVINGS, 2_550)));
+
+		// Act
+		CustomerAccountsDTO result = customerAccountsService.getCustomerAccounts(1);
+
+		// Assert
+		assertEquals(3, result.accounts().size());
+		assertEquals(new AccountDTO(1, "A000000001", Money.valueOf("100.0"), AccountType.SAVINGS, 1),
+				result.accounts().get(1));
+		assertEquals(List.of(
+				new AccountTypeTotalDTO(AccountType.SAVINGS, 2, Money.valueOf("125.50")),
+				new AccountTypeTotalDTO(AccountType.CHECKING, 1, Money.valueOf("-50.0"))), result.totals());
+	}
+}
@@ -0,0 +1,92 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.adapter.resilience.CircuitBreaker;
+import com.alessandragodoy.accountms.adapter.resilience.CustomerCallGuard;
+import com.alessandragodoy.accountms.configuration.CustomerResilienceProperties;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the CustomerCallGuard.
+ */
+class CustomerCallGuardTests {
+	private SimpleMeterRegistry meterRegistry;
+	private CustomerCallGuard callGuard;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		callGuard = new CustomerCallGuard(new CustomerResilienceProperties(10, 4, 50, 80, Duration.ofSeconds(1),
+				Duration.ofMinutes(1), 2, 2, Duration.ZERO), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("Test callAsync method - it fails fast once every bulkhead slot is in use")
+	void CustomerCallGuard_callAsync_BulkheadFull_FailsFast() {
+		// Arrange
+		CompletableFuture<Boolean> first = new CompletableFuture<>();
+		CompletableFuture<Boolean> second = new CompletableFuture<>();
+		callGuard.callAsync(() -> first);
+		callGuard.callAsync(() -> second);
+
+		// Act
+		CompletableFuture<Boolean> rejected = callGuard.callAsync(() -> CompletableFuture.completedFuture(true));
+		first.complete(true);
+		CompletableFuture<Boolean> admitted = callGuard.callAsync(() -> CompletableFuture.completedFuture(true));
+
+		// Assert
+		CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+		assertInstanceOf(ExternalServiceException.class, exception.getCause());
+		assertTrue(admitted.join());
+		assertEquals(1.0, meterRegistry.get("customer.client.rejections").tag("reason", "bulkhead_full")
+				.counter().count());
+	}
+
+	@Test
+	@DisplayName("Test call method - it stops calling the customer service once the circuit opens")
+	void CustomerCallGuard_call_CircuitOpen_SkipsCall() {
+		// Arrange
+		AtomicInteger calls = new AtomicInteger();
+		for (int i = 0; i < 4; i++) {
+			assertThrows(ExternalServiceException.class, () -> callGuard.call(() -> {
+				calls.incrementAndGet();
+				throw new ExternalServiceException("Customer service down.");
+			}));
+		}
+
+		// Act
+		assertThrows(ExternalServiceException.class, () -> callGuard.call(calls::incrementAndGet));
+
+		// Assert
+		assertEquals(4, calls.get());
+		assertEquals(CircuitBreaker.State.OPEN, callGuard.circuitState());
+	}
+
+	@Test
+	@DisplayName("Test call method - it times the calls it lets through by outcome")
+	void CustomerCallGuard_call_RecordsLatencyByOutcome() {
+		// Act
+		callGuard.call(() -> true);
+		assertThrows(ExternalServiceException.class, () -> callGuard.call(() -> {
+			throw new ExternalServiceException("Customer service down.");
+		}));
+		callGuard.callAsync(() -> CompletableFuture.completedFuture(true)).join();
+
+		// Assert
+		assertEquals(2, meterRegistry.get("customer.client.requests").tag("outcome", "success").timer().count());
+		assertEquals(1, meterRegistry.get("customer.client.requests").tag("outcome", "error").timer().count());
+	}
+}
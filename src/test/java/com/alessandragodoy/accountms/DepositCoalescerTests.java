@@ -0,0 +1,118 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.DepositCoalescingProperties;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.balance.BalanceMutationEngine;
+import com.alessandragodoy.accountms.service.balance.DepositBatchWriter;
+import com.alessandragodoy.accountms.service.balance.DepositCoalescer;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the deposit coalescing pipeline.
+ */
+@ExtendWith(MockitoExtension.class)
+class DepositCoalescerTests {
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private BalanceMutationEngine balanceMutationEngine;
+	@Mock
+	private BalanceLedger balanceLedger;
+	@Mock
+	private AccountBalanceCache balanceCache;
+	private DepositCoalescer depositCoalescer;
+
+	@BeforeEach
+	public void setUp() {
+		lenient().when(balanceMutationEngine.execute(anyInt(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		depositCoalescer.stop();
+	}
+
+	private void startCoalescer(Duration window) {
+		DepositCoalescingProperties properties = new DepositCoalescingProperties(true, window, 64, 100,
+				Duration.ofMillis(50), 1);
+		depositCoalescer = new DepositCoalescer(new DepositBatchWriter(accountRepository, balanceMutationEngine,
+				balanceLedger, balanceCache), properties);
+		depositCoalescer.bindTo(new SimpleMeterRegistry());
+		depositCoalescer.start();
+	}
+
+	@Test
+	@DisplayName("Test submit method - it merges deposits into one update and acknowledges each balance")
+	void DepositCoalescer_submit_MergesDeposits() throws Exception {
+		// Arrange
+		startCoalescer(Duration.ofMillis(200));
+		Account account = Account.builder()
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1300.0"))
+				.accountType(AccountType.SAVINGS).customerId(1).build();
+		when(accountRepository.updateBalanceDeposit(1, 30000L)).thenReturn(1);
+		when(accountRepository.findById(1)).thenReturn(Optional.of(account));
+
+		// Act
+		CompletableFuture<AccountDTO> first = depositCoalescer.submit(1, Money.valueOf("100.0"));
+		CompletableFuture<AccountDTO> second = depositCoalescer.submit(1, Money.valueOf("150.0"));
+		CompletableFuture<AccountDTO> third = depositCoalescer.submit(1, Money.valueOf("50.0"));
+
+		// Assert
+		assertEquals(Money.valueOf("1100.0"), first.get(5, TimeUnit.SECONDS).balance());
+		assertEquals(Money.valueOf("1250.0"), second.get(5, TimeUnit.SECONDS).balance());
+		assertEquals(Money.valueOf("1300.0"), third.get(5, TimeUnit.SECONDS).balance());
+		verify(accountRepository, times(1)).updateBalanceDeposit(1, 30000L);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<LedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+		verify(balanceLedger).recordAll(eq(List.of(account)), entries.capture());
+		assertEquals(List.of(Money.valueOf("1100.0"), Money.valueOf("1250.0"), Money.valueOf("1300.0")),
+				entries.getValue().stream().map(LedgerEntry::getBalanceAfter).toList());
+	}
+
+	@Test
+	@DisplayName("Test stop method - it writes pending deposits before returning")
+	void DepositCoalescer_stop_FlushesPendingDeposits() {
+		// Arrange
+		startCoalescer(Duration.ofSeconds(10));
+		Account account = Account.builder()
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1100.0"))
+				.accountType(AccountType.CHECKING).customerId(2).build();
+		when(accountRepository.updateBalanceDeposit(2, 10000L)).thenReturn(1);
+		when(accountRepository.findById(2)).thenReturn(Optional.of(account));
+		CompletableFuture<AccountDTO> pending = depositCoalescer.submit(2, Money.valueOf("100.0"));
+
+		// Act
+		depositCoalescer.stop();
+
+		// Assert
+		assertTrue(pending.isDone());
+		assertEquals(Money.valueOf("1100.0"), pending.join().balance());
+	}
+}
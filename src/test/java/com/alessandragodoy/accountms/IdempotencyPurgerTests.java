@@ -0,0 +1,62 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.IdempotencyProperties;
+import com.alessandragodoy.accountms.repository.IdempotencyRecordRepository;
+import com.alessandragodoy.accountms.service.idempotency.IdempotencyPurger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the IdempotencyPurger.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyPurgerTests {
+	@Mock
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+	private IdempotencyPurger idempotencyPurger;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyPurger = new IdempotencyPurger(idempotencyRecordRepository,
+				new IdempotencyProperties(100, Duration.ofHours(24), Duration.ofMinutes(10)));
+	}
+
+	@Test
+	@DisplayName("Test purge method - it deletes the keys that expired before now")
+	void IdempotencyPurger_purge_DeletesExpiredKeys() {
+		// Arrange
+		Instant before = Instant.now();
+		when(idempotencyRecordRepository.deleteExpired(any())).thenReturn(2);
+
+		// Act
+		idempotencyPurger.purge();
+
+		// Assert
+		verify(idempotencyRecordRepository, times(1)).deleteExpired(argThat(now -> !now.isBefore(before)));
+	}
+
+	@Test
+	@DisplayName("Test purge method - it leaves a failed purge for the next run")
+	void IdempotencyPurger_purge_Failure_DoesNotThrow() {
+		// Arrange
+		when(idempotencyRecordRepository.deleteExpired(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+		// Act & Assert
+		assertDoesNotThrow(() -> idempotencyPurger.purge());
+	}
+}
@@ -0,0 +1,156 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.IdempotencyProperties;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.IdempotencyKeyReusedException;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.IdempotencyRecord;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.IdempotencyRecordRepository;
+import com.alessandragodoy.accountms.service.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the IdempotencyStore.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTests {
+	private static final String REQUEST = IdempotencyStore.describe("deposit", 1, Money.valueOf("100.0"));
+
+	@Mock
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+	private IdempotencyStore idempotencyStore;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyStore = new IdempotencyStore(idempotencyRecordRepository,
+				new IdempotencyProperties(100, Duration.ofHours(24), Duration.ofMinutes(10)), new SimpleMeterRegistry());
+	}
+
+	private static IdempotencyRecord record(Instant expiresAt) {
+		return IdempotencyRecord.builder()
+				.idempotencyKey("key-1").request(REQUEST)
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1100.0"))
+				.accountType(AccountType.SAVINGS).customerId(1)
+				.expiresAt(expiresAt).build();
+	}
+
+	@Test
+	@DisplayName("Test find method - it loads a stored result once and then answers from memory")
+	void IdempotencyStore_find_StoredKey_LooksUpOnce() {
+		// Arrange
+		when(idempotencyRecordRepository.findById("key-1"))
+				.thenReturn(Optional.of(record(Instant.now().plus(Duration.ofHours(1)))));
+
+		// Act
+		Optional<AccountDTO> first = idempotencyStore.find("key-1", REQUEST);
+		Optional<AccountDTO> second = idempotencyStore.find("key-1", REQUEST);
+
+		// Assert
+		assertEquals(new AccountDTO(1, "A000000001", Money.valueOf("1100.0"), AccountType.SAVINGS, 1), first.orElseThrow());
+		assertEquals(first, second);
+		verify(idempotencyRecordRepository, times(1)).findById("key-1");
+	}
+
+	@Test
+	@DisplayName("Test find method - it frees an expired key that was not purged yet")
+	void IdempotencyStore_find_ExpiredKey_ReturnsEmpty() {
+		// Arrange
+		when(idempotencyRecordRepository.findById("key-1"))
+				.thenReturn(Optional.of(record(Instant.now().minus(Duration.ofMinutes(1)))));
+
+		// Act
+		Optional<AccountDTO> stored = idempotencyStore.find("key-1", REQUEST);
+
+		// Assert
+		assertTrue(stored.isEmpty());
+		verify(idempotencyRecordRepository, times(1)).deleteIfExpired(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("Test find method - it rejects a key used for a different request")
+	void IdempotencyStore_find_DifferentRequest_ThrowsException() {
+		// Arrange
+		when(idempotencyRecordRepository.findById("key-1"))
+				.thenReturn(Optional.of(record(Instant.now().plus(Duration.ofHours(1)))));
+		String otherRequest = IdempotencyStore.describe("deposit", 1, Money.valueOf("200.0"));
+
+		// Act & Assert
+		assertThrows(IdempotencyKeyReusedException.class, () -> idempotencyStore.find("key-1", otherRequest));
+	}
+
+	@Test
+	@DisplayName("Test find method - it rejects a blank or too long key without a lookup")
+	void IdempotencyStore_find_InvalidKey_ThrowsException() {
+		// Act & Assert
+		assertThrows(AccountValidationException.class, () -> idempotencyStore.find(" ", REQUEST));
+		assertThrows(AccountValidationException.class, () -> idempotencyStore.find("k".repeat(101), REQUEST));
+		verify(idempotencyRecordRepository, never()).findById(anyString());
+	}
+
+	@Test
+	@DisplayName("Test execute method - it answers a retried key with the stored result without updating")
+	void IdempotencyStore_execute_RetriedKey_ReturnsStoredResult() {
+		// Arrange
+		when(idempotencyRecordRepository.findById("key-1"))
+				.thenReturn(Optional.of(record(Instant.now().plus(Duration.ofHours(1)))));
+
+		// Act
+		AccountDTO accountDTO = idempotencyStore.execute("key-1", REQUEST, () -> fail("The update ran again."));
+
+		// Assert
+		assertEquals(new AccountDTO(1, "A000000001", Money.valueOf("1100.0"), AccountType.SAVINGS, 1), accountDTO);
+	}
+
+	@Test
+	@DisplayName("Test execute method - it answers a concurrent retry with the result the first request committed")
+	void IdempotencyStore_execute_ConcurrentRetry_ReturnsCommittedResult() {
+		// Arrange
+		when(idempotencyRecordRepository.findById("key-1"))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(record(Instant.now().plus(Duration.ofHours(1)))));
+
+		// Act
+		AccountDTO accountDTO = idempotencyStore.execute("key-1", REQUEST, () -> {
+			throw new DuplicateKeyException("Duplicate entry 'key-1' for key 'PRIMARY'");
+		});
+
+		// Assert
+		assertEquals(new AccountDTO(1, "A000000001", Money.valueOf("1100.0"), AccountType.SAVINGS, 1), accountDTO);
+	}
+
+	@Test
+	@DisplayName("Test execute method - it rethrows the conflict when no result was committed under the key")
+	void IdempotencyStore_execute_ConflictWithoutResult_ThrowsException() {
+		// Arrange
+		when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty());
+
+		// Act & Assert
+		assertThrows(DuplicateKeyException.class, () -> idempotencyStore.execute("key-1", REQUEST, () -> {
+			throw new DuplicateKeyException("Duplicate entry 'key-1' for key 'PRIMARY'");
+		}));
+	}
+}
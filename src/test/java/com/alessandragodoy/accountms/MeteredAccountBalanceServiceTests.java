@@ -0,0 +1,70 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.impl.AccountBalanceServiceImpl;
+import com.alessandragodoy.accountms.service.impl.AccountOperationMeter;
+import com.alessandragodoy.accountms.service.impl.MeteredAccountBalanceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the MeteredAccountBalanceService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MeteredAccountBalanceServiceTests {
+	@Mock
+	private AccountBalanceServiceImpl delegate;
+	private SimpleMeterRegistry meterRegistry;
+	private MeteredAccountBalanceService accountBalanceService;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		accountBalanceService = new MeteredAccountBalanceService(delegate, new AccountOperationMeter(meterRegistry));
+	}
+
+	@Test
+	@DisplayName("Test deposit method - it times the operation as a success")
+	void MeteredAccountBalanceService_deposit_RecordsSuccess() {
+		// Arrange
+		AccountDTO account = new AccountDTO(1, "A0001", Money.valueOf("150.0"), AccountType.SAVINGS, 1);
+		when(delegate.deposit(1, Money.valueOf("50.0"), null)).thenReturn(account);
+
+		// Act
+		AccountDTO result = accountBalanceService.deposit(1, Money.valueOf("50.0"));
+
+		// Assert
+		assertEquals(account, result);
+		assertEquals(1, meterRegistry.get("account.operation").tag("operation", "deposit")
+				.tag("outcome", "success").timer().count());
+	}
+
+	@Test
+	@DisplayName("Test withdraw method - it counts rejected withdrawals by account type")
+	void MeteredAccountBalanceService_withdraw_InsufficientFunds_CountsByType() {
+		// Arrange
+		when(delegate.withdraw(1, Money.valueOf("500.0"), null)).thenThrow(
+				new InsufficientFundsException("Insufficient funds for withdrawal.", AccountType.CHECKING));
+
+		// Act
+		assertThrows(InsufficientFundsException.class, () -> accountBalanceService.withdraw(1, Money.valueOf("500.0")));
+
+		// Assert
+		assertEquals(1, meterRegistry.get("account.operation").tag("operation", "withdraw")
+				.tag("outcome", "insufficient_funds").timer().count());
+		assertEquals(1.0, meterRegistry.get("account.insufficient.funds").tag("type", "CHECKING")
+				.counter().count());
+	}
+}
@@ -0,0 +1,49 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.service.impl.AccountLookupServiceImpl;
+import com.alessandragodoy.accountms.service.impl.AccountOperationMeter;
+import com.alessandragodoy.accountms.service.impl.MeteredAccountLookupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the MeteredAccountLookupService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MeteredAccountLookupServiceTests {
+	@Mock
+	private AccountLookupServiceImpl delegate;
+	private SimpleMeterRegistry meterRegistry;
+	private MeteredAccountLookupService accountLookupService;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		accountLookupService = new MeteredAccountLookupService(delegate, new AccountOperationMeter(meterRegistry));
+	}
+
+	@Test
+	@DisplayName("Test getAccountBalance method - it counts lookups of missing accounts")
+	void MeteredAccountLookupService_getAccountBalance_NotFound_CountsMissingAccount() {
+		// Arrange
+		when(delegate.getAccountBalance("A0009")).thenThrow(
+				new AccountNotFoundException("Account A0009 not found, can not get balance."));
+
+		// Act
+		assertThrows(AccountNotFoundException.class, () -> accountLookupService.getAccountBalance("A0009"));
+
+		// Assert
+		assertEquals(1.0, meterRegistry.get("account.not.found").tag("operation", "getAccountBalance")
+				.counter().count());
+	}
+}
@@ -0,0 +1,63 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.exception.CustomerNotFoundException;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.impl.AccountOperationMeter;
+import com.alessandragodoy.accountms.service.impl.AccountServiceImpl;
+import com.alessandragodoy.accountms.service.impl.MeteredAccountService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the MeteredAccountService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MeteredAccountServiceTests {
+	@Mock
+	private AccountServiceImpl delegate;
+	private SimpleMeterRegistry meterRegistry;
+	private MeteredAccountService accountService;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		accountService = new MeteredAccountService(delegate, new AccountOperationMeter(meterRegistry));
+	}
+
+	@Test
+	@DisplayName("Test createAccount method - it records the outcome once the future completes")
+	void MeteredAccountService_createAccount_CustomerNotFound_RecordsOnCompletion() {
+		// Arrange
+		CreateAccountDTO createAccountDTO = new CreateAccountDTO(Money.valueOf("100.0"), "savings", 7);
+		CompletableFuture<AccountDTO> pending = new CompletableFuture<>();
+		when(delegate.createAccount(createAccountDTO)).thenReturn(pending);
+
+		// Act
+		CompletableFuture<AccountDTO> created = accountService.createAccount(createAccountDTO);
+		boolean recordedEarly = meterRegistry.find("account.operation").timer() != null;
+		pending.completeExceptionally(new CompletionException(new CustomerNotFoundException("Customer not found.")));
+
+		// Assert
+		assertInstanceOf(CustomerNotFoundException.class,
+				assertThrows(CompletionException.class, created::join).getCause());
+		assertFalse(recordedEarly);
+		assertEquals(1, meterRegistry.get("account.operation").tag("operation", "createAccount")
+				.tag("outcome", "customer_not_found").timer().count());
+	}
+}
@@ -0,0 +1,59 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.dto.TransactionRequestDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the Money value type.
+ */
+class MoneyTests {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("Test plus method - it adds cents exactly where doubles drift")
+	void Money_plus_IsExact() {
+		// Arrange
+		Money total = Money.ZERO;
+
+		// Act
+		for (int i = 0; i < 10; i++) {
+			total = total.plus(Money.valueOf("0.1"));
+		}
+
+		// Assert
+		assertEquals(Money.ofMinor(100), total);
+		assertEquals("1.00", total.toString());
+	}
+
+	@Test
+	@DisplayName("Test valueOf method - it rejects amounts with more than two decimal places")
+	void Money_valueOf_TooManyDecimals_ThrowsException() {
+		// Act & Assert
+		assertThrows(AccountValidationException.class, () -> Money.valueOf("10.005"));
+		assertThrows(AccountValidationException.class, () -> Money.valueOf("ten"));
+	}
+
+	@Test
+	@DisplayName("Test JSON mapping - it reads and writes amounts as decimal numbers")
+	void Money_json_RoundTripsAsDecimalNumber() throws Exception {
+		// Act
+		TransactionRequestDTO request = objectMapper.readValue("{\"amount\":19.99}", TransactionRequestDTO.class);
+		String json = objectMapper.writeValueAsString(request);
+
+		// Assert
+		assertEquals(Money.ofMinor(1999), request.amount());
+		assertEquals("{\"amount\":19.99}", json);
+		ValueInstantiationException exception = assertThrows(ValueInstantiationException.class,
+				() -> objectMapper.readValue("{\"amount\":19.999}", TransactionRequestDTO.class));
+		assertInstanceOf(AccountValidationException.class, exception.getCause());
+	}
+}
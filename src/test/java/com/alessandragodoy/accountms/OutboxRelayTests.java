@@ -0,0 +1,116 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.OutboxProperties;
+import com.alessandragodoy.accountms.model.AccountEventType;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.model.OutboxEvent;
+import com.alessandragodoy.accountms.repository.OutboxEventRepository;
+import com.alessandragodoy.accountms.service.outbox.AccountEvent;
+import com.alessandragodoy.accountms.service.outbox.AccountEventSink;
+import com.alessandragodoy.accountms.service.outbox.InMemoryAccountEventSink;
+import com.alessandragodoy.accountms.service.outbox.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the OutboxRelay and the in-memory sink.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTests {
+	private static final OutboxProperties PROPERTIES = new OutboxProperties("memory", 2, Duration.ofMillis(200),
+			Path.of("account-events.ndjson"), 3);
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+	private InMemoryAccountEventSink sink;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		sink = new InMemoryAccountEventSink(PROPERTIES);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	private OutboxRelay relay(AccountEventSink eventSink) {
+		return new OutboxRelay(outboxEventRepository, eventSink, PROPERTIES, mock(PlatformTransactionManager.class),
+				meterRegistry);
+	}
+
+	private static OutboxEvent event(long eventId, Integer accountId, long balance) {
+		return OutboxEvent.builder()
+				.eventId(eventId).eventType(AccountEventType.ACCOUNT_BALANCE_CHANGED)
+				.accountId(accountId).accountNumber("A00000000" + accountId)
+				.accountType(AccountType.SAVINGS).customerId(1)
+				.changeType(LedgerEntryType.DEPOSIT).amount(Money.ofMinor(100)).balance(Money.ofMinor(balance))
+				.build();
+	}
+
+	@Test
+	@DisplayName("Test relay method - it publishes full batches in outbox order until the outbox is empty")
+	void OutboxRelay_relay_PublishesInOrderAndDeletes() {
+		// Arrange
+		when(outboxEventRepository.findOldestForUpdate(Limit.of(2)))
+				.thenReturn(List.of(event(1, 1, 100), event(2, 2, 100)))
+				.thenReturn(List.of(event(3, 1, 200)));
+
+		// Act
+		int published = relay(sink).relay();
+
+		// Assert
+		assertEquals(3, published);
+		assertEquals(List.of(1L, 2L, 3L), sink.events().stream().map(AccountEvent::eventId).toList());
+		assertEquals(Money.ofMinor(200), sink.events().get(2).balance());
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+		assertEquals(3.0, meterRegistry.counter("account.outbox.published").count());
+	}
+
+	@Test
+	@DisplayName("Test relay method - it leaves a batch the sink rejected in the outbox")
+	void OutboxRelay_relay_SinkFails_KeepsEvents() {
+		// Arrange
+		AccountEventSink failingSink = mock(AccountEventSink.class);
+		doThrow(new IllegalStateException("Sink unavailable")).when(failingSink).publish(any());
+		when(outboxEventRepository.findOldestForUpdate(Limit.of(2))).thenReturn(List.of(event(1, 1, 100)));
+
+		// Act
+		int published = relay(failingSink).relay();
+
+		// Assert
+		assertEquals(0, published);
+		verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+		assertEquals(1.0, meterRegistry.counter("account.outbox.failures").count());
+	}
+
+	@Test
+	@DisplayName("Test publish method - the in-memory sink keeps only the most recent events")
+	void InMemoryAccountEventSink_publish_KeepsMostRecent() {
+		// Act
+		sink.publish(List.of(AccountEvent.from(event(1, 1, 100)), AccountEvent.from(event(2, 1, 200))));
+		sink.publish(List.of(AccountEvent.from(event(3, 1, 300)), AccountEvent.from(event(4, 1, 400))));
+
+		// Assert
+		assertEquals(List.of(2L, 3L, 4L), sink.events().stream().map(AccountEvent::eventId).toList());
+	}
+}
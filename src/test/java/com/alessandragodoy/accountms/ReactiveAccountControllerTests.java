@@ -0,0 +1,94 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.ReactiveAccountController;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.GlobalExceptionHandler;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.ReactiveAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the WebFlux ReactiveAccountController.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveAccountControllerTests {
+	@Mock
+	private ReactiveAccountService accountService;
+	private WebTestClient webTestClient;
+	private final List<AccountDTO> accounts = List.of(
+			new AccountDTO(1, "A0001", Money.valueOf("100.0"), AccountType.SAVINGS, 1),
+			new AccountDTO(2, "A0002", Money.valueOf("100.0"), AccountType.CHECKING, 2));
+
+	@BeforeEach
+	void setUp() {
+		webTestClient = WebTestClient.bindToController(new ReactiveAccountController(accountService))
+				.controllerAdvice(new GlobalExceptionHandler())
+				.build();
+	}
+
+	@Test
+	@DisplayName("Test getAccountBalance - Returns 404 when the account is not found")
+	void getAccountBalance_NotFound_ReturnsNotFound() {
+		when(accountService.getAccountBalance("A0009"))
+				.thenReturn(Mono.error(new AccountNotFoundException("Account A0009 not found, can not get balance.")));
+
+		webTestClient.get().uri("/api/v1/accounts/balance/A0009")
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	@DisplayName("Test streamAccounts - Writes one AccountDTO per line")
+	void streamAccounts_WritesNewlineDelimitedJson() {
+		when(accountService.streamAccounts(null, null)).thenReturn(Flux.fromIterable(accounts));
+
+		String body = webTestClient.get().uri("/api/v1/accounts/stream")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		String[] lines = body.strip().split("\n");
+		assertEquals(accounts.size(), lines.length);
+		assertTrue(lines[1].contains("\"accountNumber\":\"A0002\""));
+	}
+
+	@Test
+	@DisplayName("Test account changes - Are rejected without reaching the service")
+	void accountChanges_AreRejected() {
+		webTestClient.post().uri("/api/v1/accounts")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"balance\":50.0,\"accountType\":\"savings\",\"customerId\":3}")
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+		webTestClient.delete().uri("/api/v1/accounts/1")
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+		webTestClient.put().uri("/api/v1/accounts/deposit/1")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"amount\":100.0}")
+				.exchange()
+				.expectStatus().is4xxClientError();
+
+		verifyNoInteractions(accountService);
+	}
+}
@@ -0,0 +1,113 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.ReactiveAccountRepository;
+import com.alessandragodoy.accountms.service.impl.ReactiveAccountServiceImpl;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests of the ReactiveAccountService against an in-memory H2 database over R2DBC.
+ */
+class ReactiveAccountServiceTests {
+	private static final int SAVINGS_ID = 1;
+	private static final int CHECKING_ID = 2;
+
+	private ReactiveAccountServiceImpl accountService;
+
+	@BeforeEach
+	public void setUp() {
+		ConnectionFactory connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() +
+				"?options=DB_CLOSE_DELAY=-1;MODE=MySQL");
+		new ResourceDatabasePopulator(new ClassPathResource("db/h2/schema.sql")).populate(connectionFactory).block();
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+		accountService = new ReactiveAccountServiceImpl(new ReactiveAccountRepository(databaseClient));
+
+		insertAccount(databaseClient, SAVINGS_ID, "A000000000018", 100_000, AccountType.SAVINGS, 1);
+		insertAccount(databaseClient, CHECKING_ID, "A000000000026", 10_000, AccountType.CHECKING, 2);
+	}
+
+	private static void insertAccount(DatabaseClient databaseClient, int accountId, String accountNumber,
+									  long balanceMinor, AccountType accountType, int customerId) {
+		databaseClient.sql("INSERT INTO account (account_id, account_number, balance_minor, account_type, " +
+						"customer_id) VALUES (:accountId, :accountNumber, :balance, :accountType, :customerId)")
+				.bind("accountId", accountId)
+				.bind("accountNumber", accountNumber)
+				.bind("balance", balanceMinor)
+				.bind("accountType", accountType.name())
+				.bind("customerId", customerId)
+				.fetch()
+				.rowsUpdated()
+				.block();
+	}
+
+	@Test
+	@DisplayName("Test getAccountBalance method - it returns the balance of the account")
+	void ReactiveAccountService_getAccountBalance_ReturnsBalance() {
+		// Act & Assert
+		StepVerifier.create(accountService.getAccountBalance("A000000000018"))
+				.expectNext(Money.valueOf("1000.0"))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Test getAccountBalance method - it signals AccountNotFoundException when the account is not found")
+	void ReactiveAccountService_getAccountBalance_ReturnsException() {
+		// Act & Assert
+		StepVerifier.create(accountService.getAccountBalance("A00000000009"))
+				.expectErrorMessage("Account A00000000009 not found, can not get balance.")
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Test getAccounts method - it returns a page and the cursor of the next one")
+	void ReactiveAccountService_getAccounts_ReturnsPage() {
+		// Act & Assert
+		StepVerifier.create(accountService.getAccounts(null, null, null, 1))
+				.assertNext(page -> {
+					assertEquals(1, page.accounts().size());
+					assertEquals(SAVINGS_ID, page.nextCursor());
+				})
+				.verifyComplete();
+		StepVerifier.create(accountService.getAccounts(null, null, SAVINGS_ID, 1))
+				.assertNext(page -> {
+					assertEquals(CHECKING_ID, page.accounts().get(0).accountId());
+					assertNull(page.nextCursor());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Test getAccountById method - it signals AccountNotFoundException when the account does not exist")
+	void ReactiveAccountService_getAccountById_ReturnsException() {
+		// Act & Assert
+		StepVerifier.create(accountService.getAccountById(999))
+				.expectErrorMessage("The account with ID 999 does not exist.")
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Test accountExistsByAccountNumber method - it answers malformed numbers with false")
+	void ReactiveAccountService_accountExistsByAccountNumber_MalformedNumber_ReturnsFalse() {
+		// Act & Assert
+		StepVerifier.create(accountService.accountExistsByAccountNumber("A000000000026"))
+				.expectNext(true)
+				.verifyComplete();
+		StepVerifier.create(accountService.accountExistsByAccountNumber("A000000000027"))
+				.expectNext(false)
+				.verifyComplete();
+	}
+}
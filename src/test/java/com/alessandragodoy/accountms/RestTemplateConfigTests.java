@@ -0,0 +1,58 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.CustomerClientProperties;
+import com.alessandragodoy.accountms.configuration.RestTemplateConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the RestTemplateConfig.
+ */
+class RestTemplateConfigTests {
+	private final CustomerClientProperties properties = new CustomerClientProperties(Duration.ofSeconds(1),
+			Duration.ofSeconds(2), 2);
+
+	private static Thread threadOf(Executor executor) {
+		return CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+	}
+
+	@Test
+	@DisplayName("Test customerHttpClient method - it completes calls on virtual threads when they are enabled")
+	void RestTemplateConfig_customerHttpClient_VirtualThreadsEnabled_UsesVirtualThreads() {
+		// Arrange
+		MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+		// Act
+		HttpClient client = new RestTemplateConfig().customerHttpClient(properties, environment);
+		Thread thread = threadOf(client.executor().orElseThrow());
+
+		// Assert
+		assertTrue(thread.isVirtual());
+		assertTrue(thread.getName().startsWith("customer-client-"));
+	}
+
+	@Test
+	@DisplayName("Test customerHttpClient method - it completes calls on a platform pool by default")
+	void RestTemplateConfig_customerHttpClient_VirtualThreadsDisabled_UsesPlatformThreads() {
+		// Arrange
+		MockEnvironment environment = new MockEnvironment();
+
+		// Act
+		HttpClient client = new RestTemplateConfig().customerHttpClient(properties, environment);
+		Thread thread = threadOf(client.executor().orElseThrow());
+
+		// Assert
+		assertFalse(thread.isVirtual());
+		assertTrue(thread.isDaemon());
+		assertTrue(thread.getName().startsWith("customer-client-"));
+	}
+}
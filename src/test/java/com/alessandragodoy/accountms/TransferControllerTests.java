@@ -0,0 +1,52 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.controller.TransferController;
+import com.alessandragodoy.accountms.controller.dto.AccountDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferResultDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.service.TransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransferController.class)
+class TransferControllerTests {
+
+	@MockBean
+	TransferService transferService;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@DisplayName("Test transfer - Returns both accounts after the transfer")
+	void transfer_ReturnsTransferResultDTO() throws Exception {
+		AccountDTO source = new AccountDTO(1, "A0001", Money.valueOf("0.0"), AccountType.SAVINGS, 1);
+		AccountDTO target = new AccountDTO(2, "A0002", Money.valueOf("200.0"), AccountType.CHECKING, 2);
+		TransferRequestDTO transferRequest = new TransferRequestDTO("A0001", "A0002", Money.valueOf("100.0"));
+
+		when(transferService.transfer(transferRequest)).thenReturn(new TransferResultDTO(source, target));
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/accounts/transfers")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(new ObjectMapper().writeValueAsString(transferRequest))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.source.accountNumber").value("A0001"))
+				.andExpect(jsonPath("$.target.accountNumber").value("A0002"))
+				.andDo(print());
+	}
+}
@@ -0,0 +1,131 @@
+package com.alessandragodoy.accountms;
+
+import com.alessandragodoy.accountms.configuration.AccountCacheProperties;
+import com.alessandragodoy.accountms.controller.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.controller.dto.TransferResultDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.InsufficientFundsException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.LedgerEntry;
+import com.alessandragodoy.accountms.model.LedgerEntryType;
+import com.alessandragodoy.accountms.model.Money;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.service.balance.BalanceLedger;
+import com.alessandragodoy.accountms.service.balance.BalanceMutationEngine;
+import com.alessandragodoy.accountms.service.cache.AccountBalanceCache;
+import com.alessandragodoy.accountms.service.impl.TransferServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the TransferService.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferServiceTests {
+	public List<Account> accounts = new ArrayList<>();
+	@InjectMocks
+	private TransferServiceImpl transferService;
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private BalanceMutationEngine balanceMutationEngine;
+	@Mock
+	private BalanceLedger balanceLedger;
+	@Spy
+	private AccountBalanceCache balanceCache = new AccountBalanceCache(
+			new AccountCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+	@BeforeEach
+	public void setUp() {
+		lenient().when(balanceMutationEngine.execute(anyCollection(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		accounts.add(Account.builder()
+				.accountId(1).accountNumber("A000000001").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.SAVINGS).customerId(1).build());
+		accounts.add(Account.builder()
+				.accountId(2).accountNumber("A000000002").balance(Money.valueOf("1000.0"))
+				.accountType(AccountType.SAVINGS).customerId(2).build());
+	}
+
+	@Test
+	@DisplayName("Test transfer method - it updates both accounts in ascending ID order under both locks")
+	void TransferService_transfer_ReturnsBothAccounts() {
+		// Arrange
+		Money amount = Money.valueOf("250.0");
+		Account source = accounts.get(1);
+		Account target = accounts.get(0);
+		when(accountRepository.findAccountIdByAccountNumber("A000000002")).thenReturn(Optional.of(2));
+		when(accountRepository.findAccountIdByAccountNumber("A000000001")).thenReturn(Optional.of(1));
+		when(accountRepository.withdrawIfSufficientFunds(2, amount.minorUnits())).thenReturn(1);
+		when(accountRepository.updateBalanceDeposit(1, amount.minorUnits())).thenReturn(1);
+		when(accountRepository.findById(2)).thenReturn(Optional.of(source));
+		when(accountRepository.findById(1)).thenReturn(Optional.of(target));
+
+		// Act
+		TransferResultDTO result = transferService.transfer(new TransferRequestDTO("A000000002", "A000000001", amount));
+
+		// Assert
+		assertEquals(2, result.source().accountId());
+		assertEquals(1, result.target().accountId());
+		InOrder rowOrder = inOrder(accountRepository);
+		rowOrder.verify(accountRepository).updateBalanceDeposit(1, amount.minorUnits());
+		rowOrder.verify(accountRepository).withdrawIfSufficientFunds(2, amount.minorUnits());
+		verify(balanceMutationEngine, times(1)).execute(eq(List.of(2, 1)), any());
+		ArgumentCaptor<List<LedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+		verify(balanceLedger, times(1)).recordAll(eq(List.of(source, target)), entries.capture());
+		assertEquals(LedgerEntryType.TRANSFER_OUT, entries.getValue().get(0).getEntryType());
+		assertEquals(amount.negate(), entries.getValue().get(0).getAmount());
+		assertEquals(LedgerEntryType.TRANSFER_IN, entries.getValue().get(1).getEntryType());
+		verify(balanceCache, times(1)).putAfterCommit(source);
+		verify(balanceCache, times(1)).putAfterCommit(target);
+	}
+
+	@Test
+	@DisplayName("Test transfer method - it rejects a debit the overdraft rules do not allow before crediting")
+	void TransferService_transfer_InsufficientFunds_ThrowsException() {
+		// Arrange
+		Money amount = Money.valueOf("2000.0");
+		when(accountRepository.findAccountIdByAccountNumber("A000000001")).thenReturn(Optional.of(1));
+		when(accountRepository.findAccountIdByAccountNumber("A000000002")).thenReturn(Optional.of(2));
+		when(accountRepository.findById(1)).thenReturn(Optional.of(accounts.get(0)));
+
+		// Act & Assert
+		InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
+				() -> transferService.transfer(new TransferRequestDTO("A000000001", "A000000002", amount)));
+		assertEquals("Insufficient funds for withdrawal.", exception.getMessage());
+		verify(accountRepository, never()).updateBalanceDeposit(anyInt(), anyLong());
+		verifyNoInteractions(balanceLedger);
+	}
+
+	@Test
+	@DisplayName("Test transfer method - it rejects a transfer from an account to itself")
+	void TransferService_transfer_SameAccount_ThrowsException() {
+		// Arrange
+		when(accountRepository.findAccountIdByAccountNumber("A000000001")).thenReturn(Optional.of(1));
+
+		// Act & Assert
+		assertThrows(AccountValidationException.class, () -> transferService.transfer(
+				new TransferRequestDTO("A000000001", "A000000001", Money.valueOf("10.0"))));
+		verifyNoInteractions(balanceMutationEngine);
+	}
+}